@@ -3,12 +3,14 @@ package com.sk.growthnav.api.admin.controller;
 import com.sk.growthnav.api.admin.dto.AdminDashboardResponse;
 import com.sk.growthnav.api.admin.dto.LevelSkillsResponse;
 import com.sk.growthnav.api.admin.dto.MemberListResponse;
+import com.sk.growthnav.api.admin.dto.MemberPageResponse;
 import com.sk.growthnav.api.admin.dto.RoleChangeRequest;
 import com.sk.growthnav.api.admin.service.AdminDashboardService;
 import com.sk.growthnav.api.admin.service.AdminService;
 import com.sk.growthnav.api.member.dto.LevelChangeRequest;
 import com.sk.growthnav.api.member.entity.ExpertiseArea;
 import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.member.entity.MemberRole;
 import com.sk.growthnav.api.member.service.MemberService;
 import com.sk.growthnav.global.apiPayload.ApiResponse;
 import com.sk.growthnav.global.auth.AuthHelper;
@@ -185,6 +187,37 @@ public class AdminController {
         return ApiResponse.onSuccess(members);
     }
 
+    @Operation(
+            summary = "회원 목록 페이지 조회 (관리자 전용)",
+            description = """
+                    회원 목록을 ID 순으로 페이지 단위로 조회합니다. (키셋 페이지네이션)
+                    
+                    **사용 방법:**
+                    - 첫 페이지: afterId 없이 요청
+                    - 다음 페이지: 응답의 nextCursor를 afterId로 전달
+                    - limit: 기본 20, 최대 100
+                    
+                    **필터 (선택):**
+                    - role: USER, EXPERT, ADMIN
+                    - level: CL1 ~ CL5
+                    - expertiseArea: FINANCE, MANUFACTURE, AI, SEMICONDUCTOR
+                    """
+    )
+    @GetMapping("/members/page")
+    public ApiResponse<MemberPageResponse> getMemberPage(
+            @RequestParam Long adminId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) MemberRole role,
+            @RequestParam(required = false) MemberLevel level,
+            @RequestParam(required = false) ExpertiseArea expertiseArea) {
+
+        authHelper.validateAdminRole(adminId);
+
+        MemberPageResponse page = adminService.getMemberPage(afterId, limit, role, level, expertiseArea);
+        return ApiResponse.onSuccess(page);
+    }
+
     @Operation(
             summary = "회원 역할 변경 (관리자 전용)",
             description = """
@@ -290,6 +323,28 @@ public class AdminController {
         return ApiResponse.onSuccess(experts);
     }
 
+    @Operation(
+            summary = "전문가 목록 페이지 조회 (Admin 전용)",
+            description = """
+                    전문가 목록을 ID 순으로 페이지 단위로 조회합니다. (키셋 페이지네이션)
+                    
+                    - 다음 페이지: 응답의 nextCursor를 afterId로 전달
+                    - expertiseArea를 지정하면 해당 분야 전문가만 조회
+                    """
+    )
+    @GetMapping("/experts/page")
+    public ApiResponse<MemberPageResponse> getExpertPage(
+            @RequestParam Long adminId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) ExpertiseArea expertiseArea) {
+
+        authHelper.validateAdminRole(adminId);
+
+        MemberPageResponse page = adminService.getExpertPage(afterId, limit, expertiseArea);
+        return ApiResponse.onSuccess(page);
+    }
+
     @Operation(
             summary = "회원 등급 변경",
             description = """
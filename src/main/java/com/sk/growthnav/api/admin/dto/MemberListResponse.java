@@ -5,6 +5,7 @@ import com.sk.growthnav.api.member.entity.ExpertiseArea;
 import com.sk.growthnav.api.member.entity.Member;
 import com.sk.growthnav.api.member.entity.MemberLevel;
 import com.sk.growthnav.api.member.entity.MemberRole;
+import com.sk.growthnav.api.member.repository.MemberRepository.MemberSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -43,4 +44,23 @@ public class MemberListResponse {
                 .expertiseAreaText(expertiseText)
                 .build();
     }
-}
\ No newline at end of file
+
+    public static MemberListResponse from(MemberSummary summary) {
+        String expertiseText = null;
+        if (Boolean.TRUE.equals(summary.getIsExpert()) && summary.getExpertiseArea() != null) {
+            expertiseText = summary.getExpertiseArea().getDescription();
+        }
+
+        return MemberListResponse.builder()
+                .memberId(summary.getId())
+                .name(summary.getName())
+                .email(summary.getEmail())
+                .role(summary.getRole())
+                .isExpert(summary.getIsExpert())
+                .level(summary.getLevel())
+                .joinDate(summary.getCreatedAt() != null ? summary.getCreatedAt().toLocalDate().toString() : null)
+                .expertiseArea(summary.getExpertiseArea())
+                .expertiseAreaText(expertiseText)
+                .build();
+    }
+}
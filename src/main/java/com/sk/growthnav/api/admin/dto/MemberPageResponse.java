@@ -0,0 +1,22 @@
+package com.sk.growthnav.api.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 관리자 회원 목록 키셋 페이지 응답
+ * 다음 페이지는 nextCursor를 afterId로 전달하여 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberPageResponse {
+    private List<MemberListResponse> members;
+    private Long nextCursor;    // 마지막 회원 ID (다음 페이지 없으면 null)
+    private boolean hasNext;
+}
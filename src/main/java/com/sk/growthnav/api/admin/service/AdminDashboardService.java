@@ -10,10 +10,9 @@ import com.sk.growthnav.api.conversation.repository.ConversationRepository;
 import com.sk.growthnav.api.member.entity.Member;
 import com.sk.growthnav.api.member.entity.MemberLevel;
 import com.sk.growthnav.api.member.repository.MemberRepository;
-import com.sk.growthnav.api.project.entity.Project;
-import com.sk.growthnav.api.project.repository.ProjectRepository;
-import com.sk.growthnav.api.skill.entity.Skill;
 import com.sk.growthnav.api.skill.repository.SkillRepository;
+import com.sk.growthnav.api.skill.service.SkillDictionary;
+import com.sk.growthnav.global.document.SenderType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +21,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,8 +30,8 @@ public class AdminDashboardService {
 
     private final MemberRepository memberRepository;
     private final ConversationRepository conversationRepository;
-    private final ProjectRepository projectRepository;
     private final SkillRepository skillRepository;
+    private final SkillDictionary skillDictionary;
 
     /**
      * 관리자 대시보드 데이터 조회
@@ -99,15 +99,16 @@ public class AdminDashboardService {
         } catch (Exception e) {
             log.warn("MongoDB aggregation 실패, 대안 방법 사용: {}", e.getMessage());
 
-            // 대안: 일반 쿼리 + Java Stream 처리
-            List<ConversationDocument> todayConversations =
-                    conversationRepository.findConversationsUpdatedBetween(startOfDay, endOfDay);
-
-            long uniqueUsers = todayConversations.stream()
-                    .map(ConversationDocument::getMemberId)
-                    .distinct()
-                    .count();
+            // 대안: memberId만 커서로 스트리밍하여 고유 사용자 집계 (전체 문서를 메모리에 올리지 않음)
+            Set<Long> uniqueMemberIds = new HashSet<>();
+            try (Stream<ConversationDocument> conversations =
+                         conversationRepository.streamMemberIdsUpdatedBetween(startOfDay, endOfDay)) {
+                conversations.map(ConversationDocument::getMemberId)
+                        .filter(Objects::nonNull)
+                        .forEach(uniqueMemberIds::add);
+            }
 
+            long uniqueUsers = uniqueMemberIds.size();
             log.debug("오늘 대화한 고유 사용자 수 (대안 방법): {}", uniqueUsers);
             return uniqueUsers;
         }
@@ -143,39 +144,36 @@ public class AdminDashboardService {
         } catch (Exception e) {
             log.warn("MongoDB aggregation 실패, 대안 방법 사용: {}", e.getMessage());
 
-            // 대안: 모든 대화를 불러와서 Java에서 처리
+            // 대안: 필요한 필드만 스트리밍하여 Java에서 처리
             return getCategoryStatisticsAlternative();
         }
     }
 
     /**
      * 카테고리 통계 대안 방법 (Java 처리)
+     * 발신자/카테고리 필드만 커서로 스트리밍하여 카운터만 유지 (메모리 사용량 고정)
      */
     private CategoryStatistics getCategoryStatisticsAlternative() {
-        List<ConversationDocument> allConversations = conversationRepository.findAll();
-
-        long careerQuestions = 0;
-        long skillQuestions = 0;
-        long projectQuestions = 0;
-        long otherQuestions = 0;
-
-        for (ConversationDocument conversation : allConversations) {
-            for (ConversationDocument.MessageDocument message : conversation.getMessages()) {
-                if (message.getSenderType() == com.sk.growthnav.global.document.SenderType.USER) {
-                    QuestionCategory category = message.getCategory();
-                    if (category != null) {
-                        switch (category) {
-                            case CAREER -> careerQuestions++;
-                            case SKILL -> skillQuestions++;
-                            case PROJECT -> projectQuestions++;
-                            case OTHER -> otherQuestions++;
-                        }
+        long[] counts = new long[QuestionCategory.values().length];
+
+        try (Stream<ConversationDocument> conversations = conversationRepository.streamAllMessageCategories()) {
+            conversations.forEach(conversation -> {
+                if (conversation.getMessages() == null) {
+                    return;
+                }
+                for (ConversationDocument.MessageDocument message : conversation.getMessages()) {
+                    if (message.getSenderType() == SenderType.USER && message.getCategory() != null) {
+                        counts[message.getCategory().ordinal()]++;
                     }
                 }
-            }
+            });
         }
 
-        return CategoryStatistics.of(careerQuestions, skillQuestions, projectQuestions, otherQuestions);
+        return CategoryStatistics.of(
+                counts[QuestionCategory.CAREER.ordinal()],
+                counts[QuestionCategory.SKILL.ordinal()],
+                counts[QuestionCategory.PROJECT.ordinal()],
+                counts[QuestionCategory.OTHER.ordinal()]);
     }
 
     /**
@@ -257,68 +255,41 @@ public class AdminDashboardService {
     public LevelSkillsResponse getLevelSkills(MemberLevel level) {
         log.info("등급별 기술스택 조회 시작: level={}", level);
 
-        // 1. 해당 등급의 모든 회원 조회
-        List<Member> membersOfLevel = memberRepository.findByLevel(level);
-        log.debug("등급 {} 회원 수: {}", level, membersOfLevel.size());
+        // 1. 해당 등급 회원 수
+        int memberCount = memberRepository.countByLevel(level).intValue();
+        log.debug("등급 {} 회원 수: {}", level, memberCount);
 
-        if (membersOfLevel.isEmpty()) {
+        if (memberCount == 0) {
             log.info("등급 {}에 회원이 없음", level);
             return LevelSkillsResponse.of(level, 0, List.of());
         }
 
-        // 2. 해당 회원들의 모든 프로젝트 조회
-        List<Long> memberIds = membersOfLevel.stream()
-                .map(Member::getId)
-                .collect(Collectors.toList());
-
-        List<Project> projects = getProjectsByMemberIds(memberIds);
-        log.debug("등급 {} 프로젝트 수: {}", level, projects.size());
-
-        if (projects.isEmpty()) {
-            log.info("등급 {}에 프로젝트가 없음", level);
-            return LevelSkillsResponse.of(level, membersOfLevel.size(), List.of());
+        // 2. 해당 등급 회원들의 프로젝트 스킬을 한 번에 조회하여 표준 스킬 ID 기준으로 통계 계산
+        List<SkillRepository.SkillUsageView> usages = skillRepository.findUsageByMemberLevel(level);
+        if (usages.isEmpty()) {
+            log.info("등급 {}에 프로젝트 스킬이 없음", level);
+            return LevelSkillsResponse.of(level, memberCount, List.of());
         }
 
-        // 3. 프로젝트들의 모든 스킬 조회 및 통계 계산
-        List<LevelSkillsResponse.SkillStatistic> skillStatistics = calculateSkillStatistics(projects, membersOfLevel.size());
+        List<LevelSkillsResponse.SkillStatistic> skillStatistics = calculateSkillStatistics(usages, memberCount);
 
         log.info("등급별 기술스택 조회 완료: level={}, memberCount={}, skillCount={}",
-                level, membersOfLevel.size(), skillStatistics.size());
+                level, memberCount, skillStatistics.size());
 
-        return LevelSkillsResponse.of(level, membersOfLevel.size(), skillStatistics);
-    }
-
-    /**
-     * 회원 ID 목록으로 프로젝트 조회
-     */
-    private List<Project> getProjectsByMemberIds(List<Long> memberIds) {
-        List<Project> allProjects = new ArrayList<>();
-
-        // 각 회원별로 프로젝트 조회 (배치 처리 최적화 가능)
-        for (Long memberId : memberIds) {
-            List<Project> memberProjects = projectRepository.findByMemberId(memberId);
-            allProjects.addAll(memberProjects);
-        }
-
-        return allProjects;
+        return LevelSkillsResponse.of(level, memberCount, skillStatistics);
     }
 
     /**
      * 스킬 통계 계산 (전체 스킬 대비 비율)
+     * "Java", "java", "JAVA "처럼 표기만 다른 스킬은 같은 표준 스킬 ID로 합산된다.
      */
-    private List<LevelSkillsResponse.SkillStatistic> calculateSkillStatistics(List<Project> projects, int totalMembers) {
-        // 1. 모든 프로젝트의 스킬 조회
-        Map<String, SkillData> skillDataMap = new HashMap<>();
-
-        for (Project project : projects) {
-            List<Skill> projectSkills = skillRepository.findAllByProjectId(project.getId());
-
-            for (Skill skill : projectSkills) {
-                String skillName = skill.getName();
-
-                skillDataMap.computeIfAbsent(skillName, k -> new SkillData())
-                        .addProject(project.getMember().getId(), project.getId());
-            }
+    private List<LevelSkillsResponse.SkillStatistic> calculateSkillStatistics(
+            List<SkillRepository.SkillUsageView> usages, int totalMembers) {
+        // 1. 표준 스킬 ID별 사용 회원/프로젝트 집계
+        Map<Integer, SkillData> skillDataMap = new HashMap<>();
+        for (SkillRepository.SkillUsageView usage : usages) {
+            skillDataMap.computeIfAbsent(usage.getCatalogId(), k -> new SkillData())
+                    .addProject(usage.getMemberId(), usage.getProjectId());
         }
 
         // 🔥 전체 스킬 종류 개수 계산
@@ -329,12 +300,12 @@ public class AdminDashboardService {
         // 2. 통계 계산 및 정렬
         return skillDataMap.entrySet().stream()
                 .map(entry -> {
-                    String skillName = entry.getKey();
+                    String skillName = skillDictionary.nameOf(entry.getKey());
                     SkillData data = entry.getValue();
 
                     // 🔥 전체 스킬 대비 비율로 계산 변경
                     return LevelSkillsResponse.SkillStatistic.ofWithSkillRatio(
-                            skillName,
+                            skillName != null ? skillName : "#" + entry.getKey(),
                             data.getUserCount(),
                             data.getProjectCount(),
                             totalMembers,
@@ -1,15 +1,21 @@
 package com.sk.growthnav.api.admin.service;
 
 import com.sk.growthnav.api.admin.dto.MemberListResponse;
+import com.sk.growthnav.api.admin.dto.MemberPageResponse;
 import com.sk.growthnav.api.admin.dto.RoleChangeRequest;
 import com.sk.growthnav.api.member.entity.ExpertiseArea;
 import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.member.entity.MemberLevel;
 import com.sk.growthnav.api.member.entity.MemberRole;
 import com.sk.growthnav.api.member.repository.MemberRepository;
+import com.sk.growthnav.api.member.repository.MemberRepository.MemberSummary;
 import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.auth.MemberAuthCache;
 import com.sk.growthnav.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +28,11 @@ import java.util.List;
 @Slf4j
 public class AdminService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
+    private final MemberAuthCache memberAuthCache;
 
     public List<MemberListResponse> getAllMembers() {
         List<Member> members = memberRepository.findAll();
@@ -32,6 +42,83 @@ public class AdminService {
                 .toList();
     }
 
+    /**
+     * 회원 목록 키셋 페이지 조회
+     * 필터(role, level, area)는 null이면 적용하지 않음
+     */
+    public MemberPageResponse getMemberPage(Long afterId, Integer limit,
+                                            MemberRole role, MemberLevel level, ExpertiseArea area) {
+        int size = normalizePageSize(limit);
+        long cursor = afterId != null ? afterId : 0L;
+        return toPage(findMemberRows(cursor, role, level, area, fetchSize(size)), size);
+    }
+
+    /**
+     * 전문가 목록 키셋 페이지 조회 (area가 null이면 전체 전문가)
+     */
+    public MemberPageResponse getExpertPage(Long afterId, Integer limit, ExpertiseArea area) {
+        int size = normalizePageSize(limit);
+        long cursor = afterId != null ? afterId : 0L;
+        Pageable pageable = fetchSize(size);
+        List<MemberSummary> rows = area == null
+                ? memberRepository.findByIsExpertTrueAndIdGreaterThanOrderByIdAsc(cursor, pageable)
+                : memberRepository.findByIsExpertTrueAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(area, cursor, pageable);
+        return toPage(rows, size);
+    }
+
+    /**
+     * 지정된 필터 조합에 맞는 쿼리로 조회 (null 필터를 쿼리 조건에 넣지 않아 인덱스를 그대로 사용)
+     */
+    private List<MemberSummary> findMemberRows(long cursor, MemberRole role, MemberLevel level, ExpertiseArea area,
+                                               Pageable pageable) {
+        if (role != null && level != null && area != null) {
+            return memberRepository.findByRoleAndLevelAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(
+                    role, level, area, cursor, pageable);
+        }
+        if (role != null && level != null) {
+            return memberRepository.findByRoleAndLevelAndIdGreaterThanOrderByIdAsc(role, level, cursor, pageable);
+        }
+        if (role != null && area != null) {
+            return memberRepository.findByRoleAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(role, area, cursor, pageable);
+        }
+        if (level != null && area != null) {
+            return memberRepository.findByLevelAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(level, area, cursor, pageable);
+        }
+        if (role != null) {
+            return memberRepository.findByRoleAndIdGreaterThanOrderByIdAsc(role, cursor, pageable);
+        }
+        if (level != null) {
+            return memberRepository.findByLevelAndIdGreaterThanOrderByIdAsc(level, cursor, pageable);
+        }
+        if (area != null) {
+            return memberRepository.findByExpertiseAreaAndIdGreaterThanOrderByIdAsc(area, cursor, pageable);
+        }
+        return memberRepository.findByIdGreaterThanOrderByIdAsc(cursor, pageable);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+    private static Pageable fetchSize(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    private static MemberPageResponse toPage(List<MemberSummary> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<MemberSummary> page = hasNext ? rows.subList(0, size) : rows;
+
+        return MemberPageResponse.builder()
+                .members(page.stream().map(MemberListResponse::from).toList())
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private int normalizePageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
     @Transactional
     public String changeMemberRole(RoleChangeRequest request) {
         Member member = memberRepository.findById(request.getMemberId())
@@ -43,6 +130,7 @@ public class AdminService {
         // 역할 변경 (전문 분야 포함)
         member.changeRole(request.getNewRole(), request.getExpertiseArea());
         memberRepository.save(member);
+        memberAuthCache.evict(member.getId());
 
         // 로그 및 응답 메시지 생성
         String resultMessage = generateRoleChangeMessage(member, oldRole, oldArea, request);
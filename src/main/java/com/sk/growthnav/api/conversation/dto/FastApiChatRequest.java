@@ -23,7 +23,8 @@ public class FastApiChatRequest {
     List<Map<String, Object>> messages; // 기존 대화 메시지들
     Map<String, Object> userInfo;
 
-    public static FastApiChatRequest of(MemberInfo member, ConversationDocument conversation, List<ProjectInfoDTO> projects) {
+    public static FastApiChatRequest of(MemberInfo member, ConversationDocument conversation, List<ProjectInfoDTO> projects,
+                                        List<String> recommendedSkills) {
         // 1. 사용자 정보 구성
         Map<String, Object> userInfo = new HashMap<>();
         userInfo.put("name", member.getName());
@@ -46,6 +47,7 @@ public class FastApiChatRequest {
                 .toList();
 
         userInfo.put("projects", projectsFormatted);
+        userInfo.put("recommendedSkills", recommendedSkills);  // 다음 등급 회원들이 많이 쓰는 미보유 스킬
 
         // 3. 기존 메시지들을 FastAPI 형식으로 변환
         List<Map<String, Object>> messagesFormatted = new ArrayList<>();
@@ -3,11 +3,13 @@ package com.sk.growthnav.api.conversation.repository;
 import com.sk.growthnav.api.conversation.document.ConversationDocument;
 import com.sk.growthnav.api.conversation.entity.QuestionCategory;
 import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ConversationRepository extends MongoRepository<ConversationDocument, String> {
 
@@ -24,6 +26,22 @@ public interface ConversationRepository extends MongoRepository<ConversationDocu
     @Query("{'updatedAt': {$gte: ?0, $lt: ?1}}")
     List<ConversationDocument> findConversationsUpdatedBetween(LocalDateTime startOfDay, LocalDateTime endOfDay);
 
+    /**
+     * 특정 기간 동안 수정된 대화의 memberId만 커서로 스트리밍 (aggregation 실패 시 대안)
+     * 반환된 Stream은 반드시 close 해야 커서가 해제됨
+     */
+    @Query(value = "{'updatedAt': {$gte: ?0, $lt: ?1}}", fields = "{'memberId': 1}")
+    @Meta(cursorBatchSize = 500)
+    Stream<ConversationDocument> streamMemberIdsUpdatedBetween(LocalDateTime startOfDay, LocalDateTime endOfDay);
+
+    /**
+     * 전체 대화의 메시지 발신자/카테고리만 커서로 스트리밍 (aggregation 실패 시 대안)
+     * 메시지 본문은 가져오지 않으며, 반환된 Stream은 반드시 close 해야 커서가 해제됨
+     */
+    @Query(value = "{}", fields = "{'messages.senderType': 1, 'messages.category': 1}")
+    @Meta(cursorBatchSize = 500)
+    Stream<ConversationDocument> streamAllMessageCategories();
+
     /**
      * 특정 기간 동안 대화한 고유 사용자 ID 조회
      */
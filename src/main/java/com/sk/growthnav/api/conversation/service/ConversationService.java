@@ -11,9 +11,11 @@ import com.sk.growthnav.api.member.dto.MemberInfo;
 import com.sk.growthnav.api.member.service.MemberService;
 import com.sk.growthnav.api.project.dto.ProjectInfoDTO;
 import com.sk.growthnav.api.project.service.ProjectService;
+import com.sk.growthnav.api.skill.service.SkillRecommendationService;
 import com.sk.growthnav.global.document.SenderType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,8 +31,12 @@ public class ConversationService {
     private final MemberService memberService;
     private final ProjectService projectService;
     private final FastApiService fastApiService;
+    private final SkillRecommendationService skillRecommendationService;
     // private final com.sk.growthnav.api.external.service.FastApiService fastApiService;  // Issue #4에서 구현
 
+    @Value("${app.skill.recommendation.limit:5}")
+    private int recommendationLimit;
+
     /**
      * 새로운 대화 시작 또는 기존 대화 이어가기
      */
@@ -143,8 +149,12 @@ public class ConversationService {
             MemberInfo memberInfo = memberService.getMemberInfo(conversation.getMemberId());
             List<ProjectInfoDTO> projects = projectService.getProjectsByMember(conversation.getMemberId());
 
-            // 2. FastAPI 요청 데이터 구성
-            FastApiChatRequest fastApiRequest = FastApiChatRequest.of(memberInfo, conversation, projects);
+            // 2. FastAPI 요청 데이터 구성 (다음 등급 추천 스킬은 메모리 인덱스에서 계산)
+            List<String> recommendedSkills = skillRecommendationService.recommendForNextLevel(memberInfo.getLevel(),
+                    projects.stream().filter(project -> project.getSkills() != null)
+                            .flatMap(project -> project.getSkills().stream()).toList(),
+                    recommendationLimit);
+            FastApiChatRequest fastApiRequest = FastApiChatRequest.of(memberInfo, conversation, projects, recommendedSkills);
 
             // 3. FastAPI 채팅방 생성/로드 호출 (POST /ai/chatroom)
             String botResponse = fastApiService.createOrLoadChatroom(fastApiRequest);
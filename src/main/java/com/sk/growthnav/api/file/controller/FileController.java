@@ -1,14 +1,13 @@
 package com.sk.growthnav.api.file.controller;
 
+import com.sk.growthnav.api.file.service.FileServingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.nio.file.Path;
@@ -16,9 +15,12 @@ import java.nio.file.Paths;
 
 @RestController
 @RequestMapping("/files")  // /api/files에서 /files로 변경
+@RequiredArgsConstructor
 @Slf4j
 public class FileController {
 
+    private final FileServingService fileServingService;
+
     @Value("${app.storage.pvc.path:/app/storage}")
     private String pvcBasePath;
 
@@ -32,39 +34,36 @@ public class FileController {
             hidden = true  // 일반 사용자용 API가 아니므로 숨김
     )
     @GetMapping("/**")
-    public ResponseEntity<Resource> serveFile(
+    public void serveFile(
             @Parameter(description = "파일 경로", example = "thumbnails/news_1_abc123.jpg")
-            @RequestParam String path) {
+            @RequestParam String path,
+            HttpServletRequest request,
+            HttpServletResponse response) {
         try {
             // 1. 보안: path traversal 공격 방지
             if (path.contains("..") || path.contains("~") || path.startsWith("/")) {
                 log.warn("잘못된 파일 경로: {}", path);
-                return ResponseEntity.badRequest().build();
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                return;
             }
 
             // 2. 파일 경로 구성
-            Path filePath = Paths.get(pvcBasePath).resolve(path).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-
-            // 3. 파일 존재 여부 확인
-            if (!resource.exists() || !resource.isReadable()) {
-                log.warn("파일을 찾을 수 없음: {}", filePath);
-                return ResponseEntity.notFound().build();
+            Path basePath = Paths.get(pvcBasePath).normalize();
+            Path filePath = basePath.resolve(path).normalize();
+            if (!filePath.startsWith(basePath)) {
+                log.warn("잘못된 파일 경로: {}", path);
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                return;
             }
 
-            // 4. MIME 타입 결정
-            MediaType mediaType = determineMediaType(path);
-
-            // 5. 응답 헤더 설정
-            return ResponseEntity.ok()
-                    .contentType(mediaType)
-                    .header(HttpHeaders.CACHE_CONTROL, "max-age=86400") // 1일 캐시
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline") // 브라우저에서 직접 표시
-                    .body(resource);
+            // 3. 캐시 검증 / 범위 요청 처리 후 전송
+            fileServingService.serve(filePath, request, response);
 
         } catch (Exception e) {
             log.error("파일 서빙 중 오류: path={}, error={}", path, e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
+            if (!response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
         }
     }
 
@@ -81,34 +80,19 @@ public class FileController {
                     - GET /files/thumbnails/news_1_abc123.jpg
                     - 브라우저에서 직접 접근 가능
                     - 이미지 태그의 src 속성으로 사용
+                    - ETag / If-None-Match / If-Modified-Since (304), Range (206) 지원
+                    - 내용 해시 파일명(sha256)은 immutable로 1년 캐시
                     
                     **지원 형식:** JPG, PNG, GIF, WebP
                     """,
             tags = {"파일 서빙"}
     )
     @GetMapping("/thumbnails/{fileName}")
-    public ResponseEntity<Resource> serveThumbnail(
+    public void serveThumbnail(
             @Parameter(description = "썸네일 파일명", example = "news_1_abc123.jpg")
-            @PathVariable String fileName) {
-        return serveFile("thumbnails/" + fileName);
-    }
-
-    /**
-     * 파일 확장자에 따른 MIME 타입 결정
-     */
-    private MediaType determineMediaType(String path) {
-        String lowerPath = path.toLowerCase();
-
-        if (lowerPath.endsWith(".jpg") || lowerPath.endsWith(".jpeg")) {
-            return MediaType.IMAGE_JPEG;
-        } else if (lowerPath.endsWith(".png")) {
-            return MediaType.IMAGE_PNG;
-        } else if (lowerPath.endsWith(".gif")) {
-            return MediaType.IMAGE_GIF;
-        } else if (lowerPath.endsWith(".webp")) {
-            return MediaType.parseMediaType("image/webp");
-        } else {
-            return MediaType.APPLICATION_OCTET_STREAM;
-        }
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        serveFile("thumbnails/" + fileName, request, response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package com.sk.growthnav.api.file.service;
+
+import com.sk.growthnav.global.util.BoundedLruMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 자주 요청되는 작은 파일의 메모리 캐시 (EFS 읽기 감소)
+ * - 항목 수가 아닌 전체 바이트 수로 크기 제한, 접근 순서 기반 LRU 제거
+ * - 적중/미스/제거 지표 기록
+ * 파일 삭제/교체 시 invalidate()로 무효화해야 함
+ */
+@Component
+@Slf4j
+public class FileMemoryCache {
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    // 전체 캐시 최대 바이트 수
+    @Value("${app.file-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    // 캐시할 파일 최대 크기 (이보다 큰 파일은 항상 디스크에서 전송)
+    @Value("${app.file-cache.max-entry-bytes:262144}")
+    private long maxEntryBytes;
+
+    private final BoundedLruMap<String, CachedFile> entries;
+
+    public FileMemoryCache(MeterRegistry meterRegistry) {
+        this.hitCounter = Counter.builder("file.cache.hits").description("파일 메모리 캐시 적중").register(meterRegistry);
+        this.missCounter = Counter.builder("file.cache.misses").description("파일 메모리 캐시 미스").register(meterRegistry);
+        this.evictionCounter = Counter.builder("file.cache.evictions").description("파일 메모리 캐시 제거").register(meterRegistry);
+        this.entries = BoundedLruMap.ofMaxWeight(256, () -> maxBytes,
+                file -> file.getContent().length, evictionCounter::increment);
+        Gauge.builder("file.cache.bytes", this, FileMemoryCache::currentBytes)
+                .description("파일 메모리 캐시 사용 바이트")
+                .register(meterRegistry);
+        Gauge.builder("file.cache.entries", this, FileMemoryCache::entryCount)
+                .description("파일 메모리 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    public CachedFile get(Path path) {
+        CachedFile cached = entries.get(key(path));
+        if (cached != null) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return cached;
+    }
+
+    public boolean isCacheable(long size) {
+        return size <= maxEntryBytes;
+    }
+
+    public void put(Path path, CachedFile file) {
+        if (file.getContent().length > maxEntryBytes) {
+            return;
+        }
+        entries.put(key(path), file);
+    }
+
+    /**
+     * 파일 삭제/교체 시 무효화
+     */
+    public void invalidate(Path path) {
+        if (entries.remove(key(path)) != null) {
+            log.debug("파일 메모리 캐시 무효화: path={}", path);
+        }
+    }
+
+    private long currentBytes() {
+        return entries.weight();
+    }
+
+    private int entryCount() {
+        return entries.size();
+    }
+
+    private String key(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * 캐시된 파일 내용과 수정 시각
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CachedFile {
+        private final byte[] content;
+        private final long lastModified;
+    }
+}
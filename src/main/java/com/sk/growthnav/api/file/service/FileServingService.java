@@ -0,0 +1,266 @@
+package com.sk.growthnav.api.file.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Pattern;
+
+/**
+ * PVC 파일 서빙
+ * - 파일 속성은 한 번만 조회 (exists/isReadable 반복 호출 없음)
+ * - 작은 내용 주소 기반 파일은 메모리 캐시(FileMemoryCache)에서 전송
+ * - 그 외 파일은 FileChannel.transferTo로 응답 스트림에 복사
+ *   (대상이 소켓이 아닌 스트림 래퍼 채널이라 sendfile 제로 카피는 아니며, JDK 내부 버퍼를 거쳐 청크 단위로 복사됨)
+ * - ETag / If-None-Match / If-Modified-Since 처리 (304)
+ * - 단일 바이트 범위(Range) 요청 지원 (206/416), If-Range는 강한 비교 (약한 ETag는 일치로 보지 않음)
+ * - 내용 주소 기반 파일({sha256}[_{width}w].ext)은 내용이 바뀌지 않으므로 immutable로 장기 캐시
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FileServingService {
+
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("^[0-9a-f]{64}(_\\d+w)?$");
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable"; // 1년
+    private static final String DEFAULT_CACHE_CONTROL = "public, max-age=86400"; // 1일
+
+    private final FileMemoryCache fileMemoryCache;
+
+    /**
+     * 파일을 응답으로 전송 (파일이 없으면 404)
+     */
+    public void serve(Path filePath, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String fileName = filePath.getFileName().toString();
+        String stem = stripExtension(fileName);
+        boolean contentAddressed = CONTENT_ADDRESSED.matcher(stem).matches();
+
+        // 내용 주소 기반 파일은 내용이 바뀌지 않으므로 메모리 캐시에 있으면 파일시스템에 접근하지 않음
+        FileMemoryCache.CachedFile cached = contentAddressed ? fileMemoryCache.get(filePath) : null;
+
+        long length;
+        long lastModified;
+        if (cached != null) {
+            length = cached.getContent().length;
+            lastModified = cached.getLastModified();
+        } else {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                log.warn("파일을 찾을 수 없음: {}", filePath);
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            if (!attributes.isRegularFile()) {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            length = attributes.size();
+            lastModified = attributes.lastModifiedTime().toMillis();
+
+            // 작은 내용 주소 기반 파일은 한 번 읽어 캐시에 적재
+            if (contentAddressed && fileMemoryCache.isCacheable(length)) {
+                cached = new FileMemoryCache.CachedFile(Files.readAllBytes(filePath), lastModified);
+                length = cached.getContent().length;
+                fileMemoryCache.put(filePath, cached);
+            }
+        }
+
+        // 내용 주소 기반 파일은 파일명이 곧 내용 해시이므로 강한 ETag, 그 외는 크기/수정 시각 기반 약한 ETag
+        String etag = contentAddressed
+                ? "\"" + stem + "\""
+                : "W/\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, contentAddressed ? IMMUTABLE_CACHE_CONTROL : DEFAULT_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline"); // 브라우저에서 직접 표시
+
+        // 1. 조건부 요청 (304)
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(determineMediaType(fileName).toString());
+
+        // 2. 범위 요청 (If-Range가 현재 표현과 강하게 일치하지 않으면 전체 전송)
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && isRangeApplicable(request, etag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                // 해석할 수 없거나 여러 범위: 범위를 무시하고 전체 전송
+                log.debug("지원하지 않는 Range 헤더, 전체 전송: range={}", range);
+            } else if (parsed.length == 0) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            } else {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(Math.max(count, 0));
+        if (count <= 0 || "HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+
+        // 3. 본문 전송 (캐시된 파일은 메모리에서, 그 외는 transferTo로 청크 복사)
+        if (cached != null) {
+            response.getOutputStream().write(cached.getContent(), (int) start, (int) count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match가 있으면 If-Modified-Since는 무시 (약한 비교)
+            String opaque = stripWeak(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String trimmed = candidate.trim();
+                if (trimmed.equals("*") || stripWeak(trimmed).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            // HTTP 날짜는 초 단위
+            return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * If-Range 조건 확인 (RFC 9110 13.1.5, 강한 비교)
+     * - ETag: 현재 ETag가 강한 ETag이고 정확히 같을 때만 일치 (약한 ETag는 항상 불일치 -> 전체 전송)
+     * - 날짜: Last-Modified와 초 단위로 같을 때만 일치
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+
+        String trimmed = ifRange.trim();
+        if (trimmed.startsWith("W/") || trimmed.startsWith("\"")) {
+            return !etag.startsWith("W/") && trimmed.equals(etag);
+        }
+
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date != -1 && lastModified / 1000 == date / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 단일 바이트 범위 해석
+     *
+     * @return {start, end}, 만족할 수 없는 범위면 빈 배열, 해석할 수 없거나 여러 범위면 null
+     */
+    static long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.contains(",")) {
+            return null;
+        }
+
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+
+            if (first.isEmpty()) {
+                // bytes=-N: 마지막 N바이트
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return new long[0];
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || start > end) {
+                return new long[0];
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private String stripExtension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    /**
+     * 파일 확장자에 따른 MIME 타입 결정
+     */
+    private MediaType determineMediaType(String path) {
+        String lowerPath = path.toLowerCase();
+
+        if (lowerPath.endsWith(".jpg") || lowerPath.endsWith(".jpeg")) {
+            return MediaType.IMAGE_JPEG;
+        } else if (lowerPath.endsWith(".png")) {
+            return MediaType.IMAGE_PNG;
+        } else if (lowerPath.endsWith(".gif")) {
+            return MediaType.IMAGE_GIF;
+        } else if (lowerPath.endsWith(".webp")) {
+            return MediaType.parseMediaType("image/webp");
+        } else {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
@@ -1,82 +1,99 @@
-// 1단계: HomeScreenFacadeService.java 수정 - 디버깅 로그 추가
-
 package com.sk.growthnav.api.home.service;
 
 import com.sk.growthnav.api.conversation.document.ConversationDocument;
 import com.sk.growthnav.api.conversation.service.ConversationService;
 import com.sk.growthnav.api.member.dto.HomeScreenResponse;
 import com.sk.growthnav.api.member.entity.Member;
-import com.sk.growthnav.api.member.entity.MemberLevel;
 import com.sk.growthnav.api.member.service.MemberService;
 import com.sk.growthnav.api.project.dto.ProjectInfoDTO;
 import com.sk.growthnav.api.project.service.ProjectService;
-import lombok.RequiredArgsConstructor;
+import com.sk.growthnav.api.skill.service.SkillRecommendationService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class HomeScreenFacadeService {
 
     private final MemberService memberService;
     private final ProjectService projectService;
     private final ConversationService conversationService;
+    private final SkillRecommendationService skillRecommendationService;
+    private final Executor homeScreenExecutor;
+
+    // 분기별 최대 대기 시간 (초과 시 해당 분기는 빈 결과로 응답)
+    @Value("${app.home.branch-timeout-ms:3000}")
+    private long branchTimeoutMs;
+
+    @Value("${app.skill.recommendation.limit:5}")
+    private int recommendationLimit;
+
+    public HomeScreenFacadeService(MemberService memberService,
+                                   ProjectService projectService,
+                                   ConversationService conversationService,
+                                   SkillRecommendationService skillRecommendationService,
+                                   @Qualifier("homeScreenExecutor") Executor homeScreenExecutor) {
+        this.memberService = memberService;
+        this.projectService = projectService;
+        this.conversationService = conversationService;
+        this.skillRecommendationService = skillRecommendationService;
+        this.homeScreenExecutor = homeScreenExecutor;
+    }
 
     /**
      * 홈 화면 데이터 조회
+     * 프로젝트(Postgres)와 최근 대화(Mongo)는 서로 독립적이므로 병렬로 조회하고,
+     * 한쪽이 실패하거나 시간 초과되면 빈 목록으로 대체하여 나머지 결과는 그대로 응답한다.
      */
     public HomeScreenResponse getHomeScreenData(Long memberId) {
         log.info("홈 화면 데이터 조회: memberId={}", memberId);
 
-        // 1. 회원 정보 조회
-        Member member = memberService.findById(memberId);
-        String userName = member.getName();
-        MemberLevel level = member.getLevel();
-
-        // 2. 회원의 프로젝트 목록 조회 (스킬 포함)
-        List<ProjectInfoDTO> projects = projectService.getProjectsByMember(memberId);
-
-        // 3. 최근 대화 목록 조회 (모든 대화)
-        List<ConversationDocument> recentConversations = getRecentConversations(memberId);
-
-        // ===== 추가된 디버깅 코드 =====
-        log.info("=== 대화 제목 생성 디버깅 시작 ===");
-        log.info("조회된 대화 수: {}", recentConversations.size());
-
-        for (int i = 0; i < recentConversations.size(); i++) {
-            ConversationDocument conversation = recentConversations.get(i);
-            log.info("대화 {}: ID={}, 메시지 수={}",
-                    i + 1, conversation.getId(), conversation.getMessageCount());
-
-            // 각 메시지의 상세 정보 출력
-            if (conversation.getMessages() != null) {
-                for (int j = 0; j < conversation.getMessages().size(); j++) {
-                    ConversationDocument.MessageDocument message = conversation.getMessages().get(j);
-                    String messagePreview = message.getMessageText().length() > 50 ?
-                            message.getMessageText().substring(0, 50) + "..." : message.getMessageText();
-                    log.info("  메시지 {}: [{}] {}",
-                            j + 1, message.getSenderType(), messagePreview);
-                }
-            }
-        }
-        log.info("=== 대화 제목 생성 디버깅 종료 ===");
-
-        // 4. 홈 화면 응답 생성
-        HomeScreenResponse homeScreen = HomeScreenResponse.of(userName, level, projects, recentConversations);
-
-        // ===== 생성된 제목 확인 =====
-        log.info("=== 생성된 제목들 확인 ===");
-        if (homeScreen.getRecentChats() != null) {
-            for (int i = 0; i < homeScreen.getRecentChats().size(); i++) {
-                HomeScreenResponse.RecentChat chat = homeScreen.getRecentChats().get(i);
-                log.info("제목 {}: ID={}, 제목='{}'",
-                        i + 1, chat.getConversationId(), chat.getTitle());
-            }
+        // 1. 프로젝트 목록 / 최근 대화 목록 병렬 조회 시작
+        CompletableFuture<List<ProjectInfoDTO>> projectsFuture = CompletableFuture
+                .supplyAsync(() -> projectService.getProjectsByMember(memberId), homeScreenExecutor)
+                .completeOnTimeout(null, branchTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> {
+                    log.warn("프로젝트 조회 중 오류: memberId={}, error={}", memberId, throwable.getMessage());
+                    return List.of();
+                });
+
+        CompletableFuture<List<ConversationDocument>> conversationsFuture = CompletableFuture
+                .supplyAsync(() -> conversationService.getConversationsByMember(memberId), homeScreenExecutor)
+                .completeOnTimeout(null, branchTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> {
+                    log.warn("최근 대화 조회 중 오류: memberId={}, error={}", memberId, throwable.getMessage());
+                    return List.of();
+                });
+
+        // 2. 회원 정보 조회 (요청 스레드에서 동시에 수행, 없으면 예외)
+        Member member;
+        try {
+            member = memberService.findById(memberId);
+        } catch (RuntimeException e) {
+            projectsFuture.cancel(true);
+            conversationsFuture.cancel(true);
+            throw e;
         }
 
+        // 3. 분기 결과 수집 (시간 초과 시 빈 목록)
+        List<ProjectInfoDTO> projects = orEmpty(projectsFuture.join(), "프로젝트", memberId);
+        List<ConversationDocument> recentConversations = orEmpty(conversationsFuture.join(), "최근 대화", memberId);
+
+        // 4. 다음 등급 추천 스킬 (메모리 인덱스에서 계산, DB 조회 없음)
+        List<String> recommendedSkills = skillRecommendationService.recommendForNextLevel(
+                member.getLevel(), skillNamesOf(projects), recommendationLimit);
+
+        // 5. 홈 화면 응답 생성
+        HomeScreenResponse homeScreen = HomeScreenResponse.of(
+                member.getName(), member.getLevel(), projects, recentConversations, recommendedSkills);
+
         log.info("홈 화면 조회 완료: memberId={}, skillCount={}, projectCount={}, conversationCount={}",
                 memberId,
                 homeScreen.getSkills() != null ? homeScreen.getSkills().size() : 0,
@@ -86,17 +103,21 @@ public class HomeScreenFacadeService {
         return homeScreen;
     }
 
+    private static List<String> skillNamesOf(List<ProjectInfoDTO> projects) {
+        return projects.stream()
+                .filter(project -> project.getSkills() != null)
+                .flatMap(project -> project.getSkills().stream())
+                .toList();
+    }
+
     /**
-     * 회원의 모든 최근 대화 조회
+     * 시간 초과된 분기(null)는 빈 목록으로 대체
      */
-    private List<ConversationDocument> getRecentConversations(Long memberId) {
-        try {
-            List<ConversationDocument> conversations = conversationService.getConversationsByMember(memberId);
-            log.debug("최근 대화 조회 성공: memberId={}, conversationCount={}", memberId, conversations.size());
-            return conversations;
-        } catch (Exception e) {
-            log.warn("최근 대화 조회 중 오류: memberId={}, error={}", memberId, e.getMessage());
-            return List.of(); // 빈 리스트 반환
+    private <T> List<T> orEmpty(List<T> result, String branch, Long memberId) {
+        if (result == null) {
+            log.warn("{} 조회 시간 초과, 빈 목록으로 대체: memberId={}, timeoutMs={}", branch, memberId, branchTimeoutMs);
+            return List.of();
         }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -6,7 +6,6 @@ import com.sk.growthnav.api.project.dto.ProjectInfoDTO;
 import com.sk.growthnav.global.document.SenderType;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
-import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,13 +17,13 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE)
-@Slf4j
 public class HomeScreenResponse {
 
     String userName;
     MemberLevel level;
     List<String> skills;
     List<String> projectNames;
+    List<String> recommendedSkills;  // 다음 등급 회원들이 많이 쓰는 미보유 스킬
 
     List<RecentChat> recentChats;
 
@@ -67,60 +66,34 @@ public class HomeScreenResponse {
          * 대화 제목 생성 - BOT 인사말 이후 첫 번째 사용자 메시지 기반
          */
         private static String generateChatTitle(ConversationDocument conversation) {
-            log.info("=== generateChatTitle 시작 ===");
-            log.info("대화 ID: {}", conversation.getId());
-
             if (conversation == null || conversation.getMessages().isEmpty()) {
-                log.info("대화가 null이거나 메시지가 없음");
                 return "새로운 대화";
             }
 
             List<ConversationDocument.MessageDocument> messages = conversation.getMessages();
-            log.info("메시지 총 개수: {}", messages.size());
-
-            // 모든 메시지를 순회하면서 첫 번째 사용자 메시지 찾기
-            for (int i = 0; i < messages.size(); i++) {
-                ConversationDocument.MessageDocument message = messages.get(i);
-                log.info("메시지 {}: 타입={}, 내용={}",
-                        i, message.getSenderType(),
-                        message.getMessageText() != null ?
-                                (message.getMessageText().length() > 30 ?
-                                        message.getMessageText().substring(0, 30) + "..." :
-                                        message.getMessageText()) : "null");
-
-                // 사용자 메시지인지 확인
+
+            // 첫 번째 사용자 메시지 찾기
+            for (ConversationDocument.MessageDocument message : messages) {
                 if (message.getSenderType() == SenderType.USER) {
                     String messageText = message.getMessageText();
-                    log.info("사용자 메시지 발견: {}", messageText);
-
                     if (messageText != null && !messageText.trim().isEmpty()) {
-                        // 제목 생성
-                        String title = cleanAndShortenTitle(messageText);
-                        log.info("생성된 제목: '{}'", title);
-                        return title;
+                        return cleanAndShortenTitle(messageText);
                     }
                 }
             }
 
-            // 사용자 메시지가 없는 경우
-            log.info("사용자 메시지를 찾을 수 없음");
-
             // BOT 메시지만 있는 경우
             if (messages.size() == 1 && messages.get(0).getSenderType() == SenderType.BOT) {
-                log.info("BOT 인사말만 있음");
                 return "새로운 상담";
             }
 
             // conversationId 기반 제목 (폴백)
             String id = conversation.getId();
             if (id != null && id.length() >= 4) {
-                String fallbackTitle = "대화 " + id.substring(Math.max(0, id.length() - 4));
-                log.info("폴백 제목 사용: '{}'", fallbackTitle);
-                return fallbackTitle;
+                return "대화 " + id.substring(Math.max(0, id.length() - 4));
             }
 
             // 최종 폴백
-            log.info("최종 폴백 제목 사용");
             return "Growth Navigator 상담";
         }
 
@@ -151,9 +124,8 @@ public class HomeScreenResponse {
             String userName,
             MemberLevel level,
             List<ProjectInfoDTO> projects,
-            List<ConversationDocument> recentConversations) {
-
-        log.info("HomeScreenResponse 생성 시작");
+            List<ConversationDocument> recentConversations,
+            List<String> recommendedSkills) {
 
         // 1. 프로젝트 이름 목록 추출
         List<String> projectNames = projects.stream()
@@ -171,20 +143,16 @@ public class HomeScreenResponse {
                 .collect(Collectors.toList());
 
         // 3. 최근 대화 목록 변환
-        log.info("대화 목록을 RecentChat으로 변환 시작, 대화 수: {}", recentConversations.size());
         List<RecentChat> recentChats = recentConversations.stream()
-                .map(conversation -> {
-                    log.info("대화 변환 중: ID={}", conversation.getId());
-                    return RecentChat.from(conversation);
-                })
+                .map(RecentChat::from)
                 .collect(Collectors.toList());
 
-        log.info("HomeScreenResponse 생성 완료");
         return HomeScreenResponse.builder()
                 .userName(userName)
                 .level(level)
                 .skills(skills)
                 .projectNames(projectNames)
+                .recommendedSkills(recommendedSkills)
                 .recentChats(recentChats)
                 .build();
     }
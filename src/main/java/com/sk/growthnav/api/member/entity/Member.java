@@ -1,18 +1,26 @@
 package com.sk.growthnav.api.member.entity;
 
 import com.sk.growthnav.global.base.BaseEntity;
+import com.sk.growthnav.global.base.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member", indexes = {
+        // 관리자 목록 키셋 페이지네이션 (필터 + member_id 순)
+        @Index(name = "idx_member_role_id", columnList = "role, member_id"),
+        @Index(name = "idx_member_level_id", columnList = "level, member_id"),
+        @Index(name = "idx_member_expertise_area_id", columnList = "expertise_area, member_id"),
+        @Index(name = "idx_member_is_expert_id", columnList = "isExpert, member_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Member extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "member_id", unique = true, nullable = false)
     private Long id;
 
@@ -15,4 +15,12 @@ public enum MemberLevel {
     MemberLevel(String label) {
         this.label = label;
     }
+
+    /**
+     * 다음 등급 (최고 등급은 자기 자신)
+     */
+    public MemberLevel next() {
+        MemberLevel[] levels = values();
+        return levels[Math.min(ordinal() + 1, levels.length - 1)];
+    }
 }
\ No newline at end of file
@@ -4,10 +4,12 @@ import com.sk.growthnav.api.member.entity.ExpertiseArea;
 import com.sk.growthnav.api.member.entity.Member;
 import com.sk.growthnav.api.member.entity.MemberLevel;
 import com.sk.growthnav.api.member.entity.MemberRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -93,4 +95,55 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     @Query("SELECT m FROM Member m WHERE m.isExpert = true ORDER BY m.createdAt DESC")
     List<Member> findAllExperts();
-}
\ No newline at end of file
+
+    // ===== 관리자 목록용 키셋 페이지네이션 =====
+    // afterId 이후의 회원을 ID 오름차순으로 MemberSummary만 조회 (조회 개수는 Pageable의 size, offset은 항상 0)
+    // 필터 조합마다 메서드를 나누어 "(:x IS NULL OR ...)" 없이 (필터, member_id) 인덱스를 그대로 사용
+
+    List<MemberSummary> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    List<MemberSummary> findByRoleAndIdGreaterThanOrderByIdAsc(MemberRole role, Long afterId, Pageable pageable);
+
+    List<MemberSummary> findByLevelAndIdGreaterThanOrderByIdAsc(MemberLevel level, Long afterId, Pageable pageable);
+
+    List<MemberSummary> findByExpertiseAreaAndIdGreaterThanOrderByIdAsc(ExpertiseArea area, Long afterId,
+                                                                        Pageable pageable);
+
+    List<MemberSummary> findByRoleAndLevelAndIdGreaterThanOrderByIdAsc(MemberRole role, MemberLevel level,
+                                                                       Long afterId, Pageable pageable);
+
+    List<MemberSummary> findByRoleAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(MemberRole role, ExpertiseArea area,
+                                                                               Long afterId, Pageable pageable);
+
+    List<MemberSummary> findByLevelAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(MemberLevel level, ExpertiseArea area,
+                                                                                Long afterId, Pageable pageable);
+
+    List<MemberSummary> findByRoleAndLevelAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(
+            MemberRole role, MemberLevel level, ExpertiseArea area, Long afterId, Pageable pageable);
+
+    List<MemberSummary> findByIsExpertTrueAndIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    List<MemberSummary> findByIsExpertTrueAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(ExpertiseArea area, Long afterId,
+                                                                                      Pageable pageable);
+
+    /**
+     * 목록 화면용 경량 프로젝션
+     */
+    interface MemberSummary {
+        Long getId();
+
+        String getName();
+
+        String getEmail();
+
+        MemberRole getRole();
+
+        Boolean getIsExpert();
+
+        MemberLevel getLevel();
+
+        ExpertiseArea getExpertiseArea();
+
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -6,6 +6,7 @@ import com.sk.growthnav.api.member.entity.MemberLevel;
 import com.sk.growthnav.api.member.entity.MemberRole;
 import com.sk.growthnav.api.member.repository.MemberRepository;
 import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.auth.MemberAuthCache;
 import com.sk.growthnav.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberAuthCache memberAuthCache;
     // ConversationService 의존성 제거!
 
     /**
@@ -109,6 +111,7 @@ public class MemberService {
         MemberLevel oldLevel = member.getLevel();
         member.changeLevel(newLevel);
         memberRepository.save(member);
+        memberAuthCache.evict(memberId);
 
         log.info("등급 변경 완료: memberId={}, {} -> {}", memberId, oldLevel, newLevel);
 
@@ -1,9 +1,19 @@
 package com.sk.growthnav.api.news.controller;
 
+import com.sk.growthnav.api.news.dto.NewsBulkManageRequest;
+import com.sk.growthnav.api.news.dto.NewsBulkManageResponse;
 import com.sk.growthnav.api.news.dto.NewsCreateRequest;
+import com.sk.growthnav.api.news.dto.NewsFeedResponse;
+import com.sk.growthnav.api.news.dto.NewsImportProgressResponse;
+import com.sk.growthnav.api.news.dto.NewsImportRequest;
+import com.sk.growthnav.api.news.dto.NewsImportResponse;
 import com.sk.growthnav.api.news.dto.NewsManageRequest;
 import com.sk.growthnav.api.news.dto.NewsResponse;
+import com.sk.growthnav.api.news.dto.NewsSearchResponse;
+import com.sk.growthnav.api.news.service.NewsImportService;
+import com.sk.growthnav.api.news.service.NewsSearchService;
 import com.sk.growthnav.api.news.service.NewsService;
+import com.sk.growthnav.api.news.service.WebPageFetcher;
 import com.sk.growthnav.global.apiPayload.ApiResponse;
 import com.sk.growthnav.global.auth.AuthHelper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,7 +24,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -26,6 +38,9 @@ import java.util.List;
 public class NewsController {
 
     private final NewsService newsService;
+    private final NewsSearchService newsSearchService;
+    private final NewsImportService newsImportService;
+    private final WebPageFetcher webPageFetcher;
     private final AuthHelper authHelper;
 
     @Operation(
@@ -42,6 +57,81 @@ public class NewsController {
         return ApiResponse.onSuccess(response);
     }
 
+    @Operation(
+            summary = "뉴스 기사 일괄 등록 (EXPERT/Admin 전용)",
+            description = """
+                    여러 뉴스 URL을 한 번에 등록합니다. (최대 1000건)
+                    
+                    - 정규화한 URL(추적 파라미터, www, 끝 슬래시 등 제거)이 같으면 중복으로 보고 건너뜁니다.
+                    - 제목을 비워두면 URL에서 자동 추출합니다.
+                    - 제목/썸네일 추출은 백그라운드에서 진행되며, 응답의 importId로 진행 상황을 조회할 수 있습니다.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "뉴스 일괄 등록 요청",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = NewsImportRequest.class),
+                            examples = @ExampleObject(
+                                    name = "일괄 등록",
+                                    value = """
+                                            {
+                                              "expertId": 1,
+                                              "items": [
+                                                { "url": "https://n.news.naver.com/mnews/article/015/0004950001" },
+                                                { "url": "https://www.example.com/news/1?utm_source=newsletter", "title": "직접 입력한 제목" }
+                                              ]
+                                            }
+                                            """
+                            )
+                    )
+            )
+    )
+    @PostMapping("/import")
+    public ApiResponse<NewsImportResponse> importNews(@Valid @RequestBody NewsImportRequest request) {
+
+        // EXPERT 권한 확인
+        authHelper.validateExpertRole(request.getExpertId());
+
+        NewsImportResponse response = newsImportService.importNews(request.getExpertId(), request.getItems());
+        return ApiResponse.onSuccess(response);
+    }
+
+    @Operation(
+            summary = "뉴스 기사 CSV 일괄 등록 (EXPERT/Admin 전용)",
+            description = """
+                    CSV 파일(UTF-8)로 뉴스를 일괄 등록합니다. (최대 1000건)
+                    
+                    - 열: url, title(선택)
+                    - 첫 줄이 "url"로 시작하면 헤더로 간주합니다.
+                    """
+    )
+    @PostMapping(value = "/import/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<NewsImportResponse> importNewsCsv(
+            @RequestParam Long expertId,
+            @RequestPart("file") MultipartFile file) {
+
+        // EXPERT 권한 확인
+        authHelper.validateExpertRole(expertId);
+
+        NewsImportResponse response = newsImportService.importCsv(expertId, file);
+        return ApiResponse.onSuccess(response);
+    }
+
+    @Operation(
+            summary = "뉴스 일괄 등록 진행 상황 조회 (EXPERT/Admin 전용)",
+            description = "일괄 등록한 뉴스의 제목/썸네일 추출 진행 상황(대기/완료/실패 건수)을 조회합니다."
+    )
+    @GetMapping("/import/{importId}")
+    public ApiResponse<NewsImportProgressResponse> getImportProgress(
+            @PathVariable String importId,
+            @RequestParam Long expertId) {
+
+        // EXPERT 권한 확인
+        authHelper.validateExpertRole(expertId);
+
+        return ApiResponse.onSuccess(newsImportService.getProgress(importId));
+    }
+
     @Operation(
             summary = "승인된 뉴스 목록 조회 (모든 사용자)",
             description = "일반 사용자들이 볼 수 있는 승인된 뉴스 기사 목록을 조회합니다."
@@ -52,6 +142,42 @@ public class NewsController {
         return ApiResponse.onSuccess(news);
     }
 
+    @Operation(
+            summary = "승인된 뉴스 피드 페이지 조회 (모든 사용자)",
+            description = """
+                    승인된 뉴스 기사를 최신순으로 페이지 단위로 조회합니다. (키셋 페이지네이션)
+                    
+                    - 첫 페이지: cursor 없이 요청
+                    - 다음 페이지: 응답의 nextCursor를 cursor로 전달 (형식은 바뀔 수 있으므로 그대로 전달)
+                    - limit: 기본 20, 최대 50
+                    """
+    )
+    @GetMapping("/feed")
+    public ApiResponse<NewsFeedResponse> getApprovedFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        NewsFeedResponse feed = newsService.getApprovedFeed(cursor, limit);
+        return ApiResponse.onSuccess(feed);
+    }
+
+    @Operation(
+            summary = "승인된 뉴스 제목 검색 (모든 사용자)",
+            description = """
+                    승인된 뉴스 기사를 제목으로 검색합니다. 관련도 순으로 정렬되며 같은 관련도는 최신순입니다.
+                    
+                    - q: 검색어 (여러 단어 가능)
+                    - page: 0부터 시작, size: 기본 20, 최대 50
+                    """
+    )
+    @GetMapping("/search")
+    public ApiResponse<NewsSearchResponse> searchNews(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        NewsSearchResponse result = newsSearchService.search(q, page, size);
+        return ApiResponse.onSuccess(result);
+    }
+
     @Operation(
             summary = "내가 작성한 뉴스 조회 (EXPERT/Admin)",
             description = "작성자가 자신이 작성한 모든 뉴스 기사를 조회합니다. (승인 상태 무관)"
@@ -111,6 +237,26 @@ public class NewsController {
         return ApiResponse.onSuccess(news);
     }
 
+    @Operation(
+            summary = "외부 사이트 요청 통계 (Admin 전용)",
+            description = """
+                    제목/썸네일 추출 시 외부 사이트에 보낸 요청의 호스트별 통계를 조회합니다.
+                    
+                    - requests / errors: 요청 수 / 오류 수
+                    - notModified: 조건부 요청으로 캐시를 재사용한 수 (304)
+                    - throttled: 호스트 요청 속도 제한으로 보류된 수
+                    - avgLatencyMs / maxLatencyMs: 평균 / 최대 응답 시간
+                    """
+    )
+    @GetMapping("/admin/fetch-stats")
+    public ApiResponse<List<WebPageFetcher.HostStatsSnapshot>> getFetchStats(@RequestParam Long adminId) {
+
+        // 관리자 권한 확인
+        authHelper.validateAdminRole(adminId);
+
+        return ApiResponse.onSuccess(webPageFetcher.getHostStats());
+    }
+
     @Operation(
             summary = "뉴스 관리 액션 (Admin 전용)",
             description = """
@@ -171,6 +317,43 @@ public class NewsController {
         return ApiResponse.onSuccess(result);
     }
 
+    @Operation(
+            summary = "뉴스 일괄 관리 액션 (Admin 전용)",
+            description = """
+                    관리자가 여러 뉴스 기사에 같은 관리 액션을 한 번에 적용합니다.
+                    
+                    - 액션과 상태 전이 규칙은 단건 관리와 같습니다.
+                    - 처리할 수 없는 뉴스(존재하지 않음, 잘못된 상태)는 건너뛰고 ID별 결과에 사유를 담습니다.
+                    - 한 번에 최대 500건까지 처리할 수 있습니다.
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "뉴스 일괄 관리 요청",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = NewsBulkManageRequest.class),
+                            examples = @ExampleObject(
+                                    name = "일괄 승인",
+                                    value = """
+                                            {
+                                              "newsIds": [1, 2, 3],
+                                              "adminId": 1,
+                                              "action": "APPROVE"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    )
+    @PutMapping("/admin/manage/bulk")
+    public ApiResponse<NewsBulkManageResponse> manageNewsBulk(@Valid @RequestBody NewsBulkManageRequest request) {
+
+        // 관리자 권한 확인
+        authHelper.validateAdminRole(request.getAdminId());
+
+        NewsBulkManageResponse result = newsService.manageNewsBulk(request);
+        return ApiResponse.onSuccess(result);
+    }
+
     @Operation(
             summary = "뉴스 삭제 (Admin 전용)",
             description = "관리자가 뉴스 기사를 완전히 삭제합니다."
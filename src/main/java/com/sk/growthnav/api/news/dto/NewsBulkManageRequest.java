@@ -0,0 +1,26 @@
+package com.sk.growthnav.api.news.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsBulkManageRequest {
+
+    @NotEmpty(message = "뉴스 ID 목록은 필수입니다.")
+    @Size(max = 500, message = "한 번에 최대 500건까지 처리할 수 있습니다.")
+    private List<Long> newsIds;
+
+    @NotNull(message = "관리자 ID는 필수입니다.")
+    private Long adminId;
+
+    @NotNull(message = "관리 액션은 필수입니다.")
+    private NewsManageRequest.ManageAction action;
+}
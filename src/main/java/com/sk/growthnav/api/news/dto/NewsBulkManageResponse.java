@@ -0,0 +1,36 @@
+package com.sk.growthnav.api.news.dto;
+
+import com.sk.growthnav.api.news.entity.NewsStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 뉴스 일괄 관리 결과 (요청 순서대로 ID별 처리 결과)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsBulkManageResponse {
+    private NewsManageRequest.ManageAction action;
+    private int requestedCount;
+    private int successCount;
+    private int failureCount;
+    private List<Result> results;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private Long newsId;
+        private boolean success;
+        private NewsStatus previousStatus;  // 존재하지 않는 뉴스면 null
+        private NewsStatus currentStatus;
+        private String message;
+    }
+}
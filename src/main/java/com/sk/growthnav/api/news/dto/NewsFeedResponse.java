@@ -0,0 +1,22 @@
+package com.sk.growthnav.api.news.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 승인된 뉴스 피드 키셋 페이지 응답
+ * 다음 페이지는 nextCursor를 cursor로 전달하여 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsFeedResponse {
+    private List<NewsResponse> news;
+    private String nextCursor;  // 마지막 뉴스의 (작성 시각, ID) 커서 (다음 페이지 없으면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,23 @@
+package com.sk.growthnav.api.news.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 뉴스 일괄 등록 후 제목/썸네일 추출 진행 상황
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsImportProgressResponse {
+    private String importId;
+    private long total;
+    private long pending;
+    private long completed;
+    private long failed;
+    private int progressPercent;   // (완료 + 실패) / 전체
+    private boolean done;
+}
@@ -0,0 +1,39 @@
+package com.sk.growthnav.api.news.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsImportRequest {
+
+    @NotNull(message = "작성자 Id는 필수입니다.")
+    private Long expertId;
+
+    @NotEmpty(message = "등록할 뉴스 목록은 필수입니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 등록할 수 있습니다.")
+    private List<@Valid Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotBlank(message = "URL은 필수입니다.")
+        @Size(max = 500, message = "URL은 500자 이하여야 합니다.")
+        private String url;
+
+        // 비어있으면 URL에서 자동 추출
+        @Size(max = 200, message = "제목은 200자 이하여야 합니다.")
+        private String title;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sk.growthnav.api.news.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 뉴스 일괄 등록 결과 (요청 순서대로 항목별 결과)
+ * 제목/썸네일 추출 진행 상황은 importId로 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsImportResponse {
+    private String importId;
+    private int requestedCount;
+    private int importedCount;
+    private int duplicateCount;
+    private int invalidCount;
+    private List<Result> results;
+
+    public enum Outcome {
+        IMPORTED,   // 등록됨
+        DUPLICATE,  // 이미 등록되었거나 요청 안에서 중복
+        INVALID     // URL 형식 오류
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private int index;
+        private String url;
+        private Outcome outcome;
+        private Long newsId;    // 등록된 경우만
+    }
+}
@@ -20,6 +20,7 @@ public class NewsResponse {
     private String url;
     private String date;
     private String thumbnailUrl;
+    private String enrichmentStatus;  // "정보 추출 대기", "정보 추출 완료", "정보 추출 실패"
 
     // Admin 관리 페이지용 추가 필드
     private Boolean canApprove;    // 승인 가능 여부
@@ -38,6 +39,7 @@ public class NewsResponse {
                 .status(news.getStatus().getDescription())
                 .url(news.getUrl())
                 .thumbnailUrl(news.getThumbnailUrl())
+                .enrichmentStatus(news.getEnrichmentStatus().getDescription())
                 .date(news.getCreatedAt().format(DATE_FORMATTER))
                 .canApprove(news.isPending())     // 대기중일 때만 승인 가능
                 .canUnapprove(news.isApproved())  // 승인됨일 때만 해제 가능
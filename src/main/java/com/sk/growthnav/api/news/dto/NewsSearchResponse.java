@@ -0,0 +1,23 @@
+package com.sk.growthnav.api.news.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 뉴스 검색 결과 (관련도 순)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsSearchResponse {
+    private String query;
+    private List<NewsResponse> news;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,22 @@
+package com.sk.growthnav.api.news.entity;
+
+import lombok.Getter;
+
+/**
+ * 뉴스 정보 추출 작업 종류
+ */
+@Getter
+public enum EnrichmentJobType {
+    TITLE_AND_THUMBNAIL("제목 + 썸네일 추출"),  // 사용자가 제목을 입력하지 않은 경우
+    THUMBNAIL("썸네일 추출");
+
+    private final String description;
+
+    EnrichmentJobType(String description) {
+        this.description = description;
+    }
+
+    public boolean needsTitle() {
+        return this == TITLE_AND_THUMBNAIL;
+    }
+}
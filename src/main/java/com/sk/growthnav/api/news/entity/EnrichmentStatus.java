@@ -0,0 +1,19 @@
+package com.sk.growthnav.api.news.entity;
+
+import lombok.Getter;
+
+/**
+ * 뉴스 정보(제목/썸네일) 자동 추출 상태
+ */
+@Getter
+public enum EnrichmentStatus {
+    PENDING("정보 추출 대기"),
+    COMPLETED("정보 추출 완료"),
+    FAILED("정보 추출 실패");
+
+    private final String description;
+
+    EnrichmentStatus(String description) {
+        this.description = description;
+    }
+}
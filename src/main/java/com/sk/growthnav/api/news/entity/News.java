@@ -2,11 +2,18 @@ package com.sk.growthnav.api.news.entity;
 
 import com.sk.growthnav.api.member.entity.Member;
 import com.sk.growthnav.global.base.BaseEntity;
+import com.sk.growthnav.global.base.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = {
+        @Index(name = "idx_news_thumbnail_path", columnList = "thumbnailPath"),
+        @Index(name = "idx_news_thumbnail_source_url", columnList = "thumbnailSourceUrl"),
+        @Index(name = "idx_news_normalized_url", columnList = "normalized_url"),
+        @Index(name = "idx_news_import_batch_id", columnList = "import_batch_id"),
+        @Index(name = "idx_news_status_created_at_id", columnList = "status, createdAt, news_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -14,7 +21,8 @@ import lombok.*;
 public class News extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_seq")
+    @SequenceGenerator(name = "news_seq", sequenceName = "news_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "news_id")
     private Long id;
 
@@ -24,6 +32,15 @@ public class News extends BaseEntity {
     @Column(nullable = false, length = 500)
     private String url;
 
+    // 중복 등록 판별용 정규화 URL (NewsUrlNormalizer, 거부되지 않은 뉴스 사이에서 유니크 - NewsNormalizedUrlIndexInitializer)
+    // 기존 데이터는 시작 시 채워지며, 정규화할 수 없거나 이미 같은 URL이 있는 기존 행은 null로 남음
+    @Column(name = "normalized_url", length = 500)
+    private String normalizedUrl;
+
+    // 일괄 등록 시 등록 단위 ID (진행 상황 조회용)
+    @Column(name = "import_batch_id", length = 36)
+    private String importBatchId;
+
     // 썸네일 이미지 경로 추가
     @Column(length = 500)
     private String thumbnailPath;  // PVC 내 이미지 파일 경로
@@ -32,6 +49,10 @@ public class News extends BaseEntity {
     @Column(length = 500)
     private String thumbnailUrl;   // 사용자가 접근할 수 있는 URL
 
+    // 썸네일 원본 이미지 URL (같은 이미지 재다운로드 방지용)
+    @Column(length = 1000)
+    private String thumbnailSourceUrl;
+
     // isRegistered 대신 status 사용
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -42,18 +63,51 @@ public class News extends BaseEntity {
     @JoinColumn(name = "expert_id", nullable = false)
     private Member expert; // EXPERT 또는 Admin
 
+    // 제목/썸네일 백그라운드 추출 상태 (기존 데이터는 null -> 완료로 간주)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "enrichment_status")
+    @Builder.Default
+    private EnrichmentStatus enrichmentStatus = EnrichmentStatus.PENDING;
+
     // 수정 메서드
     public void updateNews(String title, String url) {
         this.title = title;
         this.url = url;
     }
 
+    // 기존 데이터 정규화 URL 채우기
+    public void assignNormalizedUrl(String normalizedUrl) {
+        this.normalizedUrl = normalizedUrl;
+    }
+
     // 썸네일 설정 메서드
     public void setThumbnail(String thumbnailPath, String thumbnailUrl) {
         this.thumbnailPath = thumbnailPath;
         this.thumbnailUrl = thumbnailUrl;
     }
 
+    public void setThumbnail(String thumbnailPath, String thumbnailUrl, String thumbnailSourceUrl) {
+        setThumbnail(thumbnailPath, thumbnailUrl);
+        this.thumbnailSourceUrl = thumbnailSourceUrl;
+    }
+
+    // 백그라운드 정보 추출 완료 (title이 null이면 기존 제목 유지)
+    public void completeEnrichment(String title) {
+        if (title != null && !title.isBlank()) {
+            this.title = title;
+        }
+        this.enrichmentStatus = EnrichmentStatus.COMPLETED;
+    }
+
+    // 백그라운드 정보 추출 실패 (임시 제목 유지)
+    public void failEnrichment() {
+        this.enrichmentStatus = EnrichmentStatus.FAILED;
+    }
+
+    public EnrichmentStatus getEnrichmentStatus() {
+        return this.enrichmentStatus != null ? this.enrichmentStatus : EnrichmentStatus.COMPLETED;
+    }
+
     // 승인 처리
     public void approve() {
         this.status = NewsStatus.APPROVED;
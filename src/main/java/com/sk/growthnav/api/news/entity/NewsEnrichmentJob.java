@@ -0,0 +1,64 @@
+package com.sk.growthnav.api.news.entity;
+
+import com.sk.growthnav.global.base.BaseTimeEntity;
+import com.sk.growthnav.global.base.IdSequences;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 정보 추출 대기 작업 (DB 기반 작업 큐)
+ * 작업자가 가져갈 때 next_run_at을 임대 만료 시각으로 미뤄두므로,
+ * 처리 중 파드가 종료되어도 임대가 끝나면 다른 파드가 다시 가져간다.
+ */
+@Entity
+@Table(name = "news_enrichment_job",
+        uniqueConstraints = @UniqueConstraint(name = "uk_enrichment_job_news_type", columnNames = {"news_id", "job_type"}),
+        indexes = @Index(name = "idx_enrichment_job_next_run_at", columnList = "next_run_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NewsEnrichmentJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_enrichment_job_seq")
+    @SequenceGenerator(name = "news_enrichment_job_seq", sequenceName = "news_enrichment_job_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
+    @Column(name = "job_id")
+    private Long id;
+
+    @Column(name = "news_id", nullable = false)
+    private Long newsId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 30)
+    private EnrichmentJobType jobType;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // 작업자가 가져감: 임대 만료 시각까지 다른 작업자가 가져가지 않음
+    public void lease(LocalDateTime leaseUntil) {
+        this.nextRunAt = leaseUntil;
+    }
+
+    // 실패 기록 후 재시도 예약
+    public void retryAt(LocalDateTime nextRunAt, String error) {
+        this.attempts++;
+        this.nextRunAt = nextRunAt;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    // 실패로 기록하지 않고 다시 대기 (풀 포화 등)
+    public void release(LocalDateTime nextRunAt) {
+        this.nextRunAt = nextRunAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sk.growthnav.api.news.repository;
+
+import com.sk.growthnav.api.news.entity.EnrichmentJobType;
+import com.sk.growthnav.api.news.entity.NewsEnrichmentJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NewsEnrichmentJobRepository extends JpaRepository<NewsEnrichmentJob, Long> {
+
+    /**
+     * 실행 시각이 된 작업을 잠그고 가져옴
+     * 다른 작업자가 이미 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 파드가 같은 작업을 중복 처리하지 않음
+     */
+    @Query(value = "SELECT * FROM news_enrichment_job " +
+            "WHERE next_run_at <= :now " +
+            "ORDER BY next_run_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NewsEnrichmentJob> findRunnableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    boolean existsByNewsIdAndJobType(Long newsId, EnrichmentJobType jobType);
+}
@@ -1,25 +1,115 @@
 package com.sk.growthnav.api.news.repository;
 
+import com.sk.growthnav.api.news.entity.EnrichmentStatus;
 import com.sk.growthnav.api.news.entity.News;
 import com.sk.growthnav.api.news.entity.NewsStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface NewsRepository extends JpaRepository<News, Long> {
+public interface NewsRepository extends JpaRepository<News, Long>, NewsStatusBatchRepository {
 
     // 상태별 조회
     List<News> findByStatusOrderByCreatedAtDesc(NewsStatus status);
 
+    // 상태별 조회 (작성자 함께 조회)
+    @Query("SELECT n FROM News n JOIN FETCH n.expert WHERE n.status = :status ORDER BY n.createdAt DESC")
+    List<News> findWithExpertByStatus(@Param("status") NewsStatus status);
+
+    /**
+     * 상태별 키셋 첫 페이지 조회 (createdAt, id 내림차순 = 최신순, 작성자 함께 조회)
+     * 조회 개수는 Pageable의 size로 제한 (offset은 항상 0), idx_news_status_created_at_id 사용
+     */
+    @Query("SELECT n FROM News n JOIN FETCH n.expert " +
+            "WHERE n.status = :status " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<News> findFeedFirstPage(@Param("status") NewsStatus status, Pageable pageable);
+
+    /**
+     * 상태별 키셋 다음 페이지 조회 ((createdAt, id)가 커서보다 앞선 뉴스)
+     */
+    @Query("SELECT n FROM News n JOIN FETCH n.expert " +
+            "WHERE n.status = :status " +
+            "AND (n.createdAt < :beforeCreatedAt OR (n.createdAt = :beforeCreatedAt AND n.id < :beforeId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<News> findFeedPage(@Param("status") NewsStatus status,
+                            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                            @Param("beforeId") Long beforeId,
+                            Pageable pageable);
+
     // 모든 뉴스 조회 (관리자용)
     List<News> findAllByOrderByCreatedAtDesc();
 
     // 특정 작성자의 뉴스 조회
     List<News> findByExpertIdOrderByCreatedAtDesc(Long expertId);
 
-    // 제목으로 검색 (승인된 것만)
-    List<News> findByTitleContainingAndStatusOrderByCreatedAtDesc(String title, NewsStatus status);
+    // ID 목록으로 조회 (작성자 함께 조회, 검색 결과 적재용)
+    @Query("SELECT n FROM News n JOIN FETCH n.expert WHERE n.id IN :ids")
+    List<News> findAllWithExpertByIdIn(@Param("ids") List<Long> ids);
+
+    // ===== 일괄 관리 =====
+
+    // 상태 전이 검증용 경량 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT n.id AS id, n.status AS status, n.title AS title FROM News n WHERE n.id IN :ids")
+    List<NewsStatusView> findStatusViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 상태 일괄 변경은 NewsStatusBatchRepository.updateStatusIfUnchanged (실제로 바꾼 ID를 알아야 하므로 ID별 조건부 UPDATE 배치)
+
+    // ===== 일괄 등록 =====
+
+    // 이미 등록된 정규화 URL (중복 제외용, 거부된 뉴스의 URL은 다시 등록할 수 있으므로 제외)
+    @Query("SELECT n.normalizedUrl FROM News n WHERE n.normalizedUrl IN :normalizedUrls " +
+            "AND n.status <> com.sk.growthnav.api.news.entity.NewsStatus.REJECTED")
+    List<String> findExistingNormalizedUrls(@Param("normalizedUrls") Collection<String> normalizedUrls);
+
+    boolean existsByNormalizedUrlAndStatusNot(String normalizedUrl, NewsStatus status);
+
+    // 정규화 URL이 없는 기존 뉴스 (시작 시 채우기용, ID 순)
+    List<News> findTop500ByNormalizedUrlIsNullAndIdGreaterThanOrderByIdAsc(Long afterId);
+
+    // 일괄 등록 단위별 정보 추출 상태 집계
+    @Query("SELECT n.enrichmentStatus AS status, COUNT(n) AS count FROM News n " +
+            "WHERE n.importBatchId = :importBatchId GROUP BY n.enrichmentStatus")
+    List<EnrichmentStatusCount> countEnrichmentStatusByImportBatchId(@Param("importBatchId") String importBatchId);
 
     // 승인 대기중인 뉴스 개수
     long countByStatus(NewsStatus status);
-}
\ No newline at end of file
+
+    // ===== 썸네일 저장소 (내용 주소 기반) =====
+
+    // 같은 원본 이미지 URL로 이미 저장된 썸네일 (다운로드 생략용)
+    Optional<News> findFirstByThumbnailSourceUrlAndThumbnailPathIsNotNull(String thumbnailSourceUrl);
+
+    // 썸네일 참조 수
+    long countByThumbnailPath(String thumbnailPath);
+
+    // GC용: 참조 중인 모든 썸네일 경로
+    @Query("SELECT DISTINCT n.thumbnailPath FROM News n WHERE n.thumbnailPath IS NOT NULL")
+    List<String> findAllThumbnailPaths();
+
+    /**
+     * 일괄 관리용 경량 프로젝션
+     */
+    interface NewsStatusView {
+        Long getId();
+
+        NewsStatus getStatus();
+
+        String getTitle();
+    }
+
+    /**
+     * 정보 추출 상태별 건수
+     */
+    interface EnrichmentStatusCount {
+        EnrichmentStatus getStatus();
+
+        long getCount();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sk.growthnav.api.news.repository;
+
+import com.sk.growthnav.api.news.entity.NewsStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뉴스 상태 일괄 변경 (JDBC 배치, NewsRepository에 합쳐서 사용)
+ */
+public interface NewsStatusBatchRepository {
+
+    /**
+     * 뉴스마다 "현재 상태가 조회한 상태 그대로일 때만" 변경 (ID별 조건부 UPDATE를 한 번의 배치로 전송)
+     * 같은 요청이 동시에 들어와도 한 뉴스는 한 요청만 바꾸므로, 반환된 ID가 이 호출이 실제로 바꾼 뉴스다.
+     * 벌크 UPDATE는 auditing을 거치지 않으므로 updatedAt을 직접 설정
+     *
+     * @param expectedStatuses 뉴스 ID -> 검증 시점에 조회한 상태
+     * @return 실제로 변경된 뉴스 ID (입력 순서)
+     */
+    List<Long> updateStatusIfUnchanged(Map<Long, NewsStatus> expectedStatuses, NewsStatus target, LocalDateTime now);
+}
@@ -0,0 +1,45 @@
+package com.sk.growthnav.api.news.repository;
+
+import com.sk.growthnav.api.news.entity.NewsStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class NewsStatusBatchRepositoryImpl implements NewsStatusBatchRepository {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String UPDATE_IF_UNCHANGED =
+            "UPDATE news SET status = ?, updated_at = ? WHERE news_id = ? AND status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> updateStatusIfUnchanged(Map<Long, NewsStatus> expectedStatuses, NewsStatus target,
+                                              LocalDateTime now) {
+        List<Map.Entry<Long, NewsStatus>> entries = new ArrayList<>(expectedStatuses.entrySet());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_IF_UNCHANGED, entries, BATCH_SIZE, (statement, entry) -> {
+            statement.setString(1, target.name());
+            statement.setObject(2, now);
+            statement.setLong(3, entry.getKey());
+            statement.setString(4, entry.getValue().name());
+        });
+
+        // 배치 단위 결과를 입력 순서대로 펼쳐 1건 이상 바뀐 ID만 수집
+        List<Long> updated = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) {
+                    updated.add(entries.get(index).getKey());
+                }
+                index++;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,253 @@
+package com.sk.growthnav.api.news.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.QueryParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 페이지 제목/대표 이미지 추출 규칙 (셀렉터를 시작 시 한 번만 Evaluator로 컴파일)
+ * 문서를 한 번만 순회하면서 모든 규칙의 후보를 모으고, 규칙 우선순위대로 첫 번째 유효한 값을 고른다.
+ * - 제목: 사이트별 규칙 -> og:title -> twitter:title -> title 태그 -> 첫 h1
+ * - 이미지: og:image -> twitter:image -> 사이트별 규칙 -> 첫 번째 유효한 img
+ * 사이트별 규칙은 기본 제공(news.naver.com) + 설정(app.news.extraction.extra-rules)으로 추가한다.
+ * 설정 형식: "호스트|TITLE 또는 IMAGE|셀렉터[|속성]"을 ';'로 구분 (속성이 없으면 TITLE은 텍스트, IMAGE는 src)
+ */
+@Component
+@Slf4j
+public class MetadataSelectorPlan {
+
+    private static final String NAVER_NEWS_HOST = "news.naver.com";
+
+    private final SitePlan genericPlan;
+    private final Map<String, SitePlan> sitePlans = new LinkedHashMap<>();
+
+    public MetadataSelectorPlan(@Value("${app.news.extraction.extra-rules:}") String extraRules) {
+        List<Rule> genericTitles = List.of(
+                Rule.attr("meta[property=og:title]", "content", Kind.TITLE),
+                Rule.attr("meta[name=twitter:title]", "content", Kind.TITLE),
+                Rule.text("head > title", Kind.TITLE),
+                Rule.text("h1", Kind.TITLE)
+        );
+        List<Rule> metaImages = List.of(
+                Rule.attr("meta[property=og:image]", "content", Kind.IMAGE),
+                Rule.attr("meta[name=twitter:image]", "content", Kind.IMAGE)
+        );
+        List<Rule> fallbackImages = List.of(Rule.attr("img[src]", "src", Kind.IMAGE));
+
+        // 사이트별 규칙 (기본 제공)
+        Map<String, List<Rule>> siteRules = new LinkedHashMap<>();
+        siteRules.put(NAVER_NEWS_HOST, new ArrayList<>(List.of(
+                Rule.text("#ct > div.media_end_head.go_trans > div.media_end_head_title > h2", Kind.TITLE),
+                Rule.text(".media_end_head_title h2", Kind.TITLE),
+                Rule.text("#articleTitle", Kind.TITLE),
+                Rule.text("h1.tts_head", Kind.TITLE),
+                Rule.text(".article_header h1", Kind.TITLE),
+                Rule.attr(".end-photo img", "src", Kind.IMAGE),
+                Rule.attr(".article_body img", "src", Kind.IMAGE),
+                Rule.attr(".img_desc img", "src", Kind.IMAGE),
+                Rule.attr(".photo img", "src", Kind.IMAGE)
+        )));
+
+        // 사이트별 규칙 (설정 추가분, 기본 제공 규칙 뒤에 적용)
+        parseExtraRules(extraRules).forEach((host, rules) ->
+                siteRules.computeIfAbsent(host, key -> new ArrayList<>()).addAll(rules));
+
+        this.genericPlan = new SitePlan(genericTitles, metaImages, List.of(), fallbackImages);
+        siteRules.forEach((host, rules) ->
+                sitePlans.put(host, new SitePlan(genericTitles, metaImages, rules, fallbackImages)));
+
+        log.info("메타데이터 추출 규칙 컴파일 완료: sites={}", sitePlans.keySet());
+    }
+
+    /**
+     * 문서를 한 번 순회하여 제목/대표 이미지 후보 추출 (정리 전 원본 값, 없으면 null)
+     */
+    public Extracted extract(Document document, String url) {
+        SitePlan plan = planFor(url);
+        List<Rule> rules = plan.rules;
+        String[] captured = new String[rules.size()];
+
+        NodeTraversor.filter(new NodeFilter() {
+            @Override
+            public FilterResult head(Node node, int depth) {
+                if (!(node instanceof Element element)) {
+                    return FilterResult.CONTINUE;
+                }
+                for (int i = 0; i < rules.size(); i++) {
+                    if (captured[i] == null) {
+                        captured[i] = rules.get(i).capture(document, element);
+                    }
+                }
+                // 종류별 최우선 규칙이 모두 채워지면 더 볼 필요 없음 (og 태그가 있는 대부분의 문서는 head에서 종료)
+                return captured[0] != null && captured[plan.firstImageIndex] != null
+                        ? FilterResult.STOP
+                        : FilterResult.CONTINUE;
+            }
+
+            @Override
+            public FilterResult tail(Node node, int depth) {
+                return FilterResult.CONTINUE;
+            }
+        }, document);
+
+        return new Extracted(firstOf(captured, 0, plan.firstImageIndex),
+                firstOf(captured, plan.firstImageIndex, rules.size()));
+    }
+
+    private SitePlan planFor(String url) {
+        if (url != null) {
+            for (Map.Entry<String, SitePlan> entry : sitePlans.entrySet()) {
+                if (url.contains(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return genericPlan;
+    }
+
+    private static String firstOf(String[] captured, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (captured[i] != null) {
+                return captured[i];
+            }
+        }
+        return null;
+    }
+
+    static Map<String, List<Rule>> parseExtraRules(String extraRules) {
+        Map<String, List<Rule>> rules = new LinkedHashMap<>();
+        if (extraRules == null || extraRules.isBlank()) {
+            return rules;
+        }
+
+        for (String entry : extraRules.split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("\\|");
+            if (parts.length < 3) {
+                throw new IllegalArgumentException("추출 규칙 형식이 올바르지 않습니다: " + entry);
+            }
+
+            String host = parts[0].trim().toLowerCase(Locale.ROOT);
+            Kind kind = Kind.valueOf(parts[1].trim().toUpperCase(Locale.ROOT));
+            String selector = parts[2].trim();
+            String attribute = parts.length > 3 ? parts[3].trim() : null;
+
+            Rule rule = kind == Kind.TITLE
+                    ? (attribute == null ? Rule.text(selector, kind) : Rule.attr(selector, attribute, kind))
+                    : Rule.attr(selector, attribute == null ? "src" : attribute, kind);
+            rules.computeIfAbsent(host, key -> new ArrayList<>()).add(rule);
+        }
+        return rules;
+    }
+
+    /**
+     * 제목 유효성 검사
+     */
+    static boolean isValidTitle(String title) {
+        return title != null && !title.trim().isEmpty() && title.length() > 3;
+    }
+
+    /**
+     * 이미지 URL 유효성 검사
+     */
+    static boolean isValidImageUrl(String imageUrl) {
+        if (imageUrl == null || imageUrl.trim().isEmpty()) {
+            return false;
+        }
+
+        String lowerUrl = imageUrl.toLowerCase(Locale.ROOT);
+        return (lowerUrl.startsWith("http://") || lowerUrl.startsWith("https://") || lowerUrl.startsWith("//")) &&
+                (lowerUrl.contains(".jpg") || lowerUrl.contains(".jpeg") || lowerUrl.contains(".png") ||
+                        lowerUrl.contains(".gif") || lowerUrl.contains(".webp"));
+    }
+
+    enum Kind {
+        TITLE(MetadataSelectorPlan::isValidTitle),
+        IMAGE(MetadataSelectorPlan::isValidImageUrl);
+
+        private final Predicate<String> validator;
+
+        Kind(Predicate<String> validator) {
+            this.validator = validator;
+        }
+    }
+
+    /**
+     * 컴파일된 규칙 하나 (셀렉터와 일치하는 요소 중 값이 유효한 첫 요소를 채택)
+     */
+    static class Rule {
+        private final Evaluator evaluator;
+        private final String attribute;  // null이면 텍스트
+        private final Kind kind;
+
+        private Rule(String selector, String attribute, Kind kind) {
+            this.evaluator = QueryParser.parse(selector);
+            this.attribute = attribute;
+            this.kind = kind;
+        }
+
+        static Rule text(String selector, Kind kind) {
+            return new Rule(selector, null, kind);
+        }
+
+        static Rule attr(String selector, String attribute, Kind kind) {
+            return new Rule(selector, attribute, kind);
+        }
+
+        String capture(Document root, Element element) {
+            if (attribute != null && !element.hasAttr(attribute)) {
+                return null;
+            }
+            if (!evaluator.matches(root, element)) {
+                return null;
+            }
+            String value = attribute != null ? element.attr(attribute) : element.text();
+            return kind.validator.test(value) ? value : null;
+        }
+    }
+
+    /**
+     * 사이트별 실행 계획: 제목 규칙들 뒤에 이미지 규칙들을 우선순위 순으로 나열
+     */
+    private static class SitePlan {
+        private final List<Rule> rules = new ArrayList<>();
+        private final int firstImageIndex;
+
+        private SitePlan(List<Rule> genericTitles, List<Rule> metaImages, List<Rule> siteRules, List<Rule> fallbackImages) {
+            siteRules.stream().filter(rule -> rule.kind == Kind.TITLE).forEach(rules::add);
+            rules.addAll(genericTitles);
+            this.firstImageIndex = rules.size();
+            rules.addAll(metaImages);
+            siteRules.stream().filter(rule -> rule.kind == Kind.IMAGE).forEach(rules::add);
+            rules.addAll(fallbackImages);
+        }
+    }
+
+    /**
+     * 추출된 원본 값 (찾지 못한 항목은 null)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Extracted {
+        private final String title;
+        private final String imageUrl;
+    }
+}
@@ -0,0 +1,169 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.entity.EnrichmentJobType;
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.api.news.entity.NewsEnrichmentJob;
+import com.sk.growthnav.api.news.repository.NewsEnrichmentJobRepository;
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 뉴스 정보 추출 작업 큐 (news_enrichment_job 테이블)
+ * 작업 등록/가져가기/완료/재시도 예약을 각각 짧은 트랜잭션으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class NewsEnrichmentJobService {
+
+    private final NewsEnrichmentJobRepository jobRepository;
+    private final NewsRepository newsRepository;
+
+    // 최대 시도 횟수 (초과 시 실패 처리)
+    @Value("${app.news.enrichment.max-attempts:5}")
+    private int maxAttempts;
+
+    // 재시도 기본 간격 (시도할 때마다 2배, 최대 max-backoff-ms)
+    @Value("${app.news.enrichment.base-backoff-ms:30000}")
+    private long baseBackoffMs;
+
+    @Value("${app.news.enrichment.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    // 작업자가 가져간 작업의 임대 시간 (이 시간 안에 끝나지 않으면 다른 작업자가 다시 가져감)
+    @Value("${app.news.enrichment.lease-ms:300000}")
+    private long leaseMs;
+
+    /**
+     * 작업 등록 (호출한 트랜잭션과 함께 커밋됨)
+     */
+    @Transactional
+    public void enqueue(Long newsId, EnrichmentJobType jobType) {
+        if (jobRepository.existsByNewsIdAndJobType(newsId, jobType)) {
+            log.debug("이미 등록된 정보 추출 작업: newsId={}, jobType={}", newsId, jobType);
+            return;
+        }
+
+        jobRepository.save(NewsEnrichmentJob.builder()
+                .newsId(newsId)
+                .jobType(jobType)
+                .nextRunAt(LocalDateTime.now())
+                .build());
+        log.info("정보 추출 작업 등록: newsId={}, jobType={}", newsId, jobType);
+    }
+
+    /**
+     * 새로 등록된 뉴스들의 작업을 한 번에 등록 (일괄 등록용, 중복 확인 생략, 배치 INSERT로 전송)
+     */
+    @Transactional
+    public void enqueueAll(List<Long> newsIds, EnrichmentJobType jobType) {
+        if (newsIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.saveAll(newsIds.stream()
+                .map(newsId -> NewsEnrichmentJob.builder()
+                        .newsId(newsId)
+                        .jobType(jobType)
+                        .nextRunAt(now)
+                        .build())
+                .toList());
+        log.info("정보 추출 작업 일괄 등록: count={}, jobType={}", newsIds.size(), jobType);
+    }
+
+    /**
+     * 실행할 작업을 최대 limit건 가져옴 (가져간 작업은 임대 시간 동안 다른 작업자에게 보이지 않음)
+     */
+    @Transactional
+    public List<ClaimedJob> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NewsEnrichmentJob> jobs = jobRepository.findRunnableForUpdate(now, limit);
+
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime leaseUntil = now.plusNanos(leaseMs * 1_000_000);
+        jobs.forEach(job -> job.lease(leaseUntil));
+
+        // 호스트별 동시 실행 제한에 필요한 뉴스 URL을 한 번에 조회
+        Map<Long, String> urlsByNewsId = newsRepository
+                .findAllById(jobs.stream().map(NewsEnrichmentJob::getNewsId).toList())
+                .stream()
+                .collect(Collectors.toMap(News::getId, News::getUrl, (a, b) -> a));
+
+        return jobs.stream()
+                .map(job -> new ClaimedJob(job.getId(), job.getNewsId(), urlsByNewsId.get(job.getNewsId()),
+                        job.getJobType(), job.getAttempts()))
+                .toList();
+    }
+
+    /**
+     * 작업 완료 (큐에서 제거)
+     */
+    @Transactional
+    public void complete(Long jobId) {
+        jobRepository.deleteById(jobId);
+    }
+
+    /**
+     * 작업 실패 기록
+     *
+     * @return 재시도가 예약되었으면 true, 최대 시도 횟수를 넘겨 큐에서 제거되었으면 false
+     */
+    @Transactional
+    public boolean fail(Long jobId, String error) {
+        NewsEnrichmentJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return false;
+        }
+
+        if (job.getAttempts() + 1 >= maxAttempts) {
+            log.warn("정보 추출 최대 시도 횟수 초과, 작업 제거: jobId={}, newsId={}, attempts={}, error={}",
+                    jobId, job.getNewsId(), job.getAttempts() + 1, error);
+            jobRepository.delete(job);
+            return false;
+        }
+
+        long backoffMs = Math.min(maxBackoffMs, baseBackoffMs << Math.min(job.getAttempts(), 20));
+        job.retryAt(LocalDateTime.now().plusNanos(backoffMs * 1_000_000), error);
+        log.info("정보 추출 재시도 예약: jobId={}, newsId={}, attempts={}, backoffMs={}",
+                jobId, job.getNewsId(), job.getAttempts(), backoffMs);
+        return true;
+    }
+
+    /**
+     * 실행하지 못한 작업을 시도 횟수 증가 없이 다시 대기 상태로 (풀 포화/호스트 제한)
+     */
+    @Transactional
+    public void release(Long jobId, long delayMs) {
+        jobRepository.findById(jobId)
+                .ifPresent(job -> job.release(LocalDateTime.now().plusNanos(delayMs * 1_000_000)));
+    }
+
+    /**
+     * 가져간 작업 정보 (트랜잭션 밖에서 사용)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ClaimedJob {
+        private final Long jobId;
+        private final Long newsId;
+        private final String url;  // 뉴스가 삭제되었으면 null
+        private final EnrichmentJobType jobType;
+        private final int attempts;
+    }
+}
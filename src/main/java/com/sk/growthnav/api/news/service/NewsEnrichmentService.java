@@ -0,0 +1,106 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.entity.EnrichmentJobType;
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 뉴스 정보(제목 + 썸네일) 백그라운드 추출
+ * 뉴스는 임시 제목으로 먼저 저장되고, 작업 큐(news_enrichment_job)에 등록된 작업을
+ * NewsEnrichmentWorker가 처리하면서 제목/썸네일/추출 상태가 갱신된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NewsEnrichmentService {
+
+    private final NewsRepository newsRepository;
+    private final PageMetadataService pageMetadataService;
+    private final NewsThumbnailService newsThumbnailService;
+    private final NewsEnrichmentJobService newsEnrichmentJobService;
+    private final NewsFeedCache newsFeedCache;
+    private final NewsSearchService newsSearchService;
+
+    /**
+     * 정보 추출 작업 등록 (뉴스 저장과 같은 트랜잭션으로 커밋되어 유실되지 않음)
+     *
+     * @param needsTitle 사용자가 제목을 입력하지 않아 추출한 제목으로 교체해야 하는지 여부
+     */
+    public void enqueue(Long newsId, boolean needsTitle) {
+        newsEnrichmentJobService.enqueue(newsId,
+                needsTitle ? EnrichmentJobType.TITLE_AND_THUMBNAIL : EnrichmentJobType.THUMBNAIL);
+    }
+
+    /**
+     * 페이지 메타데이터(1회 다운로드) -> 썸네일 저장 -> 뉴스 갱신
+     * 일시적인 실패(페이지 다운로드 실패, 이미지 연결 실패/시간 초과)는 예외로 알려 작업 큐에서 재시도하게 하고,
+     * 이미지의 영구 실패(4xx, 지원하지 않는 형식, 크기 초과)는 추출한 제목만 반영하고 썸네일 없이 완료한다.
+     */
+    public void enrich(Long newsId, boolean needsTitle) {
+        News news = newsRepository.findById(newsId).orElse(null);
+        if (news == null) {
+            log.warn("정보 추출 대상 뉴스가 삭제됨: newsId={}", newsId);
+            return;
+        }
+        String url = news.getUrl();
+
+        PageMetadataService.PageMetadata metadata = pageMetadataService.getMetadata(url);
+        if (!metadata.isFetched()) {
+            throw new IllegalStateException("페이지를 가져오지 못했습니다: " + url);
+        }
+
+        // 같은 URL의 메타데이터는 캐시되어 있으므로 페이지를 다시 받지 않음
+        NewsThumbnailService.ThumbnailResult thumbnailResult = null;
+        if (metadata.getImageUrl() != null) {
+            thumbnailResult = newsThumbnailService.extractAndSaveThumbnail(url, newsId);
+            if (!thumbnailResult.isSuccess()) {
+                if (thumbnailResult.isRetryable()) {
+                    throw new IllegalStateException(thumbnailResult.getErrorMessage());
+                }
+                log.info("썸네일을 만들 수 없는 이미지, 썸네일 없이 완료: newsId={}, reason={}",
+                        newsId, thumbnailResult.getErrorMessage());
+                thumbnailResult = null;
+            }
+        } else {
+            log.info("대표 이미지가 없는 페이지, 썸네일 없이 완료: newsId={}, url={}", newsId, url);
+        }
+
+        // 추출 중 삭제되었을 수 있으므로 다시 조회
+        News current = newsRepository.findById(newsId).orElse(null);
+        if (current == null) {
+            log.warn("정보 추출 중 뉴스가 삭제됨: newsId={}", newsId);
+            return;
+        }
+
+        current.completeEnrichment(needsTitle ? metadata.getTitle() : null);
+        if (thumbnailResult != null) {
+            current.setThumbnail(thumbnailResult.getFilePath(), thumbnailResult.getAccessUrl(),
+                    thumbnailResult.getSourceUrl());
+        }
+        newsRepository.save(current);
+        if (current.isApproved()) {
+            newsFeedCache.invalidate();
+            newsSearchService.index(current.getId(), current.getTitle());
+        }
+
+        log.info("뉴스 정보 추출 완료: newsId={}, title={}, thumbnailUrl={}",
+                newsId, current.getTitle(), current.getThumbnailUrl());
+    }
+
+    /**
+     * 재시도를 모두 소진한 경우 추출 실패로 표시 (임시 제목 유지)
+     */
+    public void markFailed(Long newsId) {
+        try {
+            newsRepository.findById(newsId).ifPresent(news -> {
+                news.failEnrichment();
+                newsRepository.save(news);
+            });
+        } catch (Exception e) {
+            log.error("뉴스 정보 추출 상태 갱신 실패: newsId={}, error={}", newsId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.sk.growthnav.api.news.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 뉴스 정보 추출 작업 큐 폴링 작업자
+ * 주기적으로 실행할 작업을 일괄로 가져와 썸네일 전용 풀에서 처리한다.
+ * 가져가기는 SELECT ... FOR UPDATE SKIP LOCKED로 이루어지므로 여러 파드에서 동시에 실행해도 안전하다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsEnrichmentWorker {
+
+    // 풀 포화/호스트 제한으로 실행하지 못한 작업의 재대기 시간
+    private static final long RELEASE_DELAY_MS = 10_000;
+
+    private final NewsEnrichmentJobService jobService;
+    private final NewsEnrichmentService enrichmentService;
+    private final ThumbnailTaskDispatcher thumbnailTaskDispatcher;
+
+    @Value("${app.news.enrichment.worker-enabled:true}")
+    private boolean workerEnabled;
+
+    @Value("${app.news.enrichment.batch-size:10}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.news.enrichment.poll-interval-ms:2000}")
+    public void poll() {
+        if (!workerEnabled) {
+            return;
+        }
+
+        List<NewsEnrichmentJobService.ClaimedJob> jobs;
+        try {
+            jobs = jobService.claimBatch(batchSize);
+        } catch (Exception e) {
+            log.warn("정보 추출 작업 가져오기 실패: error={}", e.getMessage());
+            return;
+        }
+
+        if (!jobs.isEmpty()) {
+            log.debug("정보 추출 작업 {}건 가져옴", jobs.size());
+        }
+        jobs.forEach(this::dispatch);
+    }
+
+    private void dispatch(NewsEnrichmentJobService.ClaimedJob job) {
+        if (job.getUrl() == null) {
+            log.info("삭제된 뉴스의 정보 추출 작업 제거: newsId={}", job.getNewsId());
+            jobService.complete(job.getJobId());
+            return;
+        }
+
+        thumbnailTaskDispatcher
+                .submit(job.getUrl(), () -> {
+                    enrichmentService.enrich(job.getNewsId(), job.getJobType().needsTitle());
+                    return null;
+                })
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable == null) {
+                        jobService.complete(job.getJobId());
+                        return;
+                    }
+                    handleFailure(job, throwable);
+                });
+    }
+
+    private void handleFailure(NewsEnrichmentJobService.ClaimedJob job, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+
+        try {
+            if (isDeferred(cause)) {
+                // 실패가 아니므로 시도 횟수를 늘리지 않고 잠시 후 다시 대기
+                log.info("정보 추출 보류, 재대기: newsId={}, reason={}", job.getNewsId(), cause.getMessage());
+                jobService.release(job.getJobId(), RELEASE_DELAY_MS);
+                return;
+            }
+
+            log.warn("정보 추출 실패: newsId={}, attempts={}, error={}",
+                    job.getNewsId(), job.getAttempts() + 1, cause.getMessage());
+            boolean retrying = jobService.fail(job.getJobId(), cause.getMessage());
+            if (!retrying) {
+                enrichmentService.markFailed(job.getNewsId());
+            }
+        } catch (Exception e) {
+            // 상태 기록에 실패해도 임대 시간이 지나면 다시 처리됨
+            log.error("정보 추출 작업 상태 기록 실패: jobId={}, error={}", job.getJobId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 풀 포화/호스트 동시 실행 제한/호스트 요청 속도 제한으로 보류된 경우 (실패 아님)
+     */
+    static boolean isDeferred(Throwable cause) {
+        return cause instanceof ThumbnailTaskDispatcher.ThumbnailDeferredException
+                || cause instanceof WebPageFetcher.HostThrottledException;
+    }
+}
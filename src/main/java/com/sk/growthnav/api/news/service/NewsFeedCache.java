@@ -0,0 +1,87 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.dto.NewsFeedResponse;
+import com.sk.growthnav.global.util.BoundedLruMap;
+import com.sk.growthnav.global.util.TransactionCallbacks;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 승인된 뉴스 피드 앞쪽 페이지 캐시
+ * - 캐시 키에 버전을 포함하여, 승인 상태 변경/삭제 시 버전만 올려 전체를 한 번에 무효화
+ * - 다른 파드의 변경은 알 수 없으므로 짧은 TTL로 최대 지연을 제한
+ */
+@Component
+@Slf4j
+public class NewsFeedCache {
+
+    @Value("${app.news.feed-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    // 캐시할 최대 페이지 수 (커서/크기 조합 기준)
+    @Value("${app.news.feed-cache.max-pages:20}")
+    private int maxPages;
+
+    private long version = 0;
+
+    // 버전과 함께 바꿔야 하므로 version 접근도 pages로 동기화
+    private final BoundedLruMap<String, CacheEntry> pages = BoundedLruMap.ofMaxEntries(32, () -> maxPages);
+
+    /**
+     * 캐시된 페이지 조회, 없으면 loader로 조회 후 캐시
+     * 조회 중 무효화되었다면(버전 변경) 결과를 캐시하지 않음
+     */
+    public NewsFeedResponse get(String cursor, int limit, Supplier<NewsFeedResponse> loader) {
+        long loadVersion;
+        String key;
+        synchronized (pages) {
+            loadVersion = version;
+            key = key(loadVersion, cursor, limit);
+            CacheEntry entry = pages.get(key);
+            if (entry != null && entry.expiresAt >= System.currentTimeMillis()) {
+                return entry.page;
+            }
+        }
+
+        NewsFeedResponse page = loader.get();
+
+        synchronized (pages) {
+            if (loadVersion == version) {
+                pages.put(key, new CacheEntry(page, System.currentTimeMillis() + ttlMs));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 피드 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 무효화하여 커밋 전 재적재된 페이지를 제거
+     */
+    public void invalidate() {
+        bumpVersion();
+
+        TransactionCallbacks.afterCommit(this::bumpVersion);
+    }
+
+    private void bumpVersion() {
+        synchronized (pages) {
+            version++;
+            pages.clear();
+        }
+        log.debug("뉴스 피드 캐시 무효화");
+    }
+
+    private String key(long version, String cursor, int limit) {
+        return version + ":" + (cursor != null ? cursor : "first") + ":" + limit;
+    }
+
+    @AllArgsConstructor
+    private static class CacheEntry {
+        private final NewsFeedResponse page;
+        private final long expiresAt;
+    }
+}
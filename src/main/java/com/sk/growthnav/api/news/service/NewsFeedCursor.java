@@ -0,0 +1,49 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.exception.GeneralException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 뉴스 피드 키셋 커서 (createdAt, id)
+ * ID는 풀 할당 시퀀스라 파드 간 생성 순서와 다를 수 있으므로 createdAt으로 정렬하고 ID는 동률 구분에만 사용한다.
+ * 문자열 형식: "{createdAt epoch 마이크로초}_{뉴스 ID}"
+ */
+@Getter
+@AllArgsConstructor
+class NewsFeedCursor {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    static NewsFeedCursor of(News news) {
+        return new NewsFeedCursor(news.getCreatedAt(), news.getId());
+    }
+
+    static NewsFeedCursor parse(String value) {
+        try {
+            int separator = value.indexOf('_');
+            long micros = Long.parseLong(value.substring(0, separator));
+            long id = Long.parseLong(value.substring(separator + 1));
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(micros, MICROS_PER_SECOND),
+                    (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000,
+                    ZoneOffset.UTC);
+            return new NewsFeedCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new GeneralException(FailureCode._BAD_REQUEST);
+        }
+    }
+
+    String encode() {
+        long micros = createdAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + createdAt.getNano() / 1_000;
+        return micros + "_" + id;
+    }
+}
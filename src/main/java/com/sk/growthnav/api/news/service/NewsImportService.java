@@ -0,0 +1,356 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.member.service.MemberService;
+import com.sk.growthnav.api.news.dto.NewsImportProgressResponse;
+import com.sk.growthnav.api.news.dto.NewsImportRequest;
+import com.sk.growthnav.api.news.dto.NewsImportResponse;
+import com.sk.growthnav.api.news.entity.EnrichmentJobType;
+import com.sk.growthnav.api.news.entity.EnrichmentStatus;
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.api.news.entity.NewsStatus;
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 뉴스 일괄 등록
+ * - 정규화 URL로 요청 안/기존 뉴스와의 중복 제외 (normalized_url 유니크 인덱스가 동시 등록도 막음)
+ * - 조회 이후 다른 요청이 같은 URL을 먼저 등록하면 기존 URL을 다시 읽어 한 번 재시도 (겹친 항목만 중복 처리)
+ * - 뉴스와 정보 추출 작업은 saveAll로 저장 (시퀀스 키라 hibernate.jdbc.batch_size 단위로 묶여 전송됨)
+ * - 제목/썸네일 추출은 작업 큐에 등록되어 NewsEnrichmentWorker가 썸네일 전용 풀(호스트별 제한)로 병렬 처리
+ * - 진행 상황은 등록 단위 ID(import_batch_id)로 집계
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class NewsImportService {
+
+    private static final int MAX_ITEMS = 1000;
+
+    private final NewsRepository newsRepository;
+    private final MemberService memberService;
+    private final TitleExtractorService titleExtractorService;
+    private final NewsEnrichmentJobService newsEnrichmentJobService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 트랜잭션은 시도마다 따로 연다 (유니크 인덱스 위반으로 실패한 세션은 다시 쓸 수 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NewsImportResponse importNews(Long expertId, List<NewsImportRequest.Item> items) {
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_ITEMS + "건까지 등록할 수 있습니다.");
+        }
+        String importId = UUID.randomUUID().toString();
+
+        // 1. URL 정규화 + 요청 안 중복 제외
+        List<NewsImportResponse.Result> results = new ArrayList<>(items.size());
+        List<Candidate> candidates = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            NewsImportRequest.Item item = items.get(i);
+            String url = item.getUrl() == null ? null : item.getUrl().trim();
+            String normalizedUrl = NewsUrlNormalizer.normalize(url);
+
+            if (normalizedUrl == null || url.length() > 500 || normalizedUrl.length() > 500) {
+                results.add(result(i, url, NewsImportResponse.Outcome.INVALID, null));
+            } else if (!seen.add(normalizedUrl)) {
+                results.add(result(i, url, NewsImportResponse.Outcome.DUPLICATE, null));
+            } else {
+                NewsImportResponse.Result pending = result(i, url, NewsImportResponse.Outcome.IMPORTED, null);
+                results.add(pending);
+                candidates.add(new Candidate(pending, url, normalizedUrl, item.getTitle()));
+            }
+        }
+
+        // 2~3. 기존 뉴스와 중복 제외 후 저장
+        Map<Candidate, Long> imported;
+        try {
+            imported = insertNew(expertId, importId, candidates, seen);
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 다른 요청이 같은 URL을 먼저 등록한 경우 (유니크 인덱스 위반): 기존 URL을 다시 읽고 한 번만 재시도
+            log.warn("뉴스 일괄 등록 중 동시 등록된 URL 발견, 재시도: importId={}, error={}", importId, e.getMessage());
+            try {
+                imported = insertNew(expertId, importId, candidates, seen);
+            } catch (DataIntegrityViolationException retryFailure) {
+                log.warn("뉴스 일괄 등록 재시도 실패: importId={}, error={}", importId, retryFailure.getMessage());
+                throw new GeneralException(FailureCode.NEWS_URL_DUPLICATED);
+            }
+        }
+        for (Candidate candidate : candidates) {
+            Long newsId = imported.get(candidate);
+            replace(results, candidate.result,
+                    newsId == null ? NewsImportResponse.Outcome.DUPLICATE : NewsImportResponse.Outcome.IMPORTED, newsId);
+        }
+
+        int invalidCount = (int) results.stream().filter(r -> r.getOutcome() == NewsImportResponse.Outcome.INVALID).count();
+        int duplicateCount = (int) results.stream().filter(r -> r.getOutcome() == NewsImportResponse.Outcome.DUPLICATE).count();
+        log.info("뉴스 일괄 등록 완료: importId={}, expertId={}, requested={}, imported={}, duplicate={}, invalid={}",
+                importId, expertId, items.size(), imported.size(), duplicateCount, invalidCount);
+
+        return NewsImportResponse.builder()
+                .importId(importId)
+                .requestedCount(items.size())
+                .importedCount(imported.size())
+                .duplicateCount(duplicateCount)
+                .invalidCount(invalidCount)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * CSV 일괄 등록 (UTF-8, 열: url[,title], 첫 줄이 "url"로 시작하면 헤더로 간주)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NewsImportResponse importCsv(Long expertId, MultipartFile file) {
+        return importNews(expertId, parseCsv(file));
+    }
+
+    /**
+     * 정규화 URL이 없는 기존 뉴스 한 묶음(ID 순)을 채우고 마지막 ID 반환 (더 없으면 null)
+     * 거부되지 않은 뉴스끼리 같은 정규화 URL이면 먼저 등록된 뉴스를 유지하고 나머지는 null로 둔다 (부분 유니크 인덱스 위반 방지)
+     * 거부된 뉴스는 유니크 대상이 아니므로 항상 채운다.
+     */
+    @Transactional
+    public Long backfillNormalizedUrls(Long afterId) {
+        List<News> rows = newsRepository.findTop500ByNormalizedUrlIsNullAndIdGreaterThanOrderByIdAsc(afterId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, String> normalizedById = new HashMap<>();
+        for (News news : rows) {
+            String normalizedUrl = NewsUrlNormalizer.normalize(news.getUrl());
+            if (normalizedUrl != null && normalizedUrl.length() <= 500) {
+                normalizedById.put(news.getId(), normalizedUrl);
+            }
+        }
+        Set<String> taken = normalizedById.isEmpty() ? new HashSet<>()
+                : new HashSet<>(newsRepository.findExistingNormalizedUrls(new HashSet<>(normalizedById.values())));
+
+        int assigned = 0;
+        for (News news : rows) {
+            String normalizedUrl = normalizedById.get(news.getId());
+            if (normalizedUrl != null && (news.isRejected() || taken.add(normalizedUrl))) {
+                news.assignNormalizedUrl(normalizedUrl);
+                assigned++;
+            }
+        }
+        log.debug("뉴스 정규화 URL 채우기: rows={}, assigned={}", rows.size(), assigned);
+        return rows.get(rows.size() - 1).getId();
+    }
+
+    /**
+     * 일괄 등록 후 제목/썸네일 추출 진행 상황
+     */
+    public NewsImportProgressResponse getProgress(String importId) {
+        long pending = 0;
+        long completed = 0;
+        long failed = 0;
+        for (NewsRepository.EnrichmentStatusCount count : newsRepository.countEnrichmentStatusByImportBatchId(importId)) {
+            if (count.getStatus() == EnrichmentStatus.PENDING) {
+                pending += count.getCount();
+            } else if (count.getStatus() == EnrichmentStatus.FAILED) {
+                failed += count.getCount();
+            } else {
+                completed += count.getCount();
+            }
+        }
+
+        long total = pending + completed + failed;
+        if (total == 0) {
+            throw new GeneralException(FailureCode._NOT_FOUND);
+        }
+
+        return NewsImportProgressResponse.builder()
+                .importId(importId)
+                .total(total)
+                .pending(pending)
+                .completed(completed)
+                .failed(failed)
+                .progressPercent((int) ((completed + failed) * 100 / total))
+                .done(pending == 0)
+                .build();
+    }
+
+    /**
+     * 한 트랜잭션 안에서 기존 뉴스와 중복을 제외하고 배치 INSERT + 정보 추출 작업 일괄 등록
+     * 반환: 저장된 후보 -> 뉴스 ID (빠진 후보는 이미 등록된 URL)
+     */
+    private Map<Candidate, Long> insertNew(Long expertId, String importId, List<Candidate> candidates, Set<String> normalizedUrls) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Member expert = memberService.findById(expertId);
+
+            // 기존 뉴스와 중복 제외 (정규화 URL 인덱스로 한 번에 조회)
+            Set<String> existing = normalizedUrls.isEmpty() ? Set.of()
+                    : new HashSet<>(newsRepository.findExistingNormalizedUrls(normalizedUrls));
+            List<Candidate> toInsert = candidates.stream()
+                    .filter(candidate -> !existing.contains(candidate.normalizedUrl))
+                    .toList();
+
+            // 배치 INSERT (ID는 시퀀스에서 미리 할당)
+            List<News> saved = newsRepository.saveAllAndFlush(toInsert.stream()
+                    .map(candidate -> toNews(candidate, expert, importId))
+                    .toList());
+
+            Map<Candidate, Long> imported = new HashMap<>();
+            List<Long> needsTitleIds = new ArrayList<>();
+            List<Long> thumbnailOnlyIds = new ArrayList<>();
+            for (int i = 0; i < toInsert.size(); i++) {
+                Candidate candidate = toInsert.get(i);
+                Long newsId = saved.get(i).getId();
+                imported.put(candidate, newsId);
+                (candidate.hasUserTitle() ? thumbnailOnlyIds : needsTitleIds).add(newsId);
+            }
+            newsEnrichmentJobService.enqueueAll(needsTitleIds, EnrichmentJobType.TITLE_AND_THUMBNAIL);
+            newsEnrichmentJobService.enqueueAll(thumbnailOnlyIds, EnrichmentJobType.THUMBNAIL);
+            return imported;
+        });
+    }
+
+    private News toNews(Candidate candidate, Member expert, String importId) {
+        String title = candidate.hasUserTitle()
+                ? candidate.title.trim()
+                : titleExtractorService.generateFallbackTitle(candidate.url);
+        if (title.length() > 200) {
+            title = title.substring(0, 200);  // CSV 제목은 요청 검증을 거치지 않음
+        }
+
+        return News.builder()
+                .title(title)
+                .url(candidate.url)
+                .normalizedUrl(candidate.normalizedUrl)
+                .importBatchId(importId)
+                .expert(expert)
+                .status(NewsStatus.PENDING)
+                .enrichmentStatus(EnrichmentStatus.PENDING)
+                .build();
+    }
+
+    private List<NewsImportRequest.Item> parseCsv(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new GeneralException(FailureCode._BAD_REQUEST);
+        }
+
+        List<NewsImportRequest.Item> items = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            boolean first = true;
+            while ((line = reader.readLine()) != null) {
+                if (first) {
+                    line = line.replace("\uFEFF", "");  // BOM 제거
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                List<String> columns = parseCsvLine(line);
+                if (first && columns.get(0).trim().equalsIgnoreCase("url")) {
+                    first = false;
+                    continue;
+                }
+                first = false;
+
+                String title = columns.size() > 1 && !columns.get(1).isBlank() ? columns.get(1).trim() : null;
+                items.add(new NewsImportRequest.Item(columns.get(0).trim(), title));
+                if (items.size() > MAX_ITEMS) {
+                    throw new IllegalArgumentException("한 번에 최대 " + MAX_ITEMS + "건까지 등록할 수 있습니다.");
+                }
+            }
+        } catch (IOException e) {
+            log.warn("CSV 읽기 실패: fileName={}, error={}", file.getOriginalFilename(), e.getMessage());
+            throw new GeneralException(FailureCode._BAD_REQUEST);
+        }
+
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("등록할 뉴스가 없습니다.");
+        }
+        return items;
+    }
+
+    /**
+     * CSV 한 줄 파싱 (큰따옴표로 감싼 값, "" 이스케이프 지원)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    private static NewsImportResponse.Result result(int index, String url, NewsImportResponse.Outcome outcome, Long newsId) {
+        return NewsImportResponse.Result.builder()
+                .index(index)
+                .url(url)
+                .outcome(outcome)
+                .newsId(newsId)
+                .build();
+    }
+
+    private static void replace(List<NewsImportResponse.Result> results, NewsImportResponse.Result target,
+                                NewsImportResponse.Outcome outcome, Long newsId) {
+        results.set(target.getIndex(), result(target.getIndex(), target.getUrl(), outcome, newsId));
+    }
+
+    private static class Candidate {
+        private final NewsImportResponse.Result result;
+        private final String url;
+        private final String normalizedUrl;
+        private final String title;
+
+        private Candidate(NewsImportResponse.Result result, String url, String normalizedUrl, String title) {
+            this.result = result;
+            this.url = url;
+            this.normalizedUrl = normalizedUrl;
+            this.title = title;
+        }
+
+        private boolean hasUserTitle() {
+            return title != null && !title.trim().isEmpty();
+        }
+    }
+}
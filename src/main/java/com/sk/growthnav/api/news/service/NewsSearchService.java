@@ -0,0 +1,211 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.dto.NewsResponse;
+import com.sk.growthnav.api.news.dto.NewsSearchResponse;
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.api.news.entity.NewsStatus;
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import com.sk.growthnav.global.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 승인된 뉴스 제목 검색
+ * - Postgres: pg_trgm GIN 인덱스(title gin_trgm_ops)로 부분 일치 검색 + similarity 순위
+ *   pg_trgm은 3글자 미만 단어에서 trigram을 뽑지 못해 인덱스를 쓰지 못하므로(한국어 2음절 단어가 흔함),
+ *   2글자 단어는 제목 2-gram 배열 GIN 인덱스(news_title_bigrams)로 찾는다.
+ * - 그 외(H2 테스트 프로필): 프로세스 내 2-gram 역색인 (커밋 후 갱신)
+ * Postgres에서 pg_trgm을 준비하지 못하면 시작에 실패한다. 프로세스 내 색인은 파드마다 따로 유지되어
+ * 다른 파드의 변경이 반영되지 않으므로, app.news.search.in-process-fallback을 켠 경우에만 ERROR 로그와 함께 대체한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NewsSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    // 검색어 단어 수 상한 (프로세스 내 색인도 같은 상한 사용)
+    static final int MAX_QUERY_TERMS = 5;
+
+    // 제목의 소문자 2-gram 배열 (2글자 검색어용 인덱스 식, 인덱스에 쓰려면 IMMUTABLE이어야 함)
+    private static final String CREATE_BIGRAM_FUNCTION = """
+            CREATE OR REPLACE FUNCTION news_title_bigrams(title text) RETURNS text[]
+            LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+                SELECT coalesce(array_agg(DISTINCT substr(lower(title), i, 2)), '{}')
+                FROM generate_series(1, char_length(title) - 1) AS i
+            $$""";
+
+    private final NewsRepository newsRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NewsTitleIndex titleIndex = new NewsTitleIndex();
+    private volatile Boolean trigramEnabled;
+
+    @Value("${app.news.search.in-process-fallback:false}")
+    private boolean inProcessFallback;
+
+    /**
+     * 시작 시 검색 방식 결정 (Postgres면 pg_trgm 확장/인덱스 생성 시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        ensureInitialized();
+    }
+
+    private synchronized void ensureInitialized() {
+        if (trigramEnabled != null) {
+            return;
+        }
+
+        boolean enabled = false;
+        String product = jdbcTemplate.execute((Connection connection) ->
+                connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equalsIgnoreCase(product)) {
+            try {
+                jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_news_title_trgm ON news USING gin (title gin_trgm_ops)");
+                jdbcTemplate.execute(CREATE_BIGRAM_FUNCTION);
+                jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_news_title_bigram ON news USING gin (news_title_bigrams(title))");
+                enabled = true;
+            } catch (DataAccessException e) {
+                if (!inProcessFallback) {
+                    throw new IllegalStateException("pg_trgm 확장/인덱스를 만들 수 없습니다. "
+                            + "DBA가 CREATE EXTENSION pg_trgm을 실행하거나 app.news.search.in-process-fallback을 켜야 합니다.", e);
+                }
+                log.error("pg_trgm을 사용할 수 없어 파드별 프로세스 내 색인으로 대체 (다른 파드의 변경은 재시작 전까지 검색되지 않음): error={}",
+                        e.getMessage(), e);
+            }
+        }
+
+        if (!enabled) {
+            rebuildIndex();
+        }
+        trigramEnabled = enabled;
+        log.info("뉴스 검색 초기화 완료: mode={}", enabled ? "pg_trgm" : "in-process");
+    }
+
+    /**
+     * 승인된 뉴스 제목 검색 (관련도 순, 같으면 최신순)
+     */
+    public NewsSearchResponse search(String query, Integer page, Integer size) {
+        ensureInitialized();
+
+        String trimmed = query == null ? "" : query.trim();
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int offset = pageNumber * pageSize;
+
+        List<Long> ids = trimmed.isEmpty()
+                ? List.of()
+                : trigramEnabled
+                ? searchWithTrigram(trimmed, offset, pageSize + 1)
+                : titleIndex.search(trimmed, offset, pageSize + 1);
+
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+
+        return NewsSearchResponse.builder()
+                .query(trimmed)
+                .news(loadInOrder(pageIds))
+                .page(pageNumber)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // ===== 프로세스 내 색인 유지 (pg_trgm 사용 시에는 무시, 트랜잭션 안이면 커밋 후 반영) =====
+
+    /**
+     * 승인된 뉴스 색인 (승인 / 승인된 뉴스의 제목 변경)
+     */
+    public void index(Long newsId, String title) {
+        if (Boolean.FALSE.equals(trigramEnabled)) {
+            TransactionCallbacks.afterCommit(() -> titleIndex.put(newsId, title));
+        }
+    }
+
+    /**
+     * 색인 제거 (승인 해제 / 거부 / 삭제)
+     */
+    public void remove(Long newsId) {
+        if (Boolean.FALSE.equals(trigramEnabled)) {
+            TransactionCallbacks.afterCommit(() -> titleIndex.remove(newsId));
+        }
+    }
+
+    private void rebuildIndex() {
+        titleIndex.clear();
+        List<News> approved = newsRepository.findByStatusOrderByCreatedAtDesc(NewsStatus.APPROVED);
+        approved.forEach(news -> titleIndex.put(news.getId(), news.getTitle()));
+        log.info("뉴스 제목 색인 생성: count={}", approved.size());
+    }
+
+    /**
+     * 검색어의 각 단어를 모두 포함하는 제목을 similarity 순으로 조회
+     * (3글자 이상은 ILIKE '%단어%'가 gin_trgm_ops 인덱스를, 2글자는 2-gram 배열 포함 조건이 bigram 인덱스를 사용.
+     *  한 글자 단어는 인덱스로 좁힐 수 없어 다른 단어로 좁힌 결과에 ILIKE로만 적용)
+     */
+    private List<Long> searchWithTrigram(String query, int offset, int limit) {
+        List<String> terms = Arrays.stream(query.toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(term -> !term.isBlank())
+                .limit(MAX_QUERY_TERMS)
+                .toList();
+
+        StringBuilder sql = new StringBuilder("SELECT n.news_id FROM news n WHERE n.status = ?");
+        List<Object> params = new ArrayList<>();
+        params.add(NewsStatus.APPROVED.name());
+        for (String term : terms) {
+            if (term.codePointCount(0, term.length()) == 2) {
+                sql.append(" AND news_title_bigrams(n.title) @> ARRAY[?]::text[]");
+                params.add(term);
+            }
+            sql.append(" AND n.title ILIKE ? ESCAPE '\\'");
+            params.add("%" + escapeLike(term) + "%");
+        }
+        sql.append(" ORDER BY similarity(n.title, ?) DESC, n.news_id DESC LIMIT ? OFFSET ?");
+        params.add(query);
+        params.add(limit);
+        params.add(offset);
+
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray());
+    }
+
+    private String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * ID 순서(순위)를 유지하며 작성자와 함께 조회
+     */
+    private List<NewsResponse> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, News> byId = newsRepository.findAllWithExpertByIdIn(ids).stream()
+                .collect(Collectors.toMap(News::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(NewsResponse::forPublic)
+                .toList();
+    }
+}
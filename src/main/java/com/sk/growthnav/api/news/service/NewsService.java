@@ -2,9 +2,13 @@ package com.sk.growthnav.api.news.service;
 
 import com.sk.growthnav.api.member.entity.Member;
 import com.sk.growthnav.api.member.service.MemberService;
+import com.sk.growthnav.api.news.dto.NewsBulkManageRequest;
+import com.sk.growthnav.api.news.dto.NewsBulkManageResponse;
 import com.sk.growthnav.api.news.dto.NewsCreateRequest;
+import com.sk.growthnav.api.news.dto.NewsFeedResponse;
 import com.sk.growthnav.api.news.dto.NewsManageRequest;
 import com.sk.growthnav.api.news.dto.NewsResponse;
+import com.sk.growthnav.api.news.entity.EnrichmentStatus;
 import com.sk.growthnav.api.news.entity.News;
 import com.sk.growthnav.api.news.entity.NewsStatus;
 import com.sk.growthnav.api.news.repository.NewsRepository;
@@ -12,11 +16,23 @@ import com.sk.growthnav.global.apiPayload.code.FailureCode;
 import com.sk.growthnav.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,10 +40,16 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class NewsService {
 
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 50;
+
     private final NewsRepository newsRepository;
     private final MemberService memberService;
     private final TitleExtractorService titleExtractorService;
-    private final NewsThumbnailService newsThumbnailService;
+    private final NewsEnrichmentService newsEnrichmentService;
+    private final ThumbnailStorageService thumbnailStorageService;
+    private final NewsFeedCache newsFeedCache;
+    private final NewsSearchService newsSearchService;
 
     @Transactional
     public NewsResponse createNews(NewsCreateRequest request) {
@@ -35,125 +57,77 @@ public class NewsService {
 
         Member expert = memberService.findById(request.getExpertId());
 
-        // 제목 자동 추출
-        String finalTitle = determineFinalTitle(request);
+        // 이미 등록된 URL이면 거부 (정규화 URL 기준, 거부된 뉴스의 URL은 다시 등록 가능, 동시 등록은 부분 유니크 인덱스가 막음)
+        String normalizedUrl = NewsUrlNormalizer.normalize(request.getUrl());
+        if (normalizedUrl != null && newsRepository.existsByNormalizedUrlAndStatusNot(normalizedUrl, NewsStatus.REJECTED)) {
+            throw new GeneralException(FailureCode.NEWS_URL_DUPLICATED);
+        }
+
+        // 사용자 제목이 없으면 임시 제목으로 먼저 저장 (실제 제목은 백그라운드에서 추출)
+        boolean hasUserTitle = request.getTitle() != null && !request.getTitle().trim().isEmpty();
+        String initialTitle = hasUserTitle
+                ? request.getTitle().trim()
+                : titleExtractorService.generateFallbackTitle(request.getUrl());
 
         // News 엔티티 생성 (Builder 패턴)
         News news = News.builder()
-                .title(finalTitle)
+                .title(initialTitle)
                 .url(request.getUrl())
+                .normalizedUrl(normalizedUrl)
                 .expert(expert)
                 .status(NewsStatus.PENDING)  // 기본값: 승인 대기
+                .enrichmentStatus(EnrichmentStatus.PENDING)
                 .build();
 
-        News savedNews = newsRepository.save(news);
+        News savedNews;
+        try {
+            savedNews = newsRepository.saveAndFlush(news);
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 다른 요청이 같은 URL을 먼저 등록한 경우
+            throw new GeneralException(FailureCode.NEWS_URL_DUPLICATED);
+        }
         log.info("뉴스 생성 완료: newsId={}, title={}, expert={}, status=PENDING",
-                savedNews.getId(), finalTitle, expert.getName());
+                savedNews.getId(), initialTitle, expert.getName());
 
-        // 비동기 썸네일 추출 실행
-        extractThumbnailAsync(savedNews);
+        // 제목 + 썸네일 추출은 작업 큐에 등록하여 백그라운드에서 한 번에 수행
+        newsEnrichmentService.enqueue(savedNews.getId(), !hasUserTitle);
 
         return NewsResponse.from(savedNews);
     }
 
-    /**
-     * 제목 결정: URL에서 자동 추출
-     */
-    private String determineFinalTitle(NewsCreateRequest request) {
-        // 요청에 제목이 있으면 사용, 없으면 URL에서 추출
-        if (request.getTitle() != null && !request.getTitle().trim().isEmpty()) {
-            log.info("사용자 제공 제목 사용: {}", request.getTitle().trim());
-            return request.getTitle().trim();
-        }
-
-        log.info("URL에서 제목 자동 추출 시작: url={}", request.getUrl());
-        try {
-            String extractedTitle = titleExtractorService.extractTitle(request.getUrl());
-            log.info("제목 추출 성공: url={}, title={}", request.getUrl(), extractedTitle);
-            return extractedTitle;
-        } catch (Exception e) {
-            log.warn("제목 추출 실패, 기본 제목 사용: url={}, error={}", request.getUrl(), e.getMessage());
-            return "뉴스 기사"; // 폴백 제목
-        }
-    }
+    // ========== 기존 조회 메서드들 (생략) ==========
 
-    /**
-     * 비동기 썸네일 추출 (기본 스레드 풀 사용)
-     */
-    private void extractThumbnailAsync(News news) {
-        log.info("비동기 썸네일 추출 요청: newsId={}, url={}", news.getId(), news.getUrl());
-
-        // 기본 ForkJoinPool 사용 (별도 스레드 풀 불필요)
-        CompletableFuture
-                .supplyAsync(() -> {
-                    log.debug("썸네일 추출 작업 시작: newsId={}, thread={}",
-                            news.getId(), Thread.currentThread().getName());
-
-                    long startTime = System.currentTimeMillis();
-                    NewsThumbnailService.ThumbnailResult result =
-                            newsThumbnailService.extractAndSaveThumbnail(news.getUrl(), news.getId());
-                    long duration = System.currentTimeMillis() - startTime;
-
-                    log.debug("썸네일 추출 완료: newsId={}, duration={}ms, success={}",
-                            news.getId(), duration, result.isSuccess());
-
-                    return result;
-                }) // 기본 스레드 풀 사용
-                .thenAccept(thumbnailResult -> {
-                    // 결과 처리
-                    processThumbnailResult(news.getId(), thumbnailResult);
-                })
-                .exceptionally(throwable -> {
-                    // 예외 처리
-                    log.error("썸네일 추출 중 예상치 못한 오류: newsId={}, error={}",
-                            news.getId(), throwable.getMessage(), throwable);
-                    return null;
-                });
+    public List<NewsResponse> getApprovedNews() {
+        List<News> news = newsRepository.findWithExpertByStatus(NewsStatus.APPROVED);
+        return news.stream()
+                .map(NewsResponse::forPublic)
+                .toList();
     }
 
     /**
-     * 썸네일 추출 결과 처리
+     * 승인된 뉴스 피드 키셋 페이지 조회 (앞쪽 페이지는 캐시)
      */
-    private void processThumbnailResult(Long newsId, NewsThumbnailService.ThumbnailResult thumbnailResult) {
-        if (thumbnailResult.isSuccess()) {
-            log.info("썸네일 추출 성공: newsId={}, filePath={}, accessUrl={}",
-                    newsId, thumbnailResult.getFilePath(), thumbnailResult.getAccessUrl());
-
-            // 뉴스 엔티티에 썸네일 정보 업데이트
-            updateNewsThumbnail(newsId, thumbnailResult.getFilePath(), thumbnailResult.getAccessUrl());
-        } else {
-            log.warn("썸네일 추출 실패: newsId={}, error={}",
-                    newsId, thumbnailResult.getErrorMessage());
-        }
+    public NewsFeedResponse getApprovedFeed(String cursor, Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_FEED_SIZE : Math.min(limit, MAX_FEED_SIZE);
+        NewsFeedCursor before = cursor == null || cursor.isBlank() ? null : NewsFeedCursor.parse(cursor);
+        return newsFeedCache.get(before != null ? before.encode() : null, size, () -> loadFeedPage(before, size));
     }
 
-    /**
-     * 뉴스 썸네일 정보 업데이트 (별도 트랜잭션)
-     */
-    @Transactional
-    public void updateNewsThumbnail(Long newsId, String thumbnailPath, String thumbnailUrl) {
-        try {
-            News news = newsRepository.findById(newsId)
-                    .orElseThrow(() -> new GeneralException(FailureCode._NOT_FOUND));
+    private NewsFeedResponse loadFeedPage(NewsFeedCursor before, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest pageRequest = PageRequest.of(0, size + 1);
+        List<News> rows = before == null
+                ? newsRepository.findFeedFirstPage(NewsStatus.APPROVED, pageRequest)
+                : newsRepository.findFeedPage(NewsStatus.APPROVED, before.getCreatedAt(), before.getId(), pageRequest);
 
-            news.setThumbnail(thumbnailPath, thumbnailUrl);
-            newsRepository.save(news);
+        boolean hasNext = rows.size() > size;
+        List<News> page = hasNext ? rows.subList(0, size) : rows;
 
-            log.info("뉴스 썸네일 정보 업데이트 완료: newsId={}, thumbnailUrl={}",
-                    newsId, thumbnailUrl);
-        } catch (Exception e) {
-            log.error("뉴스 썸네일 정보 업데이트 실패: newsId={}, error={}",
-                    newsId, e.getMessage(), e);
-        }
-    }
-
-    // ========== 기존 조회 메서드들 (생략) ==========
-
-    public List<NewsResponse> getApprovedNews() {
-        List<News> news = newsRepository.findByStatusOrderByCreatedAtDesc(NewsStatus.APPROVED);
-        return news.stream()
-                .map(NewsResponse::forPublic)
-                .toList();
+        return NewsFeedResponse.builder()
+                .news(page.stream().map(NewsResponse::forPublic).toList())
+                .nextCursor(hasNext ? NewsFeedCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     public List<NewsResponse> getNewsByExpert(Long expertId) {
@@ -225,9 +199,144 @@ public class NewsService {
         }
 
         newsRepository.save(news);
+        newsFeedCache.invalidate();
+        if (news.isApproved()) {
+            newsSearchService.index(news.getId(), news.getTitle());
+        } else {
+            newsSearchService.remove(news.getId());
+        }
         return actionResult;
     }
 
+    /**
+     * 뉴스 일괄 관리
+     * 상태 전이는 메모리에서 검증하고(단건 관리와 같은 규칙), 변경 가능한 뉴스만 한 번의 UPDATE 배치로 반영한다.
+     * 뉴스마다 "조회한 상태 그대로일 때만" 바꾸므로, 이 요청이 실제로 바꾼 뉴스만 성공/검색 인덱스에 반영한다
+     * (같은 요청이 동시에 들어와도 한쪽만 성공하고, 그 사이 다른 요청이 바꾼 뉴스는 실패).
+     * 처리할 수 없는 ID는 예외 대신 ID별 실패 결과로 반환한다.
+     */
+    @Transactional
+    public NewsBulkManageResponse manageNewsBulk(NewsBulkManageRequest request) {
+        NewsManageRequest.ManageAction action = request.getAction();
+        Set<NewsStatus> fromStatuses = allowedFromStatuses(action);
+        NewsStatus target = targetStatus(action);
+
+        // 중복 ID 제거 (요청 순서 유지)
+        Set<Long> ids = new LinkedHashSet<>(request.getNewsIds());
+        ids.remove(null);
+
+        // 1. 현재 상태 일괄 조회
+        Map<Long, NewsRepository.NewsStatusView> views = findStatusViews(ids);
+
+        // 2. 메모리에서 상태 전이 검증
+        List<Long> applicable = ids.stream()
+                .filter(id -> views.containsKey(id) && fromStatuses.contains(views.get(id).getStatus()))
+                .toList();
+
+        // 3. 변경 가능한 뉴스만 조회한 상태 그대로일 때 변경 (이 요청이 실제로 바꾼 ID를 돌려받음)
+        Set<Long> updated = applicable.isEmpty()
+                ? Set.of()
+                : new HashSet<>(newsRepository.updateStatusIfUnchanged(expectedStatuses(applicable, views), target,
+                LocalDateTime.now()));
+        Map<Long, NewsRepository.NewsStatusView> after = Map.of();
+        if (updated.size() != applicable.size()) {
+            // 검증과 UPDATE 사이에 다른 요청이 상태를 바꾼 경우, 바꾸지 못한 뉴스의 현재 상태만 다시 조회
+            log.warn("뉴스 일괄 관리 중 동시 변경 감지: action={}, expected={}, updated={}",
+                    action, applicable.size(), updated.size());
+            after = findStatusViews(applicable.stream().filter(id -> !updated.contains(id)).toList());
+        }
+        if (!updated.isEmpty()) {
+            newsFeedCache.invalidate();
+        }
+
+        // 4. ID별 결과 구성 + 실제로 바뀐 뉴스만 검색 인덱스 반영
+        List<NewsBulkManageResponse.Result> results = new ArrayList<>(ids.size());
+        int successCount = 0;
+        for (Long id : ids) {
+            NewsRepository.NewsStatusView view = views.get(id);
+            if (view == null) {
+                results.add(failure(id, null, "존재하지 않는 뉴스입니다."));
+            } else if (!fromStatuses.contains(view.getStatus())) {
+                results.add(failure(id, view.getStatus(), invalidTransitionMessage(action)));
+            } else if (!updated.contains(id)) {
+                NewsRepository.NewsStatusView current = after.get(id);
+                results.add(current == null
+                        ? failure(id, null, "처리 중 삭제된 뉴스입니다.")
+                        : failure(id, current.getStatus(), "다른 요청이 먼저 상태를 변경했습니다."));
+            } else {
+                successCount++;
+                results.add(NewsBulkManageResponse.Result.builder()
+                        .newsId(id)
+                        .success(true)
+                        .previousStatus(view.getStatus())
+                        .currentStatus(target)
+                        .message(action.getDescription() + " 완료")
+                        .build());
+                if (target == NewsStatus.APPROVED) {
+                    newsSearchService.index(id, view.getTitle());
+                } else {
+                    newsSearchService.remove(id);
+                }
+            }
+        }
+
+        log.info("뉴스 일괄 관리: action={}, requested={}, success={}, failure={}",
+                action, ids.size(), successCount, ids.size() - successCount);
+
+        return NewsBulkManageResponse.builder()
+                .action(action)
+                .requestedCount(ids.size())
+                .successCount(successCount)
+                .failureCount(ids.size() - successCount)
+                .results(results)
+                .build();
+    }
+
+    private static Map<Long, NewsStatus> expectedStatuses(List<Long> ids, Map<Long, NewsRepository.NewsStatusView> views) {
+        Map<Long, NewsStatus> expected = new LinkedHashMap<>();
+        ids.forEach(id -> expected.put(id, views.get(id).getStatus()));
+        return expected;
+    }
+
+    private Map<Long, NewsRepository.NewsStatusView> findStatusViews(Collection<Long> ids) {
+        return newsRepository.findStatusViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(NewsRepository.NewsStatusView::getId, Function.identity()));
+    }
+
+    private static Set<NewsStatus> allowedFromStatuses(NewsManageRequest.ManageAction action) {
+        return switch (action) {
+            case APPROVE -> EnumSet.of(NewsStatus.PENDING);
+            case UNAPPROVE -> EnumSet.of(NewsStatus.APPROVED);
+            case REJECT -> EnumSet.of(NewsStatus.PENDING, NewsStatus.APPROVED);
+        };
+    }
+
+    private static NewsStatus targetStatus(NewsManageRequest.ManageAction action) {
+        return switch (action) {
+            case APPROVE -> NewsStatus.APPROVED;
+            case UNAPPROVE -> NewsStatus.PENDING;
+            case REJECT -> NewsStatus.REJECTED;
+        };
+    }
+
+    private static String invalidTransitionMessage(NewsManageRequest.ManageAction action) {
+        return switch (action) {
+            case APPROVE -> "승인 대기중인 뉴스만 승인할 수 있습니다.";
+            case UNAPPROVE -> "승인된 뉴스만 승인 해제할 수 있습니다.";
+            case REJECT -> "이미 거부된 뉴스입니다.";
+        };
+    }
+
+    private static NewsBulkManageResponse.Result failure(Long id, NewsStatus status, String message) {
+        return NewsBulkManageResponse.Result.builder()
+                .newsId(id)
+                .success(false)
+                .previousStatus(status)
+                .currentStatus(status)
+                .message(message)
+                .build();
+    }
+
     @Transactional
     public void deleteNews(Long newsId) {
         News news = findNewsById(newsId);
@@ -235,7 +344,13 @@ public class NewsService {
         log.info("뉴스 삭제: newsId={}, title={}, expert={}",
                 news.getId(), news.getTitle(), news.getExpert().getName());
 
+        String thumbnailPath = news.getThumbnailPath();
         newsRepository.delete(news);
+        newsFeedCache.invalidate();
+        newsSearchService.remove(newsId);
+
+        // 다른 뉴스가 같은 썸네일을 참조하지 않으면 커밋 후 파일 삭제
+        thumbnailStorageService.releaseAfterCommit(thumbnailPath);
     }
 
     private News findNewsById(Long newsId) {
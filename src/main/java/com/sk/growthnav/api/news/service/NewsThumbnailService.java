@@ -4,65 +4,76 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.InputStream;
-import java.net.URL;
-import java.net.URLConnection;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NewsThumbnailService {
 
-    @Value("${app.storage.pvc.path:/mnt/gnavi}")
-    private String pvcBasePath;
+    private final PageMetadataService pageMetadataService;
+    private final ThumbnailImageProcessor imageProcessor;
+    private final ThumbnailStorageService thumbnailStorageService;
+    private final WebPageFetcher webPageFetcher;
 
     @Value("${app.storage.base-url:http://localhost:8080}")
     private String baseUrl;
 
-    private static final String THUMBNAIL_DIR = "thumbnails";
-    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
-    private static final int TIMEOUT_MS = 10000;
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int THUMBNAIL_WIDTH = 640;             // 저장할 JPEG 썸네일 폭
 
     /**
      * 뉴스 URL에서 썸네일 이미지를 추출하고 PVC에 저장
+     * 연결 실패/시간 초과/5xx처럼 다시 시도하면 될 수 있는 실패는 retryable 결과로,
+     * 이미지 없음/4xx/지원하지 않는 형식/크기 초과처럼 다시 시도해도 같은 실패는 영구 실패로 반환한다.
+     *
+     * @throws WebPageFetcher.HostThrottledException 호스트 속도 제한으로 지금은 요청할 수 없음 (실패로 바꾸지 않고 전달)
      */
     public ThumbnailResult extractAndSaveThumbnail(String newsUrl, Long newsId) {
         log.info("썸네일 추출 시작: newsUrl={}, newsId={}", newsUrl, newsId);
 
         try {
-            // 1. 웹페이지에서 이미지 URL 추출
-            String imageUrl = extractImageUrl(newsUrl);
+            // 1. 웹페이지에서 이미지 URL 추출 (제목 추출과 같은 페이지 메타데이터 공유)
+            String imageUrl = pageMetadataService.getMetadata(newsUrl).getImageUrl();
             if (imageUrl == null || imageUrl.isEmpty()) {
                 log.warn("이미지 URL 추출 실패: newsUrl={}", newsUrl);
                 return ThumbnailResult.failed("이미지 URL을 찾을 수 없습니다.");
             }
 
-            // 2. 이미지 다운로드 및 저장
-            String savedPath = downloadAndSaveImage(imageUrl, newsId);
+            // 2. 같은 원본 이미지가 이미 저장되어 있으면 다운로드 생략
+            Optional<String> existingPath = thumbnailStorageService.findExistingBySourceUrl(imageUrl);
+            if (existingPath.isPresent()) {
+                log.info("기존 썸네일 재사용: newsId={}, imageUrl={}, path={}", newsId, imageUrl, existingPath.get());
+                return ThumbnailResult.success(existingPath.get(), generateAccessUrl(existingPath.get()), imageUrl);
+            }
+
+            // 3. 이미지 다운로드 및 저장
+            String savedPath = downloadAndSaveImage(imageUrl);
             if (savedPath == null) {
-                log.warn("이미지 저장 실패: imageUrl={}", imageUrl);
-                return ThumbnailResult.failed("이미지 저장에 실패했습니다.");
+                log.warn("이미지 저장 불가 (재시도하지 않음): imageUrl={}", imageUrl);
+                return ThumbnailResult.failed("사용할 수 없는 이미지입니다.");
             }
 
-            // 3. 접근 가능한 URL 생성
+            // 4. 접근 가능한 URL 생성
             String accessUrl = generateAccessUrl(savedPath);
 
             log.info("썸네일 추출 완료: newsId={}, savedPath={}, accessUrl={}",
                     newsId, savedPath, accessUrl);
 
-            return ThumbnailResult.success(savedPath, accessUrl);
+            return ThumbnailResult.success(savedPath, accessUrl, imageUrl);
 
+        } catch (WebPageFetcher.HostThrottledException e) {
+            throw e;
+        } catch (IOException e) {
+            log.warn("썸네일 다운로드 일시 실패: newsUrl={}, newsId={}, error={}", newsUrl, newsId, e.getMessage());
+            return ThumbnailResult.retryable("썸네일 다운로드에 실패했습니다: " + e.getMessage());
         } catch (Exception e) {
             log.error("썸네일 추출 중 오류: newsUrl={}, newsId={}, error={}",
                     newsUrl, newsId, e.getMessage(), e);
@@ -71,179 +82,104 @@ public class NewsThumbnailService {
     }
 
     /**
-     * 웹페이지에서 대표 이미지 URL 추출
+     * 이미지 다운로드 및 PVC에 저장
+     * 최대 크기를 읽는 도중에 강제하고(chunked 응답 포함), 매직 바이트로 형식을 확인한 뒤
+     * 고정 폭 JPEG를 생성하여 저장한다. 파일명은 원본 바이트의 SHA-256이므로
+     * 같은 이미지가 이미 저장되어 있으면 다시 쓰지 않는다.
+     *
+     * @return 저장된 썸네일의 상대 경로, 다시 시도해도 같은 결과인 이미지(4xx, 크기 초과, 이미지 아님, 디코딩 불가)는 null
+     * @throws IOException 연결 실패/시간 초과/5xx/저장 실패 등 다시 시도할 수 있는 실패
      */
-    private String extractImageUrl(String newsUrl) {
+    private String downloadAndSaveImage(String imageUrl) throws IOException {
+        ThumbnailImageProcessor.DownloadedFile downloaded = null;
         try {
-            Document document = Jsoup.connect(newsUrl)
-                    .userAgent(USER_AGENT)
-                    .timeout(TIMEOUT_MS)
-                    .followRedirects(true)
-                    .get();
+            // 1. PVC 썸네일 디렉토리 생성
+            Path thumbnailDir = thumbnailStorageService.thumbnailDir();
 
-            // 1순위: Open Graph 이미지
-            String ogImage = document.select("meta[property=og:image]").attr("content");
-            if (isValidImageUrl(ogImage)) {
-                return makeAbsoluteUrl(ogImage, newsUrl);
-            }
+            // 2. 이미지 다운로드 연결 (호스트별 속도 제한 적용)
+            try (WebPageFetcher.StreamResponse response = webPageFetcher.openStream(imageUrl)) {
 
-            // 2순위: Twitter Card 이미지
-            String twitterImage = document.select("meta[name=twitter:image]").attr("content");
-            if (isValidImageUrl(twitterImage)) {
-                return makeAbsoluteUrl(twitterImage, newsUrl);
-            }
+                // 3. 선언된 크기가 이미 초과면 본문을 읽지 않음
+                if (response.getContentLength() > MAX_FILE_SIZE) {
+                    log.warn("파일 크기 초과: imageUrl={}, size={}", imageUrl, response.getContentLength());
+                    return null;
+                }
 
-            // 3순위: 네이버 뉴스 특화
-            if (newsUrl.contains("news.naver.com")) {
-                String naverImage = extractNaverNewsImage(document);
-                if (isValidImageUrl(naverImage)) {
-                    return makeAbsoluteUrl(naverImage, newsUrl);
+                // 4. 임시 파일로 스트리밍 다운로드 (읽는 도중 최대 크기 강제, 내용 해시 계산)
+                downloaded = imageProcessor.copyWithLimit(response.getBody(), thumbnailDir, MAX_FILE_SIZE);
+            } catch (WebPageFetcher.HttpStatusException e) {
+                if (!e.isPermanent()) {
+                    throw e;
                 }
+                log.warn("이미지 응답 오류: imageUrl={}, status={}", imageUrl, e.getStatusCode());
+                return null;
             }
-
-            // 4순위: 첫 번째 큰 이미지
-            String firstImage = document.select("img[src]")
-                    .stream()
-                    .map(img -> img.attr("src"))
-                    .filter(this::isValidImageUrl)
-                    .findFirst()
-                    .orElse(null);
-
-            if (firstImage != null) {
-                return makeAbsoluteUrl(firstImage, newsUrl);
+            if (downloaded == null) {
+                log.warn("파일 크기 초과 (다운로드 중): imageUrl={}", imageUrl);
+                return null;
             }
 
-            return null;
-
-        } catch (Exception e) {
-            log.warn("이미지 URL 추출 실패: newsUrl={}, error={}", newsUrl, e.getMessage());
-            return null;
-        }
-    }
-
-    /**
-     * 네이버 뉴스 특화 이미지 추출
-     */
-    private String extractNaverNewsImage(Document document) {
-        // 네이버 뉴스 기사 이미지 셀렉터들
-        String[] selectors = {
-                ".end-photo img",
-                ".article_body img",
-                ".img_desc img",
-                ".photo img"
-        };
-
-        for (String selector : selectors) {
-            String imageSrc = document.select(selector).attr("src");
-            if (isValidImageUrl(imageSrc)) {
-                return imageSrc;
+            // 5. 매직 바이트로 실제 이미지 형식 확인
+            ThumbnailImageProcessor.ImageFormat format = imageProcessor.detectFormat(downloaded.getPath());
+            if (format == ThumbnailImageProcessor.ImageFormat.UNKNOWN) {
+                log.warn("이미지가 아닌 응답: imageUrl={}", imageUrl);
+                return null;
             }
-        }
-        return null;
-    }
-
-    /**
-     * 이미지 다운로드 및 PVC에 저장
-     */
-    private String downloadAndSaveImage(String imageUrl, Long newsId) {
-        try {
-            // 1. PVC 썸네일 디렉토리 생성
-            Path thumbnailDir = Paths.get(pvcBasePath, THUMBNAIL_DIR);
-            Files.createDirectories(thumbnailDir);
 
-            // 2. 파일명 생성 (newsId + UUID + 확장자)
-            String fileExtension = getFileExtension(imageUrl);
-            String fileName = String.format("news_%d_%s%s", newsId, UUID.randomUUID().toString().substring(0, 8), fileExtension);
-            Path filePath = thumbnailDir.resolve(fileName);
+            String hash = downloaded.getSha256();
 
-            // 3. 이미지 다운로드
-            URL url = new URL(imageUrl);
-            URLConnection connection = url.openConnection();
-            connection.setRequestProperty("User-Agent", USER_AGENT);
-            connection.setConnectTimeout(TIMEOUT_MS);
-            connection.setReadTimeout(TIMEOUT_MS);
-
-            // 4. 파일 크기 체크
-            long contentLength = connection.getContentLengthLong();
-            if (contentLength > MAX_FILE_SIZE) {
-                log.warn("파일 크기 초과: imageUrl={}, size={}", imageUrl, contentLength);
-                return null;
+            // 6. 같은 내용이 이미 저장되어 있으면 재사용 (수정 시각 갱신으로 GC 유예)
+            String primaryFileName = String.format("%s_%dw.jpg", hash, THUMBNAIL_WIDTH);
+            String relativePath = thumbnailStorageService.toRelativePath(primaryFileName);
+            if (thumbnailStorageService.reuseIfExists(relativePath)) {
+                log.info("같은 내용의 썸네일 재사용: hash={}", hash);
+                return relativePath;
             }
 
-            // 5. 파일 저장
-            try (InputStream inputStream = connection.getInputStream()) {
-                Files.copy(inputStream, filePath, StandardCopyOption.REPLACE_EXISTING);
+            // 7. 디코딩 후 고정 폭 JPEG 생성 (디코딩 실패는 다시 시도해도 같으므로 영구 실패)
+            //    원본(최대 10MB)은 저장/제공하지 않으므로, JPEG로 만들 수 없는 이미지는 썸네일 없이 거절
+            BufferedImage image;
+            try {
+                image = imageProcessor.decode(downloaded.getPath());
+            } catch (IOException | RuntimeException e) {
+                log.warn("이미지 디코딩 실패: imageUrl={}, format={}, error={}", imageUrl, format, e.getMessage());
+                return null;
             }
-
-            // 6. 저장 확인
-            if (Files.exists(filePath) && Files.size(filePath) > 0) {
-                String relativePath = THUMBNAIL_DIR + "/" + fileName;
-                log.info("이미지 저장 완료: filePath={}, size={}", filePath, Files.size(filePath));
-                return relativePath;
-            } else {
-                log.warn("이미지 저장 실패: 파일이 생성되지 않음");
+            if (image == null) {
+                log.warn("디코더가 없는 이미지 형식, 썸네일 저장 안 함: imageUrl={}, format={}", imageUrl, format);
                 return null;
             }
 
-        } catch (Exception e) {
-            log.error("이미지 다운로드 실패: imageUrl={}, error={}", imageUrl, e.getMessage(), e);
-            return null;
-        }
-    }
+            imageProcessor.writeJpegAtomically(imageProcessor.resizeToWidth(image, THUMBNAIL_WIDTH),
+                    thumbnailDir.resolve(primaryFileName));
 
-    /**
-     * 접근 가능한 URL 생성
-     */
-    private String generateAccessUrl(String relativePath) {
-        return baseUrl + "/files/" + relativePath;  // /api/files에서 /files로 변경
-    }
+            log.info("이미지 저장 완료: format={}, original={}x{}, size={}, primary={}",
+                    format, image.getWidth(), image.getHeight(), downloaded.getSize(), primaryFileName);
+            return relativePath;
 
-    /**
-     * 이미지 URL 유효성 검사
-     */
-    private boolean isValidImageUrl(String imageUrl) {
-        if (imageUrl == null || imageUrl.trim().isEmpty()) {
-            return false;
+        } finally {
+            if (downloaded != null) {
+                deleteQuietly(downloaded.getPath());
+            }
         }
-
-        String lowerUrl = imageUrl.toLowerCase();
-        return (lowerUrl.startsWith("http://") || lowerUrl.startsWith("https://") || lowerUrl.startsWith("//")) &&
-                (lowerUrl.contains(".jpg") || lowerUrl.contains(".jpeg") || lowerUrl.contains(".png") ||
-                        lowerUrl.contains(".gif") || lowerUrl.contains(".webp"));
     }
 
-    /**
-     * 상대 URL을 절대 URL로 변환
-     */
-    private String makeAbsoluteUrl(String imageUrl, String baseUrl) {
-        if (imageUrl.startsWith("//")) {
-            return "https:" + imageUrl;
-        } else if (imageUrl.startsWith("/")) {
-            try {
-                URL url = new URL(baseUrl);
-                return url.getProtocol() + "://" + url.getHost() + imageUrl;
-            } catch (Exception e) {
-                return imageUrl;
-            }
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (Exception e) {
+            log.debug("임시 파일 삭제 실패: path={}", path);
         }
-        return imageUrl;
     }
 
     /**
-     * URL에서 파일 확장자 추출
+     * 접근 가능한 URL 생성
      */
-    private String getFileExtension(String imageUrl) {
-        try {
-            String lowerUrl = imageUrl.toLowerCase();
-            if (lowerUrl.contains(".jpg")) return ".jpg";
-            if (lowerUrl.contains(".jpeg")) return ".jpeg";
-            if (lowerUrl.contains(".png")) return ".png";
-            if (lowerUrl.contains(".gif")) return ".gif";
-            if (lowerUrl.contains(".webp")) return ".webp";
-            return ".jpg"; // 기본값
-        } catch (Exception e) {
-            return ".jpg";
-        }
+    private String generateAccessUrl(String relativePath) {
+        return baseUrl + "/files/" + relativePath;  // /api/files에서 /files로 변경
     }
 
     /**
@@ -255,14 +191,26 @@ public class NewsThumbnailService {
         private final boolean success;
         private final String filePath;
         private final String accessUrl;
+        private final String sourceUrl;    // 원본 이미지 URL
         private final String errorMessage;
+        private final boolean retryable;   // 실패 시 다시 시도하면 성공할 수 있는지 (일시적 네트워크 오류 등)
 
-        public static ThumbnailResult success(String filePath, String accessUrl) {
-            return new ThumbnailResult(true, filePath, accessUrl, null);
+        public static ThumbnailResult success(String filePath, String accessUrl, String sourceUrl) {
+            return new ThumbnailResult(true, filePath, accessUrl, sourceUrl, null, false);
         }
 
+        /**
+         * 다시 시도해도 같은 결과인 실패 (이미지 없음, 4xx, 지원하지 않는 형식, 크기 초과)
+         */
         public static ThumbnailResult failed(String errorMessage) {
-            return new ThumbnailResult(false, null, null, errorMessage);
+            return new ThumbnailResult(false, null, null, null, errorMessage, false);
+        }
+
+        /**
+         * 일시적인 실패 (연결 실패, 시간 초과, 5xx)
+         */
+        public static ThumbnailResult retryable(String errorMessage) {
+            return new ThumbnailResult(false, null, null, null, errorMessage, true);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,214 @@
+package com.sk.growthnav.api.news.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 뉴스 제목 역색인 (pg_trgm을 사용할 수 없는 환경용)
+ * 한국어는 띄어쓰기 단위 단어가 길고 조사가 붙으므로 단어를 2-gram으로 쪼개어 색인한다.
+ * 예: "삼성전자가" -> 삼성, 성전, 전자, 자가 / 검색어 "삼성전자" -> 삼성, 성전, 전자
+ * 결과 조건은 Postgres 경로(단어마다 ILIKE '%단어%')와 같다: 검색어의 띄어쓰기 단위 단어를 모두 포함하는 제목만.
+ * 2-gram은 후보를 좁히는 데만 쓰고, 최종 포함 여부는 정규화한 제목 문자열로 확인한다.
+ */
+class NewsTitleIndex {
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, IndexedTitle> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(Long newsId, String title) {
+        Set<String> tokens = new HashSet<>(tokenize(title));
+        String normalized = normalize(title);
+        lock.writeLock().lock();
+        try {
+            removeInternal(newsId);
+            documents.put(newsId, new IndexedTitle(normalized, tokens));
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, key -> new HashSet<>()).add(newsId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long newsId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(newsId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (검색어의 모든 단어를 포함하는 제목, 2-gram 유사도 내림차순, 같으면 최신(ID 큰) 순)
+     *
+     * @return offset부터 limit건의 뉴스 ID
+     */
+    List<Long> search(String query, int offset, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        // 후보 축소에는 2-gram만 사용 (한 글자 토큰은 한 글자 단어에서만 색인되므로 단어 안의 글자를 찾지 못함)
+        Set<String> requiredTokens = new LinkedHashSet<>();
+        for (String term : terms) {
+            for (String token : tokenize(term)) {
+                if (token.length() == 2) {
+                    requiredTokens.add(token);
+                }
+            }
+        }
+        Set<String> queryTokens = new HashSet<>(tokenize(query));
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(requiredTokens)) {
+                IndexedTitle document = documents.get(id);
+                if (document != null && document.containsAll(terms)) {
+                    ranked.add(Map.entry(id, similarity(queryTokens, document.tokens())));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+
+        return ranked.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 모든 2-gram을 가진 문서 (2-gram이 없는 한 글자 검색어면 전체 문서)
+     */
+    private Set<Long> candidates(Set<String> requiredTokens) {
+        if (requiredTokens.isEmpty()) {
+            return documents.keySet();
+        }
+
+        Set<Long> result = null;
+        for (String token : requiredTokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null) {
+                return Set.of();
+            }
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 2-gram 집합의 자카드 유사도 (pg_trgm similarity와 같은 방식)
+     */
+    private static double similarity(Set<String> queryTokens, Set<String> documentTokens) {
+        if (queryTokens.isEmpty()) {
+            return 0;
+        }
+        long shared = queryTokens.stream().filter(documentTokens::contains).count();
+        return (double) shared / (queryTokens.size() + documentTokens.size() - shared);
+    }
+
+    private void removeInternal(Long newsId) {
+        IndexedTitle document = documents.remove(newsId);
+        if (document == null) {
+            return;
+        }
+        for (String token : document.tokens()) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(newsId);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어의 띄어쓰기 단위 단어 (정규화 후 중복 제거, Postgres 경로와 같은 개수 상한)
+     */
+    static List<String> terms(String query) {
+        return Arrays.stream(normalize(query).split("\\s+"))
+                .filter(term -> !term.isBlank())
+                .distinct()
+                .limit(NewsSearchService.MAX_QUERY_TERMS)
+                .toList();
+    }
+
+    /**
+     * 정규화(NFKC, 소문자, 문장부호 제거) 후 단어별 2-gram (한 글자 단어는 그대로)
+     */
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        String normalized = normalize(text)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String word : normalized.split(" ")) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 포함 여부 확인용 정규화 (NFKC, 소문자, 문장부호 유지)
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedTitle(String text, Set<String> tokens) {
+
+        boolean containsAll(List<String> terms) {
+            return terms.stream().allMatch(text::contains);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.global.util.BoundedLruMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URL;
+
+/**
+ * 뉴스 페이지 메타데이터 추출
+ * - URL당 한 번만 다운로드/파싱하여 제목과 대표 이미지를 함께 추출
+ * - 짧은 TTL의 URL -> 메타데이터 캐시로 같은 기사 재등록 시 네트워크 접근 생략
+ * - 다운로드는 WebPageFetcher(호스트별 속도 제한, 조건부 요청 캐시)를 통해 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PageMetadataService {
+
+    private final TitleExtractorService titleExtractorService;
+    private final MetadataSelectorPlan selectorPlan;
+    private final WebPageFetcher webPageFetcher;
+
+    @Value("${app.news.metadata-cache.ttl-ms:600000}")
+    private long cacheTtlMs;
+
+    @Value("${app.news.metadata-cache.max-size:500}")
+    private int cacheMaxSize;
+
+    private final BoundedLruMap<String, CacheEntry> cache = BoundedLruMap.ofMaxEntries(64, () -> cacheMaxSize);
+
+    /**
+     * URL의 페이지 메타데이터 조회 (캐시 -> 다운로드 순)
+     * 다운로드에 실패해도 예외 대신 비어 있는 메타데이터를 반환 (실패 결과는 캐시하지 않아 작업 큐 재시도 시 다시 시도)
+     *
+     * @throws WebPageFetcher.HostThrottledException 호스트 속도 제한으로 지금은 요청할 수 없음 (실패가 아니므로 그대로 전달)
+     */
+    public PageMetadata getMetadata(String url) {
+        PageMetadata cached = getFromCache(url);
+        if (cached != null) {
+            log.debug("페이지 메타데이터 캐시 적중: url={}", url);
+            return cached;
+        }
+
+        PageMetadata metadata = fetchMetadata(url);
+        if (metadata.isFetched()) {
+            put(url, metadata);
+        }
+        return metadata;
+    }
+
+    /**
+     * 페이지를 한 번 가져와 제목/대표 이미지를 함께 추출
+     */
+    private PageMetadata fetchMetadata(String url) {
+        if (!isValidUrl(url)) {
+            log.warn("유효하지 않은 URL: {}", url);
+            return PageMetadata.empty();
+        }
+
+        log.info("페이지 메타데이터 추출 시작: url={}", url);
+        try {
+            Document document = webPageFetcher.fetchDocument(url);
+
+            // 한 번의 문서 순회로 제목/이미지 후보를 함께 추출
+            MetadataSelectorPlan.Extracted extracted = selectorPlan.extract(document, url);
+            String title = titleExtractorService.cleanExtractedTitle(extracted.getTitle(), url);
+            String imageUrl = extracted.getImageUrl() != null ? makeAbsoluteUrl(extracted.getImageUrl(), url) : null;
+
+            log.info("페이지 메타데이터 추출 완료: url={}, title={}, imageUrl={}", url, title, imageUrl);
+            return new PageMetadata(true, title, imageUrl);
+
+        } catch (WebPageFetcher.HostThrottledException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("페이지 메타데이터 추출 실패: url={}, error={}", url, e.getMessage());
+            return PageMetadata.empty();
+        }
+    }
+
+    /**
+     * URL 유효성 검사
+     */
+    private boolean isValidUrl(String url) {
+        if (url == null || url.trim().isEmpty()) {
+            return false;
+        }
+
+        String lowerUrl = url.toLowerCase();
+        return lowerUrl.startsWith("http://") || lowerUrl.startsWith("https://");
+    }
+
+    /**
+     * 상대 URL을 절대 URL로 변환
+     */
+    private String makeAbsoluteUrl(String imageUrl, String baseUrl) {
+        if (imageUrl.startsWith("//")) {
+            return "https:" + imageUrl;
+        } else if (imageUrl.startsWith("/")) {
+            try {
+                URL url = new URL(baseUrl);
+                return url.getProtocol() + "://" + url.getHost() + imageUrl;
+            } catch (Exception e) {
+                return imageUrl;
+            }
+        }
+        return imageUrl;
+    }
+
+    private PageMetadata getFromCache(String url) {
+        CacheEntry entry = cache.get(url);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            cache.remove(url);
+            return null;
+        }
+        return entry.metadata;
+    }
+
+    private void put(String url, PageMetadata metadata) {
+        cache.put(url, new CacheEntry(metadata, System.currentTimeMillis() + cacheTtlMs));
+    }
+
+    @AllArgsConstructor
+    private static class CacheEntry {
+        private final PageMetadata metadata;
+        private final long expiresAt;
+    }
+
+    /**
+     * 페이지 메타데이터 (찾지 못한 항목은 null)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PageMetadata {
+        private final boolean fetched;
+        private final String title;
+        private final String imageUrl;
+
+        public static PageMetadata empty() {
+            return new PageMetadata(false, null, null);
+        }
+    }
+}
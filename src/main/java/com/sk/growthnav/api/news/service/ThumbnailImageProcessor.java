@@ -0,0 +1,232 @@
+package com.sk.growthnav.api.news.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+
+/**
+ * 썸네일 이미지 처리
+ * - 최대 크기를 넘으면 읽는 도중 중단하는 스트리밍 다운로드 (내용 SHA-256 동시 계산)
+ * - 매직 바이트로 실제 이미지 형식 판별 (URL 확장자/Content-Type 불신)
+ * - 고정 폭 JPEG 변형 생성
+ * - 임시 파일에 쓴 뒤 rename으로 원자적 저장 (읽는 쪽이 쓰다 만 파일을 보지 않음)
+ */
+@Component
+@Slf4j
+public class ThumbnailImageProcessor {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final long MAX_PIXELS = 40_000_000L;  // 디코딩 허용 최대 픽셀 수 (압축 폭탄 방지)
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /**
+     * 입력 스트림을 임시 파일로 복사하면서 SHA-256 계산 (maxBytes를 넘으면 중단하고 임시 파일 삭제)
+     *
+     * @return 저장된 임시 파일과 내용 해시, 크기 초과 시 null
+     */
+    public DownloadedFile copyWithLimit(InputStream inputStream, Path directory, long maxBytes) throws IOException {
+        MessageDigest digest = newSha256();
+        Path tempFile = Files.createTempFile(directory, ".download-", ".tmp");
+        boolean completed = false;
+        try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    log.warn("다운로드 크기 제한 초과로 중단: maxBytes={}", maxBytes);
+                    return null;
+                }
+                digest.update(buffer, 0, read);
+                outputStream.write(buffer, 0, read);
+            }
+            completed = true;
+            return new DownloadedFile(tempFile, HexFormat.of().formatHex(digest.digest()), total);
+        } finally {
+            if (!completed) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 파일 앞부분의 매직 바이트로 이미지 형식 판별
+     */
+    public ImageFormat detectFormat(Path file) throws IOException {
+        byte[] header = new byte[12];
+        int length;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            length = inputStream.readNBytes(header, 0, header.length);
+        }
+        return ImageFormat.detect(header, length);
+    }
+
+    /**
+     * 이미지 디코딩 (WebP는 TwelveMonkeys imageio-webp 플러그인으로 읽음, 읽을 수 있는 ImageIO 리더가 없으면 null)
+     * 해상도가 너무 크면 전체 디코딩 전에 IOException
+     */
+    public BufferedImage decode(Path file) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(file.toFile())) {
+            if (imageInputStream == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+
+                // 전체 디코딩 전에 크기부터 확인
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new IOException(String.format("이미지 해상도가 너무 큽니다: %dx%d",
+                            reader.getWidth(0), reader.getHeight(0)));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 폭 기준 축소 + RGB 변환 (원본보다 크게 확대하지 않음, 투명 영역은 흰색 배경)
+     */
+    public BufferedImage resizeToWidth(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    /**
+     * JPEG로 원자적 저장
+     */
+    public void writeJpegAtomically(BufferedImage image, Path target) throws IOException {
+        Path tempFile = Files.createTempFile(target.getParent(), ".thumbnail-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream outputStream = ImageIO.createImageOutputStream(tempFile.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                writer.setOutput(outputStream);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            moveAtomically(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 임시 파일을 대상 경로로 원자적 이동 (지원하지 않는 파일시스템이면 일반 교체)
+     */
+    public void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 다운로드된 임시 파일 (내용 해시 포함)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DownloadedFile {
+        private final Path path;
+        private final String sha256;
+        private final long size;
+    }
+
+    /**
+     * 매직 바이트로 판별한 이미지 형식
+     */
+    public enum ImageFormat {
+        JPEG(".jpg"),
+        PNG(".png"),
+        GIF(".gif"),
+        WEBP(".webp"),
+        UNKNOWN(null);
+
+        private final String extension;
+
+        ImageFormat(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        static ImageFormat detect(byte[] header, int length) {
+            if (length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+                return JPEG;
+            }
+            if (length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G'
+                    && header[4] == 0x0D && header[5] == 0x0A && header[6] == 0x1A && header[7] == 0x0A) {
+                return PNG;
+            }
+            if (length >= 4 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8') {
+                return GIF;
+            }
+            if (length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                    && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+                return WEBP;
+            }
+            return UNKNOWN;
+        }
+    }
+}
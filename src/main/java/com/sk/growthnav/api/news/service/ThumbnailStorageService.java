@@ -0,0 +1,206 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.file.service.FileMemoryCache;
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import com.sk.growthnav.global.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 내용 주소 기반 썸네일 저장소
+ * - 파일명은 원본 이미지 바이트의 SHA-256 ({hash}_{width}w.jpg) -> 같은 이미지는 한 번만 저장
+ * - 참조 수는 해당 썸네일 경로를 가진 News 행 수로 계산 (별도 카운터를 두지 않아 어긋나지 않음)
+ * - 참조가 사라진 파일은 뉴스 삭제 시, 그리고 주기적인 GC에서 정리
+ * - 기존 파일을 재사용하면 수정 시각을 갱신하여, 새 News가 커밋되기 전에 유예 시간 기준 삭제 대상이 되지 않게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ThumbnailStorageService {
+
+    public static final String THUMBNAIL_DIR = "thumbnails";
+
+    private final NewsRepository newsRepository;
+    private final FileMemoryCache fileMemoryCache;
+
+    @Value("${app.storage.pvc.path:/mnt/gnavi}")
+    private String pvcBasePath;
+
+    // 최근에 만든 파일은 GC 대상에서 제외 (아직 News에 기록되기 전일 수 있음)
+    @Value("${app.thumbnail.gc.grace-ms:3600000}")
+    private long gcGraceMs;
+
+    public Path thumbnailDir() throws IOException {
+        Path thumbnailDir = Paths.get(pvcBasePath, THUMBNAIL_DIR);
+        Files.createDirectories(thumbnailDir);
+        return thumbnailDir;
+    }
+
+    /**
+     * 상대 경로(thumbnails/xxx.jpg)의 파일이 실제로 있는지 확인
+     */
+    public boolean exists(String relativePath) {
+        return relativePath != null && Files.isRegularFile(Paths.get(pvcBasePath).resolve(relativePath));
+    }
+
+    /**
+     * 같은 원본 이미지 URL로 이미 저장된 썸네일 경로 (파일이 남아 있을 때만, 재사용 표시)
+     */
+    public Optional<String> findExistingBySourceUrl(String sourceUrl) {
+        return newsRepository.findFirstByThumbnailSourceUrlAndThumbnailPathIsNotNull(sourceUrl)
+                .map(News::getThumbnailPath)
+                .filter(this::reuseIfExists);
+    }
+
+    /**
+     * 기존 썸네일을 재사용하기 전 호출: 파일이 있으면 같은 이미지의 모든 변형 파일 수정 시각을 현재로 갱신
+     * (새 News가 커밋되기 전까지 참조 수가 0이므로, 유예 시간 안에 있어야 삭제되지 않음)
+     *
+     * @return 파일이 있으면 true
+     */
+    public boolean reuseIfExists(String relativePath) {
+        if (!exists(relativePath)) {
+            return false;
+        }
+        try {
+            FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+            for (Path file : groupFiles(relativePath)) {
+                Files.setLastModifiedTime(file, now);
+            }
+            return exists(relativePath);  // 갱신 직전에 삭제되었을 수 있음
+        } catch (IOException e) {
+            log.warn("썸네일 재사용 표시 실패, 새로 저장: path={}, error={}", relativePath, e.getMessage());
+            return false;
+        }
+    }
+
+    public String toRelativePath(String fileName) {
+        return THUMBNAIL_DIR + "/" + fileName;
+    }
+
+    /**
+     * 썸네일 참조 해제
+     * 호출한 트랜잭션이 커밋된 뒤 참조하는 News가 없으면 해당 이미지의 모든 변형 파일 삭제
+     */
+    public void releaseAfterCommit(String relativePath) {
+        if (relativePath == null) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> releaseIfUnreferenced(relativePath));
+    }
+
+    private void releaseIfUnreferenced(String relativePath) {
+        try {
+            long references = newsRepository.countByThumbnailPath(relativePath);
+            if (references > 0) {
+                log.debug("썸네일 참조 남아 있음: path={}, references={}", relativePath, references);
+                return;
+            }
+
+            // 유예 시간 안에 만들어졌거나 재사용된 파일은 아직 커밋 전인 News가 쓸 수 있으므로 GC에 맡김
+            List<Path> files = groupFiles(relativePath);
+            long cutoff = System.currentTimeMillis() - gcGraceMs;
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toMillis() >= cutoff) {
+                    log.debug("유예 시간 안의 썸네일, GC에서 정리: path={}", relativePath);
+                    return;
+                }
+            }
+
+            int deleted = 0;
+            for (Path file : files) {
+                if (Files.deleteIfExists(file)) {
+                    fileMemoryCache.invalidate(file);
+                    deleted++;
+                }
+            }
+            log.info("참조 없는 썸네일 삭제: path={}, deletedFiles={}", relativePath, deleted);
+        } catch (Exception e) {
+            // 실패해도 주기적인 GC에서 다시 정리됨
+            log.warn("썸네일 참조 해제 실패: path={}, error={}", relativePath, e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 이미지의 모든 변형 파일
+     */
+    private List<Path> groupFiles(String relativePath) throws IOException {
+        String groupKey = groupKey(Paths.get(relativePath).getFileName().toString());
+        List<Path> result = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(thumbnailDir(), groupKey + "*")) {
+            for (Path file : files) {
+                if (groupKey.equals(groupKey(file.getFileName().toString()))) {
+                    result.add(file);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 썸네일 디렉토리 GC
+     * News가 참조하지 않는 이미지(모든 변형)와 남은 임시 파일을 유예 시간이 지난 뒤 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.thumbnail.gc.interval-ms:3600000}",
+            initialDelayString = "${app.thumbnail.gc.initial-delay-ms:600000}")
+    public void sweep() {
+        Path thumbnailDir;
+        try {
+            thumbnailDir = thumbnailDir();
+        } catch (Exception e) {
+            log.warn("썸네일 GC 건너뜀, 디렉토리 접근 실패: error={}", e.getMessage());
+            return;
+        }
+
+        Set<String> referencedKeys = new HashSet<>();
+        for (String path : newsRepository.findAllThumbnailPaths()) {
+            referencedKeys.add(groupKey(Paths.get(path).getFileName().toString()));
+        }
+
+        long cutoff = System.currentTimeMillis() - gcGraceMs;
+        int scanned = 0;
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(thumbnailDir)) {
+            for (Path file : files) {
+                scanned++;
+                String fileName = file.getFileName().toString();
+                boolean orphan = fileName.startsWith(".") || !referencedKeys.contains(groupKey(fileName));
+                if (orphan && Files.getLastModifiedTime(file).toMillis() < cutoff && Files.deleteIfExists(file)) {
+                    fileMemoryCache.invalidate(file);
+                    deleted++;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("썸네일 GC 중 오류: error={}", e.getMessage());
+        }
+
+        log.info("썸네일 GC 완료: scanned={}, deleted={}, referenced={}", scanned, deleted, referencedKeys.size());
+    }
+
+    /**
+     * 같은 이미지의 변형 파일을 묶는 키 (확장자와 _{width}w 접미사 제거)
+     * 예: abc..._640w.jpg, abc....webp -> abc... (이전 버전이 만든 _320w.jpg도 같은 묶음으로 정리됨)
+     */
+    static String groupKey(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        String stem = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return stem.replaceFirst("_\\d+w$", "");
+    }
+}
@@ -0,0 +1,155 @@
+package com.sk.growthnav.api.news.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 썸네일 추출 작업 실행기
+ * - thumbnailExecutor(전용 제한 풀)에서만 실행
+ * - 호스트별 동시 실행 수 제한 (같은 사이트에 동시 접속 폭주 방지)
+ *   허용량은 제출 시점에 기다리지 않고 확인하므로, 한 호스트의 작업이 풀 스레드를 붙잡고 다른 호스트 작업을 막지 않는다.
+ *   호스트별 실행 중 건수는 0이 되면 맵에서 제거되어 실행 중인 호스트만 남는다.
+ * - 큐 대기/실행 시간, 큐 길이, 활성 스레드, 거부 건수 지표 기록
+ * 풀이 가득 차거나 호스트 허용량이 없으면 ThumbnailDeferredException으로 바로 완료되며,
+ * 호출 측은 이를 "나중에 재시도"로 처리해야 한다.
+ */
+@Component
+@Slf4j
+public class ThumbnailTaskDispatcher {
+
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+    // 호스트 -> 실행 중(큐 대기 포함) 작업 수
+    private final Map<String, Integer> activeByHost = new ConcurrentHashMap<>();
+
+    private final Timer queueWaitTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+    private final Counter hostThrottledCounter;
+
+    // 호스트별 최대 동시 작업 수
+    @Value("${app.thumbnail.per-host-concurrency:2}")
+    private int perHostConcurrency;
+
+    public ThumbnailTaskDispatcher(@Qualifier("thumbnailExecutor") ThreadPoolTaskExecutor thumbnailExecutor,
+                                   MeterRegistry meterRegistry) {
+        this.thumbnailExecutor = thumbnailExecutor;
+
+        Gauge.builder("news.thumbnail.executor.queue.size", thumbnailExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("썸네일 작업 큐 대기 건수")
+                .register(meterRegistry);
+        Gauge.builder("news.thumbnail.executor.active", thumbnailExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("썸네일 작업 실행 중 스레드 수")
+                .register(meterRegistry);
+
+        this.queueWaitTimer = Timer.builder("news.thumbnail.task.wait")
+                .description("썸네일 작업 큐 대기 시간")
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("news.thumbnail.task.duration")
+                .description("썸네일 작업 실행 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("news.thumbnail.task.rejected")
+                .description("풀 포화로 거부된 썸네일 작업 수")
+                .register(meterRegistry);
+        this.hostThrottledCounter = Counter.builder("news.thumbnail.task.host.throttled")
+                .description("호스트 동시 실행 제한으로 보류된 썸네일 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("news.thumbnail.hosts.active", activeByHost, Map::size)
+                .description("썸네일 작업 실행 중인 호스트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 썸네일 작업 제출
+     *
+     * @param url  작업 대상 URL (호스트별 제한 기준)
+     * @param task 실행할 작업
+     */
+    public <T> CompletableFuture<T> submit(String url, Supplier<T> task) {
+        String host = resolveHost(url);
+        if (!tryAcquire(host)) {
+            hostThrottledCounter.increment();
+            log.debug("호스트 동시 실행 제한으로 썸네일 작업 보류: host={}, limit={}", host, perHostConcurrency);
+            return CompletableFuture.failedFuture(new ThumbnailDeferredException("호스트 동시 실행 제한 초과: " + host));
+        }
+
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return executionTimer.record(task);
+                } finally {
+                    release(host);
+                }
+            }, thumbnailExecutor);
+        } catch (TaskRejectedException e) {
+            release(host);
+            rejectedCounter.increment();
+            log.warn("썸네일 작업 풀 포화로 거부: host={}, queueSize={}",
+                    host, thumbnailExecutor.getThreadPoolExecutor().getQueue().size());
+            return CompletableFuture.failedFuture(new ThumbnailDeferredException("썸네일 작업 풀이 가득 찼습니다."));
+        }
+    }
+
+    /**
+     * 호스트 허용량이 남아 있으면 하나 차지 (기다리지 않음)
+     */
+    boolean tryAcquire(String host) {
+        boolean[] acquired = new boolean[1];
+        activeByHost.compute(host, (key, active) -> {
+            int current = active == null ? 0 : active;
+            if (current >= perHostConcurrency) {
+                return active;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * 호스트 허용량 반환 (실행 중인 작업이 없으면 항목 제거)
+     */
+    void release(String host) {
+        activeByHost.computeIfPresent(host, (key, active) -> active <= 1 ? null : active - 1);
+    }
+
+    int activeHostCount() {
+        return activeByHost.size();
+    }
+
+    private String resolveHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : "unknown";
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * 지금은 실행할 수 없어 나중에 재시도해야 하는 썸네일 작업
+     */
+    public static class ThumbnailDeferredException extends RuntimeException {
+        public ThumbnailDeferredException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,647 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.global.util.BoundedLruMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 외부 페이지/이미지 공용 다운로드 계층
+ * - 호스트별 토큰 버킷으로 요청 속도 제한 (robots.txt의 Crawl-delay가 더 느리면 그 값을 따름)
+ * - HTML 응답은 ETag/Last-Modified와 함께 캐시하고, 재요청 시 조건부 요청(304)으로 본문 전송 생략
+ * - gzip 응답 해제
+ * - 본문 수신 전체 제한 시간 (HttpRequest.timeout은 응답 헤더까지만 적용되므로, 헤더 이후 본문을 조금씩 보내는
+ *   서버가 스레드를 붙잡지 못하도록 제한 시간이 지나면 스트림을 닫아 요청을 취소)
+ * - 호스트별 요청/오류/지연 시간 통계
+ * 호스트 허용량이 남아 있지 않으면 기다리지 않고(제한된 작업 스레드를 붙잡지 않도록) 바로 HostThrottledException(비검사 예외)을 던지며,
+ * 중간 계층은 이를 실패로 바꾸지 않고 그대로 전달하고 작업 큐는 "나중에 재시도"로 처리한다.
+ */
+@Component
+@Slf4j
+public class WebPageFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration ROBOTS_TIMEOUT = Duration.ofSeconds(3);
+    private static final int MAX_HTML_BYTES = 2 * 1024 * 1024;  // Jsoup 기본 maxBodySize와 동일
+    private static final int MAX_ROBOTS_BYTES = 64 * 1024;
+
+    private final HttpClient httpClient;
+    private final Timer fetchTimer;
+    private final Timer fetchErrorTimer;
+
+    // 호스트별 속도 제한 상태 (호스트 수 제한, TTL이 지나면 robots.txt를 다시 읽어 새로 만듦)
+    private final BoundedLruMap<String, HostState> hosts = BoundedLruMap.ofMaxEntries(64, () -> maxHosts);
+
+    // 본문 수신 제한 시간이 지난 스트림을 닫는 스레드
+    private final ScheduledExecutorService deadlineScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "web-fetch-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final BoundedLruMap<String, CachedResponse> responseCache = BoundedLruMap.ofMaxEntries(64, () -> cacheMaxEntries);
+
+    // 호스트별 초당 요청 수
+    @Value("${app.news.fetch.host-rate-per-sec:1.0}")
+    private double hostRatePerSec;
+
+    // 호스트별 연속 요청 허용 수 (버킷 크기)
+    @Value("${app.news.fetch.host-burst:3}")
+    private int hostBurst;
+
+    // 속도 제한 상태를 유지할 최대 호스트 수 (초과 시 가장 오래 쓰지 않은 호스트부터 제거)
+    @Value("${app.news.fetch.max-hosts:1000}")
+    private int maxHosts;
+
+    // 호스트 속도 제한 상태 유지 시간 (지나면 robots.txt Crawl-delay를 다시 읽음)
+    @Value("${app.news.fetch.host-state-ttl-ms:3600000}")
+    private long hostStateTtlMs;
+
+    // 응답 헤더 수신 후 본문 전체를 받을 때까지의 제한 시간
+    @Value("${app.news.fetch.body-timeout-ms:20000}")
+    private long bodyTimeoutMs;
+
+    @Value("${app.news.fetch.respect-crawl-delay:true}")
+    private boolean respectCrawlDelay;
+
+    @Value("${app.news.fetch.cache.max-entries:200}")
+    private int cacheMaxEntries;
+
+    public WebPageFetcher(MeterRegistry meterRegistry) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.fetchTimer = Timer.builder("news.fetch.duration")
+                .description("외부 페이지/이미지 요청 시간")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.fetchErrorTimer = Timer.builder("news.fetch.duration")
+                .description("외부 페이지/이미지 요청 시간")
+                .tag("outcome", "error")
+                .register(meterRegistry);
+    }
+
+    /**
+     * HTML 페이지 다운로드 및 파싱 (캐시된 응답이 있으면 조건부 요청)
+     */
+    public Document fetchDocument(String url) throws IOException {
+        URI uri = toUri(url);
+        HostState host = acquire(uri);
+        CachedResponse cached = getCached(url);
+
+        HttpRequest.Builder builder = baseRequest(uri)
+                .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8")
+                .header("Accept-Language", "ko-KR,ko;q=0.9,en;q=0.8")
+                .header("Accept-Encoding", "gzip");
+        if (isNaver(uri)) {
+            // 네이버 뉴스는 브라우저 헤더가 없으면 차단되는 경우가 있음
+            builder.header("Referer", "https://www.google.com")
+                    .header("DNT", "1")
+                    .header("Upgrade-Insecure-Requests", "1");
+        }
+        if (cached != null) {
+            if (cached.etag != null) {
+                builder.header("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                builder.header("If-Modified-Since", cached.lastModified);
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = send(builder.GET().build());
+
+            if (response.statusCode() == 304 && cached != null) {
+                response.body().close();
+                host.stats.recordNotModified();
+                recordSuccess(host, startedAt);
+                log.debug("조건부 요청 캐시 적중: url={}", url);
+                return parse(cached.body, cached.charset, cached.finalUrl);
+            }
+            if (response.statusCode() >= 400) {
+                response.body().close();
+                throw new HttpStatusException(response.statusCode(), url);
+            }
+
+            byte[] body;
+            try (InputStream in = openBody(response)) {
+                body = readLimited(in, MAX_HTML_BYTES);
+            }
+            String charset = charsetOf(response.headers().firstValue("Content-Type").orElse(null));
+            String finalUrl = response.uri().toString();
+            recordSuccess(host, startedAt);
+
+            cacheIfValidatable(url, response, body, charset, finalUrl);
+            return parse(body, charset, finalUrl);
+
+        } catch (IOException e) {
+            recordError(host, startedAt);
+            throw e;
+        }
+    }
+
+    /**
+     * 바이너리(이미지) 스트리밍 다운로드 (캐시하지 않음, 호출 측에서 닫아야 함)
+     * 본문 수신 제한 시간이 지나면 읽기가 HttpTimeoutException으로 끝남
+     */
+    public StreamResponse openStream(String url) throws IOException {
+        URI uri = toUri(url);
+        HostState host = acquire(uri);
+
+        HttpRequest request = baseRequest(uri)
+                .header("Accept", "image/avif,image/webp,image/*,*/*;q=0.8")
+                .GET()
+                .build();
+
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = send(request);
+            if (response.statusCode() >= 400) {
+                response.body().close();
+                throw new HttpStatusException(response.statusCode(), url);
+            }
+            recordSuccess(host, startedAt);
+
+            long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1L);
+            return new StreamResponse(openBody(response), contentLength);
+
+        } catch (IOException e) {
+            recordError(host, startedAt);
+            throw e;
+        }
+    }
+
+    /**
+     * 호스트별 통계 (요청 수 내림차순)
+     */
+    public List<HostStatsSnapshot> getHostStats() {
+        return hosts.snapshot().entrySet().stream()
+                .map(entry -> entry.getValue().stats.snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(HostStatsSnapshot::getRequests).reversed())
+                .toList();
+    }
+
+    // ===== 요청 공통 =====
+
+    private HttpRequest.Builder baseRequest(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("User-Agent", USER_AGENT);
+    }
+
+    private HttpResponse<InputStream> send(HttpRequest request) throws IOException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("요청 중 인터럽트되었습니다: " + request.uri(), e);
+        }
+    }
+
+    /**
+     * 본문 스트림 (본문 수신 제한 시간 적용 후 gzip 해제)
+     */
+    private InputStream openBody(HttpResponse<InputStream> response) throws IOException {
+        InputStream body = withDeadline(response.body(), bodyTimeoutMs, response.uri());
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("");
+        if ("gzip".equalsIgnoreCase(encoding.trim())) {
+            return new GZIPInputStream(body);
+        }
+        return body;
+    }
+
+    private InputStream withDeadline(InputStream body, long timeoutMs, URI uri) {
+        DeadlineInputStream stream = new DeadlineInputStream(body, uri);
+        stream.expiry = deadlineScheduler.schedule(stream::expire, timeoutMs, TimeUnit.MILLISECONDS);
+        return stream;
+    }
+
+    private Document parse(byte[] body, String charset, String baseUri) throws IOException {
+        // charset이 null이면 Jsoup이 BOM/meta 태그로 판별
+        return Jsoup.parse(new ByteArrayInputStream(body), charset, baseUri);
+    }
+
+    private static byte[] readLimited(InputStream in, int maxBytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            int writable = Math.min(read, maxBytes - out.size());
+            out.write(buffer, 0, writable);
+            if (out.size() >= maxBytes) {
+                break;  // 나머지는 버림 (Jsoup maxBodySize와 같은 동작)
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static String charsetOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String part : contentType.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                String charset = trimmed.substring("charset=".length()).replace("\"", "").trim();
+                return charset.isEmpty() ? null : charset;
+            }
+        }
+        return null;
+    }
+
+    private static URI toUri(String url) throws IOException {
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getHost() == null) {
+                throw new IOException("호스트가 없는 URL: " + url);
+            }
+            return uri;
+        } catch (IllegalArgumentException e) {
+            throw new IOException("잘못된 URL: " + url, e);
+        }
+    }
+
+    private static boolean isNaver(URI uri) {
+        return uri.getHost().toLowerCase(Locale.ROOT).endsWith("news.naver.com");
+    }
+
+    // ===== 호스트별 속도 제한 =====
+
+    private HostState acquire(URI uri) throws IOException {
+        String key = uri.getHost().toLowerCase(Locale.ROOT);
+        HostState host = hosts.get(key);
+        if (host == null || host.isExpired(hostStateTtlMs)) {
+            // robots.txt 조회(네트워크)를 맵 잠금 밖에서 수행, 통계는 이어서 유지
+            HostState created = new HostState(createBucket(uri), host != null ? host.stats : new HostStats());
+            synchronized (hosts) {
+                HostState current = hosts.get(key);
+                if (current == null || current == host) {
+                    hosts.put(key, created);
+                    current = created;
+                }
+                host = current;
+            }
+        }
+
+        // 대기하지 않음: 작업 큐가 잠시 뒤 재시도하므로 그동안 스레드는 다른 호스트 작업을 처리
+        if (!host.bucket.tryAcquire()) {
+            host.stats.recordThrottled();
+            log.warn("호스트 요청 속도 제한으로 보류: host={}", key);
+            throw new HostThrottledException("호스트 요청 속도 제한 초과: " + key);
+        }
+        return host;
+    }
+
+    private TokenBucket createBucket(URI uri) {
+        double rate = hostRatePerSec;
+        int burst = Math.max(1, hostBurst);
+
+        if (respectCrawlDelay) {
+            Double crawlDelaySeconds = fetchCrawlDelay(uri);
+            if (crawlDelaySeconds != null && crawlDelaySeconds > 0 && 1.0 / crawlDelaySeconds < rate) {
+                rate = 1.0 / crawlDelaySeconds;
+                burst = 1;
+                log.info("robots.txt Crawl-delay 적용: host={}, delay={}s", uri.getHost(), crawlDelaySeconds);
+            }
+        }
+        return new TokenBucket(burst, rate);
+    }
+
+    /**
+     * robots.txt의 User-agent: * 그룹 Crawl-delay (없거나 가져오지 못하면 null)
+     */
+    private Double fetchCrawlDelay(URI uri) {
+        try {
+            URI robots = new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), "/robots.txt", null, null);
+            HttpRequest request = baseRequest(robots).timeout(ROBOTS_TIMEOUT).GET().build();
+            HttpResponse<InputStream> response = send(request);
+            if (response.statusCode() != 200) {
+                response.body().close();
+                return null;
+            }
+            String text;
+            try (InputStream in = withDeadline(response.body(), ROBOTS_TIMEOUT.toMillis(), robots)) {
+                text = new String(readLimited(in, MAX_ROBOTS_BYTES), StandardCharsets.UTF_8);
+            }
+            return parseCrawlDelay(text);
+        } catch (Exception e) {
+            log.debug("robots.txt 조회 실패: host={}, error={}", uri.getHost(), e.getMessage());
+            return null;
+        }
+    }
+
+    static Double parseCrawlDelay(String robotsTxt) {
+        boolean inWildcardGroup = false;
+        boolean previousWasAgent = false;
+        for (String rawLine : robotsTxt.split("\\r?\\n")) {
+            String line = rawLine.replaceAll("#.*$", "").trim();
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String field = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+
+            if (field.equals("user-agent")) {
+                // 연속된 User-agent 줄은 같은 그룹
+                boolean wildcard = value.equals("*");
+                inWildcardGroup = previousWasAgent ? inWildcardGroup || wildcard : wildcard;
+                previousWasAgent = true;
+                continue;
+            }
+            previousWasAgent = false;
+
+            if (inWildcardGroup && field.equals("crawl-delay")) {
+                try {
+                    return Double.parseDouble(value);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    // ===== 응답 캐시 =====
+
+    private CachedResponse getCached(String url) {
+        return responseCache.get(url);
+    }
+
+    private void cacheIfValidatable(String url, HttpResponse<?> response, byte[] body, String charset, String finalUrl) {
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        String cacheControl = response.headers().firstValue("Cache-Control").orElse("").toLowerCase(Locale.ROOT);
+
+        // 검증자가 없으면 조건부 요청을 할 수 없으므로 캐시하지 않음
+        if ((etag == null && lastModified == null) || cacheControl.contains("no-store")) {
+            return;
+        }
+
+        responseCache.put(url, new CachedResponse(body, charset, finalUrl, etag, lastModified));
+    }
+
+    // ===== 통계 =====
+
+    private void recordSuccess(HostState host, long startedAt) {
+        long elapsed = System.nanoTime() - startedAt;
+        host.stats.recordSuccess(elapsed);
+        fetchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordError(HostState host, long startedAt) {
+        long elapsed = System.nanoTime() - startedAt;
+        host.stats.recordError(elapsed);
+        fetchErrorTimer.record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 호스트별 토큰 버킷 (토큰을 미리 예약하고, 부족하면 채워질 때까지의 대기 시간을 반환)
+     */
+    static class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefillAt;
+
+        TokenBucket(int capacity, double tokensPerSecond) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.tokens = capacity;
+            this.lastRefillAt = System.nanoTime();
+        }
+
+        /**
+         * @return 토큰이 있으면 하나 사용하고 true, 없으면 예약하지 않고 false
+         */
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillAt) * tokensPerNano);
+            lastRefillAt = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static class HostState {
+        private final TokenBucket bucket;
+        private final HostStats stats;
+        private final long createdAt = System.currentTimeMillis();
+
+        private HostState(TokenBucket bucket, HostStats stats) {
+            this.bucket = bucket;
+            this.stats = stats;
+        }
+
+        private boolean isExpired(long ttlMs) {
+            return System.currentTimeMillis() - createdAt >= ttlMs;
+        }
+    }
+
+    private static class HostStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void recordSuccess(long nanos) {
+            record(nanos);
+        }
+
+        void recordError(long nanos) {
+            errors.increment();
+            record(nanos);
+        }
+
+        void recordNotModified() {
+            notModified.increment();
+        }
+
+        void recordThrottled() {
+            throttled.increment();
+        }
+
+        private void record(long nanos) {
+            requests.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        HostStatsSnapshot snapshot(String host) {
+            long count = requests.sum();
+            return new HostStatsSnapshot(host, count, errors.sum(), notModified.sum(), throttled.sum(),
+                    count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count),
+                    TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+        }
+    }
+
+    /**
+     * 제한 시간이 지나면 원본 스트림을 닫아(요청 취소) 막혀 있던 읽기를 깨우고, 이후 읽기는 HttpTimeoutException
+     */
+    private static class DeadlineInputStream extends FilterInputStream {
+        private final URI uri;
+        private volatile boolean expired;
+        private volatile ScheduledFuture<?> expiry;
+
+        private DeadlineInputStream(InputStream in, URI uri) {
+            super(in);
+            this.uri = uri;
+        }
+
+        private void expire() {
+            expired = true;
+            try {
+                in.close();
+            } catch (IOException e) {
+                log.debug("본문 스트림 닫기 실패: uri={}", uri);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkDeadline();
+            try {
+                int result = in.read();
+                checkDeadline();
+                return result;
+            } catch (IOException e) {
+                checkDeadline();
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            checkDeadline();
+            try {
+                int result = in.read(buffer, offset, length);
+                checkDeadline();
+                return result;
+            } catch (IOException e) {
+                // 만료로 스트림이 닫혀 실패한 경우에도 시간 초과로 알림
+                checkDeadline();
+                throw e;
+            }
+        }
+
+        private void checkDeadline() throws HttpTimeoutException {
+            if (expired) {
+                throw new HttpTimeoutException("본문 수신 시간 초과: " + uri);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            ScheduledFuture<?> scheduled = expiry;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            in.close();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class CachedResponse {
+        private final byte[] body;
+        private final String charset;
+        private final String finalUrl;
+        private final String etag;
+        private final String lastModified;
+    }
+
+    /**
+     * 스트리밍 응답 (contentLength는 알 수 없으면 -1)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StreamResponse implements Closeable {
+        private final InputStream body;
+        private final long contentLength;
+
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+    }
+
+    /**
+     * 호스트별 요청 통계
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class HostStatsSnapshot {
+        private final String host;
+        private final long requests;
+        private final long errors;
+        private final long notModified;   // 304 응답 (캐시 재사용)
+        private final long throttled;     // 속도 제한으로 보류
+        private final long avgLatencyMs;
+        private final long maxLatencyMs;
+    }
+
+    /**
+     * 4xx/5xx 응답 (4xx는 408, 429를 제외하면 다시 요청해도 같은 결과)
+     */
+    @Getter
+    public static class HttpStatusException extends IOException {
+        private final int statusCode;
+
+        public HttpStatusException(int statusCode, String url) {
+            super("HTTP " + statusCode + ": " + url);
+            this.statusCode = statusCode;
+        }
+
+        public boolean isPermanent() {
+            return statusCode >= 400 && statusCode < 500 && statusCode != 408 && statusCode != 429;
+        }
+    }
+
+    /**
+     * 호스트 요청 속도 제한으로 지금은 요청할 수 없음 (나중에 재시도)
+     * 다운로드 실패(IOException)와 구분되도록 비검사 예외로 둔다.
+     */
+    public static class HostThrottledException extends RuntimeException {
+        public HostThrottledException(String message) {
+            super(message);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.sk.growthnav.api.project.controller;
 import com.sk.growthnav.api.project.dto.ProjectCreateRequest;
 import com.sk.growthnav.api.project.dto.ProjectCreateResponse;
 import com.sk.growthnav.api.project.dto.ProjectInfoDTO;
+import com.sk.growthnav.api.project.dto.ProjectSkillsUpdateRequest;
+import com.sk.growthnav.api.project.dto.ProjectSkillsUpdateResponse;
 import com.sk.growthnav.api.project.service.ProjectService;
 import com.sk.growthnav.global.apiPayload.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -150,6 +152,39 @@ public class ProjectController {
         return ApiResponse.onSuccess(project);
     }
 
+    /**
+     * 프로젝트 스킬 교체
+     * PUT /api/projects/{projectId}/skills
+     */
+    @Operation(
+            summary = "프로젝트 스킬 교체",
+            description = """
+                    프로젝트의 스킬 목록을 요청한 목록으로 교체합니다.
+                    
+                    **동작 방식:**
+                    - 현재 스킬과 비교해 추가/삭제된 스킬만 반영
+                    - 이름은 대소문자/앞뒤 공백을 무시하고 비교 (표기만 바뀐 스킬은 새 표기로 교체)
+                    - 빈 목록을 보내면 모든 스킬 삭제
+                    
+                    **참고사항:**
+                    - 프로젝트 소유자만 수정 가능
+                    - 최대 100개
+                    """
+    )
+    @PutMapping("/{projectId}/skills")
+    public ApiResponse<ProjectSkillsUpdateResponse> updateProjectSkills(
+            @PathVariable Long projectId,
+            @Valid @RequestBody ProjectSkillsUpdateRequest request) {
+        log.info("프로젝트 스킬 교체 요청: projectId={}, memberId={}, skillCount={}",
+                projectId, request.getMemberId(), request.getSkills().size());
+
+        ProjectSkillsUpdateResponse response = projectService.updateProjectSkills(projectId, request);
+
+        log.info("프로젝트 스킬 교체 완료: projectId={}, added={}, removed={}",
+                projectId, response.getAdded().size(), response.getRemoved().size());
+        return ApiResponse.onSuccess(response);
+    }
+
     /**
      * 프로젝트 삭제
      * DELETE /api/projects/{projectId}
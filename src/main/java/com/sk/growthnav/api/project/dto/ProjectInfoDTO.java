@@ -5,7 +5,10 @@ import lombok.*;
 import lombok.experimental.FieldDefaults;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor
@@ -41,4 +44,25 @@ public class ProjectInfoDTO {
                 .build();
 
     }
+
+    // [Project, 스킬 이름] 조인 결과 -> DTO 목록 변환 (추가 조회 없음, 조회 순서 유지)
+    public static List<ProjectInfoDTO> fromProjectSkillRows(List<Object[]> rows) {
+        Map<Long, Project> projects = new LinkedHashMap<>();
+        Map<Long, List<String>> skillsByProject = new LinkedHashMap<>();
+
+        for (Object[] row : rows) {
+            Project project = (Project) row[0];
+            String skillName = (String) row[1];
+
+            projects.putIfAbsent(project.getId(), project);
+            List<String> skills = skillsByProject.computeIfAbsent(project.getId(), id -> new ArrayList<>());
+            if (skillName != null) {
+                skills.add(skillName);
+            }
+        }
+
+        return projects.values().stream()
+                .map(project -> from(project, skillsByProject.get(project.getId())))
+                .toList();
+    }
 }
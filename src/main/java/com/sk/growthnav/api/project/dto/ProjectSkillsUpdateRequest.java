@@ -0,0 +1,25 @@
+package com.sk.growthnav.api.project.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProjectSkillsUpdateRequest {
+
+    @NotNull(message = "회원 ID는 필수입니다.")
+    Long memberId;
+
+    @NotNull(message = "스킬 목록은 필수입니다.")
+    @Size(max = 100, message = "스킬은 최대 100개까지 등록할 수 있습니다.")
+    List<String> skills;  // 교체 후 전체 스킬 목록 (빈 목록이면 모두 삭제)
+}
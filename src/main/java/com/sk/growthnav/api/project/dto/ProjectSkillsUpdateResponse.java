@@ -0,0 +1,18 @@
+package com.sk.growthnav.api.project.dto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProjectSkillsUpdateResponse {
+    Long projectId;
+    List<String> skills;   // 교체 후 전체 스킬
+    List<String> added;    // 새로 추가된 스킬
+    List<String> removed;  // 삭제된 스킬
+}
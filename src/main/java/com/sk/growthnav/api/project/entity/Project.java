@@ -3,6 +3,7 @@ package com.sk.growthnav.api.project.entity;
 
 import com.sk.growthnav.api.member.entity.Member;
 import com.sk.growthnav.global.base.BaseEntity;
+import com.sk.growthnav.global.base.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -17,7 +18,8 @@ import java.time.LocalDateTime;
 public class Project extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "project_id", unique = true, nullable = false)
     private Long id;
 
@@ -2,9 +2,19 @@ package com.sk.growthnav.api.project.repository;
 
 import com.sk.growthnav.api.project.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByMemberId(Long memberId);
+
+    /**
+     * 회원의 프로젝트와 스킬 이름을 한 번의 쿼리로 조회
+     * 각 행은 [Project, 스킬 이름(없으면 null)] 이며 프로젝트 ID, 스킬 ID 순으로 정렬됨
+     */
+    @Query("SELECT p, s.name FROM Project p LEFT JOIN Skill s ON s.project = p " +
+            "WHERE p.member.id = :memberId ORDER BY p.id, s.id")
+    List<Object[]> findProjectSkillRowsByMemberId(@Param("memberId") Long memberId);
 }
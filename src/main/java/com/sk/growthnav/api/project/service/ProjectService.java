@@ -6,9 +6,13 @@ import com.sk.growthnav.api.member.service.MemberService;
 import com.sk.growthnav.api.project.dto.ProjectCreateRequest;
 import com.sk.growthnav.api.project.dto.ProjectCreateResponse;
 import com.sk.growthnav.api.project.dto.ProjectInfoDTO;
+import com.sk.growthnav.api.project.dto.ProjectSkillsUpdateRequest;
+import com.sk.growthnav.api.project.dto.ProjectSkillsUpdateResponse;
 import com.sk.growthnav.api.project.entity.Project;
 import com.sk.growthnav.api.project.repository.ProjectRepository;
 import com.sk.growthnav.api.skill.service.SkillService;
+import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -47,18 +51,12 @@ public class ProjectService {
      * @return 프로젝트 DTO 목록
      */
     public List<ProjectInfoDTO> getProjectsByMember(Long memberId) {
-        List<Project> projects = findByMemberId(memberId);
+        // 프로젝트와 스킬을 한 번의 조인 쿼리로 조회 (프로젝트별 스킬 조회 N+1 제거)
+        List<Object[]> rows = projectRepository.findProjectSkillRowsByMemberId(memberId);
+        List<ProjectInfoDTO> projects = ProjectInfoDTO.fromProjectSkillRows(rows);
 
         log.info("회원 {}의 프로젝트 {}개 조회됨.", memberId, projects.size());
-
-        return projects.stream()
-                .map(project -> {
-                    List<String> skills = skillService.getSkillNamesByProject(project.getId());
-                    log.debug("프로젝트 {}의 스킬 {}개: {}", project.getId(), skills.size(), skills);
-
-                    return ProjectInfoDTO.from(project, skills);
-                })
-                .toList();
+        return projects;
     }
 
     /**
@@ -206,6 +204,32 @@ public class ProjectService {
         return ProjectInfoDTO.from(project, skills);
     }
 
+    /**
+     * 프로젝트 스킬 전체 교체 (추가/삭제 대상만 반영)
+     *
+     * @param projectId 프로젝트 ID
+     * @param request   회원 ID와 교체 후 스킬 목록
+     * @return 교체 결과
+     */
+    @Transactional
+    public ProjectSkillsUpdateResponse updateProjectSkills(Long projectId, ProjectSkillsUpdateRequest request) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로젝트입니다: " + projectId));
+
+        if (!project.getMember().getId().equals(request.getMemberId())) {
+            log.warn("프로젝트 스킬 수정 권한 없음: projectId={}, memberId={}", projectId, request.getMemberId());
+            throw new GeneralException(FailureCode._FORBIDDEN);
+        }
+
+        SkillService.SkillDiff diff = skillService.replaceSkills(project, request.getSkills());
+        return ProjectSkillsUpdateResponse.builder()
+                .projectId(projectId)
+                .skills(diff.getSkills())
+                .added(diff.getAdded())
+                .removed(diff.getRemoved())
+                .build();
+    }
+
     /**
      * 프로젝트 삭제 (Controller에서 호출)
      *
@@ -219,7 +243,7 @@ public class ProjectService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로젝트입니다: " + projectId));
 
         // 스킬들도 함께 삭제 (CASCADE 설정이 되어있다면 자동, 아니면 수동 삭제)
-        skillService.deleteSkillsByProject(projectId);
+        skillService.deleteSkillsByProject(project);
         projectRepository.delete(project);
 
         log.info("프로젝트 삭제 완료: projectId={}", projectId);
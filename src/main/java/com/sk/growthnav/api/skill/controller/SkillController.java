@@ -0,0 +1,129 @@
+package com.sk.growthnav.api.skill.controller;
+
+import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.skill.dto.NextLevelSkillsResponse;
+import com.sk.growthnav.api.skill.dto.SkillCatalogMergeRequest;
+import com.sk.growthnav.api.skill.service.SkillAutocompleteIndex;
+import com.sk.growthnav.api.skill.service.SkillCooccurrenceIndex;
+import com.sk.growthnav.api.skill.service.SkillDictionary;
+import com.sk.growthnav.api.skill.service.SkillRecommendationService;
+import com.sk.growthnav.global.apiPayload.ApiResponse;
+import com.sk.growthnav.global.auth.AuthHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "스킬")
+@RestController
+@RequestMapping("/api/skills")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class SkillController {
+
+    private final SkillDictionary skillDictionary;
+    private final SkillAutocompleteIndex skillAutocompleteIndex;
+    private final SkillCooccurrenceIndex skillCooccurrenceIndex;
+    private final SkillRecommendationService skillRecommendationService;
+    private final AuthHelper authHelper;
+
+    @Operation(
+            summary = "스킬 자동완성",
+            description = """
+                    입력한 접두사로 시작하는 스킬을 많이 사용된 순으로 반환합니다. (프로젝트 생성 화면 입력용)
+                    
+                    - 대소문자/공백 무시, 별칭 포함 (예: "k8" -> Kubernetes)
+                    - 여러 단어 스킬은 중간 단어로도 검색 (예: "boot" -> Spring Boot)
+                    - 서버 메모리 인덱스에서 조회하므로 매 입력마다 호출해도 됩니다.
+                    """
+    )
+    @GetMapping("/autocomplete")
+    public ApiResponse<List<SkillAutocompleteIndex.Suggestion>> autocomplete(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return ApiResponse.onSuccess(skillAutocompleteIndex.suggest(prefix, limit));
+    }
+
+    @Operation(
+            summary = "함께 많이 쓰인 스킬",
+            description = """
+                    해당 표준 스킬과 같은 프로젝트에 많이 쓰인 스킬을 반환합니다.
+                    
+                    - projectCount: 함께 쓰인 프로젝트 수
+                    - percent: 해당 스킬을 쓴 프로젝트 중 함께 쓰인 비율
+                    - level을 지정하면 그 등급 회원의 프로젝트만 집계합니다.
+                    """
+    )
+    @GetMapping("/{catalogId}/related")
+    public ApiResponse<List<SkillCooccurrenceIndex.Recommendation>> getRelatedSkills(
+            @PathVariable Integer catalogId,
+            @RequestParam(required = false) MemberLevel level,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return ApiResponse.onSuccess(skillRecommendationService.getRelatedSkills(catalogId, level, limit));
+    }
+
+    @Operation(
+            summary = "다음 등급 추천 스킬",
+            description = """
+                    다음 등급 회원들의 프로젝트에 많이 쓰인 스킬 중 아직 보유하지 않은 스킬을 반환합니다.
+                    
+                    - projectCount: 다음 등급 프로젝트 중 사용 수
+                    - percent: 다음 등급 전체 프로젝트 대비 비율
+                    - 최고 등급(CL5)은 같은 등급 기준으로 추천합니다.
+                    """
+    )
+    @GetMapping("/next-level")
+    public ApiResponse<NextLevelSkillsResponse> getNextLevelSkills(
+            @RequestParam Long memberId,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return ApiResponse.onSuccess(skillRecommendationService.getNextLevelSkills(memberId, limit));
+    }
+
+    @Operation(
+            summary = "표준 스킬 사전 조회",
+            description = """
+                    표준 스킬 목록과 각 스킬의 별칭을 조회합니다.
+                    
+                    - 프로젝트 스킬은 입력한 표기와 함께 표준 스킬 ID로 저장됩니다.
+                    - 대소문자/공백만 다르거나 별칭으로 등록된 표기는 같은 스킬로 집계됩니다.
+                    - 사전에 없는 스킬은 처음 입력될 때 자동으로 등록됩니다.
+                    """
+    )
+    @GetMapping("/catalog")
+    public ApiResponse<List<SkillDictionary.Entry>> getCatalog() {
+        return ApiResponse.onSuccess(skillDictionary.entries());
+    }
+
+    @Operation(
+            summary = "표준 스킬 병합 (Admin 전용)",
+            description = """
+                    같은 스킬이 다른 이름으로 등록된 경우 하나로 합칩니다.
+                    
+                    - sourceId의 별칭이 targetId의 별칭으로 옮겨집니다.
+                    - sourceId를 사용하던 프로젝트 스킬은 targetId로 집계됩니다.
+                    - sourceId 항목은 목록에서 빠지고, 이후 sourceId의 대표 표기는 targetId로 연결됩니다.
+                    - 이미 병합된 항목은 병합할 수 없습니다.
+                    """
+    )
+    @PostMapping("/catalog/merge")
+    public ApiResponse<String> mergeCatalog(@Valid @RequestBody SkillCatalogMergeRequest request) {
+        log.info("표준 스킬 병합 요청: adminId={}, sourceId={}, targetId={}",
+                request.getAdminId(), request.getSourceId(), request.getTargetId());
+
+        // 관리자 권한 확인
+        authHelper.validateAdminRole(request.getAdminId());
+
+        skillDictionary.merge(request.getSourceId(), request.getTargetId());
+        skillAutocompleteIndex.rebuild();
+        skillCooccurrenceIndex.rebuild();
+        return ApiResponse.onSuccess("스킬이 병합되었습니다.");
+    }
+}
@@ -0,0 +1,19 @@
+package com.sk.growthnav.api.skill.dto;
+
+import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.skill.service.SkillCooccurrenceIndex;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class NextLevelSkillsResponse {
+    MemberLevel currentLevel;
+    MemberLevel targetLevel;  // 최고 등급이면 현재 등급과 같음
+    List<SkillCooccurrenceIndex.Recommendation> skills;  // 보유하지 않은 스킬만
+}
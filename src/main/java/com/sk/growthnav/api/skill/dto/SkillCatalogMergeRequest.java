@@ -0,0 +1,21 @@
+package com.sk.growthnav.api.skill.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillCatalogMergeRequest {
+
+    @NotNull(message = "관리자 ID는 필수입니다.")
+    private Long adminId;
+
+    @NotNull(message = "병합할 스킬 ID는 필수입니다.")
+    private Integer sourceId;   // 별칭으로 흡수될 스킬
+
+    @NotNull(message = "대상 스킬 ID는 필수입니다.")
+    private Integer targetId;   // 남는 대표 스킬
+}
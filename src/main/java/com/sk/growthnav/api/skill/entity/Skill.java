@@ -2,10 +2,12 @@ package com.sk.growthnav.api.skill.entity;
 
 import com.sk.growthnav.api.project.entity.Project;
 import com.sk.growthnav.global.base.BaseEntity;
+import com.sk.growthnav.global.base.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(name = "skill", indexes = @Index(name = "idx_skill_catalog_id", columnList = "skill_catalog_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -13,13 +15,18 @@ import lombok.*;
 public class Skill extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_seq")
+    @SequenceGenerator(name = "skill_seq", sequenceName = "skill_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "skill_id", unique = true)
     private Long id;
 
     @Column(length = 50, name = "skill_name")
     private String name;
 
+    // 표준 스킬 사전 ID (SkillCatalog, 통계/검색 집계 기준)
+    @Column(name = "skill_catalog_id")
+    private Integer catalogId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
@@ -0,0 +1,68 @@
+package com.sk.growthnav.api.skill.entity;
+
+import com.sk.growthnav.global.base.BaseTimeEntity;
+import com.sk.growthnav.global.base.IdSequences;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 표준 스킬 사전 항목
+ * 프로젝트 스킬(Skill)은 입력한 표기를 그대로 보관하고, 통계/검색은 이 항목의 정수 ID로 집계한다.
+ * 별칭(aliasKeys)은 같은 스킬로 취급할 다른 표기의 비교 키 (예: "js" -> JavaScript)
+ * 다른 항목으로 병합된 항목은 삭제하지 않고 mergedIntoId로 병합 대상을 가리킨다 (이전 ID/표기를 대상으로 연결)
+ */
+@Entity
+@Table(name = "skill_catalog")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SkillCatalog extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_catalog_seq")
+    @SequenceGenerator(name = "skill_catalog_seq", sequenceName = "skill_catalog_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
+    @Column(name = "catalog_id")
+    private Integer id;
+
+    // 대표 표기
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    // 대표 표기의 비교 키 (SkillDictionary.key)
+    @Column(name = "name_key", nullable = false, unique = true, length = 50)
+    private String nameKey;
+
+    // 병합된 항목이면 병합 대상 ID (사전 목록에서 제외)
+    @Column(name = "merged_into_id")
+    private Integer mergedIntoId;
+
+    @ElementCollection
+    @CollectionTable(name = "skill_catalog_alias",
+            joinColumns = @JoinColumn(name = "catalog_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_skill_catalog_alias_key", columnNames = "alias_key"))
+    @Column(name = "alias_key", nullable = false, length = 50)
+    @Builder.Default
+    private Set<String> aliasKeys = new LinkedHashSet<>();
+
+    public boolean isMerged() {
+        return mergedIntoId != null;
+    }
+
+    // 별칭은 대상으로 옮기고, 대표 표기는 남겨 이전 표기/ID가 대상으로 연결되도록 함
+    public Set<String> mergeInto(Integer targetId) {
+        Set<String> moved = new LinkedHashSet<>(aliasKeys);
+        aliasKeys.clear();
+        this.mergedIntoId = targetId;
+        return moved;
+    }
+
+    public void addAliasKeys(Set<String> keys) {
+        keys.stream()
+                .filter(key -> !key.equals(nameKey))
+                .forEach(aliasKeys::add);
+    }
+}
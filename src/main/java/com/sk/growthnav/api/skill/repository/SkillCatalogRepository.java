@@ -0,0 +1,59 @@
+package com.sk.growthnav.api.skill.repository;
+
+import com.sk.growthnav.api.skill.entity.SkillCatalog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SkillCatalogRepository extends JpaRepository<SkillCatalog, Integer> {
+
+    /**
+     * 대표 표기 또는 별칭이 주어진 키에 해당하는 항목의 (키, ID) 조회 (병합된 항목은 병합 대상 ID)
+     */
+    @Query("SELECT c.nameKey AS skillKey, COALESCE(c.mergedIntoId, c.id) AS catalogId " +
+            "FROM SkillCatalog c WHERE c.nameKey IN :keys")
+    List<KeyView> findByNameKeys(@Param("keys") Collection<String> keys);
+
+    @Query("SELECT a AS skillKey, c.id AS catalogId FROM SkillCatalog c JOIN c.aliasKeys a WHERE a IN :keys")
+    List<KeyView> findByAliasKeys(@Param("keys") Collection<String> keys);
+
+    /**
+     * 사전 적재용 전체 항목 (대표 표기, 병합된 항목 포함)
+     */
+    @Query("SELECT c.id AS catalogId, c.name AS name, c.nameKey AS skillKey, c.mergedIntoId AS mergedIntoId " +
+            "FROM SkillCatalog c")
+    List<EntryView> findAllEntries();
+
+    /**
+     * source로 병합되어 있던 항목들을 target으로 연결 (병합이 이어져도 한 단계로 유지)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SkillCatalog c SET c.mergedIntoId = :targetId WHERE c.mergedIntoId = :sourceId")
+    int redirectMerged(@Param("sourceId") Integer sourceId, @Param("targetId") Integer targetId);
+
+    /**
+     * 사전 적재용 전체 별칭
+     */
+    @Query("SELECT a AS skillKey, c.id AS catalogId FROM SkillCatalog c JOIN c.aliasKeys a")
+    List<KeyView> findAllAliases();
+
+    interface KeyView {
+        String getSkillKey();
+
+        Integer getCatalogId();
+    }
+
+    interface EntryView {
+        Integer getCatalogId();
+
+        String getName();
+
+        String getSkillKey();
+
+        Integer getMergedIntoId();
+    }
+}
@@ -1,8 +1,13 @@
 package com.sk.growthnav.api.skill.repository;
 
+import com.sk.growthnav.api.member.entity.MemberLevel;
 import com.sk.growthnav.api.skill.entity.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,10 +38,116 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     boolean existsByProjectId(Long projectId);
 
     /**
-     * 스킬 명으로 검색 (부분 일치)
-     *
-     * @param skillName
-     * @return
+     * 표준 스킬 사전 ID로 검색
+     */
+    List<Skill> findByCatalogIdIn(Collection<Integer> catalogIds);
+
+    /**
+     * 프로젝트의 스킬 이름만 조회 (스킬 교체 시 추가/삭제 대상 계산용)
+     */
+    @Query("SELECT s.name FROM Skill s WHERE s.project.id = :projectId")
+    List<String> findNamesByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 프로젝트에 같은 이름(대소문자 무시)의 스킬이 있는지 확인
+     * 파생 쿼리의 IgnoreCase는 upper()로 비교하므로, (project_id, lower(skill_name)) 인덱스를 타도록 lower()로 직접 작성
+     */
+    @Query("SELECT COUNT(s) > 0 FROM Skill s WHERE s.project.id = :projectId AND LOWER(s.name) = LOWER(:name)")
+    boolean existsByProjectIdAndNameIgnoreCase(@Param("projectId") Long projectId, @Param("name") String name);
+
+    /**
+     * 프로젝트의 지정한 이름 스킬들을 한 번의 DELETE로 삭제
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Skill s WHERE s.project.id = :projectId AND s.name IN :names")
+    int deleteByProjectIdAndNameIn(@Param("projectId") Long projectId, @Param("names") Collection<String> names);
+
+    /**
+     * 프로젝트의 모든 스킬을 한 번의 DELETE로 삭제
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Skill s WHERE s.project.id = :projectId")
+    int deleteAllByProjectIdInBulk(@Param("projectId") Long projectId);
+
+    /**
+     * 등급별 스킬 사용 현황 (사전 ID, 프로젝트, 회원) 한 번에 조회
+     */
+    @Query("SELECT s.catalogId AS catalogId, p.id AS projectId, p.member.id AS memberId " +
+            "FROM Skill s JOIN s.project p WHERE p.member.level = :level AND s.catalogId IS NOT NULL")
+    List<SkillUsageView> findUsageByMemberLevel(@Param("level") MemberLevel level);
+
+    /**
+     * 사전 ID가 지정되지 않은 스킬 이름 (기존 데이터 이전용)
+     */
+    @Query("SELECT DISTINCT s.name FROM Skill s WHERE s.catalogId IS NULL AND s.name IS NOT NULL")
+    List<String> findNamesWithoutCatalog();
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Skill s SET s.catalogId = :catalogId WHERE s.catalogId IS NULL AND s.name = :name")
+    int assignCatalogId(@Param("name") String name, @Param("catalogId") Integer catalogId);
+
+    /**
+     * 사전 항목 병합 시 참조 변경
      */
-    List<Skill> findByNameContainingIgnoreCase(String skillName);
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Skill s SET s.catalogId = :targetId WHERE s.catalogId = :sourceId")
+    int reassignCatalog(@Param("sourceId") Integer sourceId, @Param("targetId") Integer targetId);
+
+    /**
+     * 병합된 사전 항목 ID로 저장된 프로젝트 스킬을 병합 대상으로 변경
+     * (병합 직후 아직 사전을 다시 적재하지 않은 파드가 이전 ID로 저장한 경우)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Skill s SET s.catalogId = " +
+            "(SELECT c.mergedIntoId FROM SkillCatalog c WHERE c.id = s.catalogId) " +
+            "WHERE s.catalogId IN :mergedIds")
+    int reassignMergedCatalogs(@Param("mergedIds") Collection<Integer> mergedIds);
+
+    /**
+     * 표준 스킬별 사용 횟수 (자동완성 순위용)
+     */
+    @Query("SELECT s.catalogId AS catalogId, COUNT(s) AS usageCount FROM Skill s " +
+            "WHERE s.catalogId IS NOT NULL GROUP BY s.catalogId")
+    List<CatalogCountView> countByCatalogId();
+
+    /**
+     * 프로젝트 스킬의 사전 ID (삭제 전 통계/인덱스 반영용)
+     */
+    @Query("SELECT s.catalogId FROM Skill s WHERE s.project.id = :projectId AND s.catalogId IS NOT NULL")
+    List<Integer> findCatalogIdsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 회원의 전체 프로젝트 스킬 사전 ID
+     */
+    @Query("SELECT DISTINCT s.catalogId FROM Skill s WHERE s.project.member.id = :memberId AND s.catalogId IS NOT NULL")
+    List<Integer> findCatalogIdsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 프로젝트별 스킬 사전 ID와 소유자 등급 (동시 출현 인덱스 재구성용, 프로젝트 순 정렬)
+     */
+    @Query("SELECT p.id AS projectId, m.level AS level, s.catalogId AS catalogId " +
+            "FROM Skill s JOIN s.project p JOIN p.member m WHERE s.catalogId IS NOT NULL ORDER BY p.id")
+    List<ProjectSkillView> findAllProjectSkills();
+
+    interface CatalogCountView {
+        Integer getCatalogId();
+
+        Long getUsageCount();
+    }
+
+    interface ProjectSkillView {
+        Long getProjectId();
+
+        MemberLevel getLevel();
+
+        Integer getCatalogId();
+    }
+
+    interface SkillUsageView {
+        Integer getCatalogId();
+
+        Long getProjectId();
+
+        Long getMemberId();
+    }
 }
@@ -0,0 +1,257 @@
+package com.sk.growthnav.api.skill.service;
+
+import com.sk.growthnav.api.skill.entity.Skill;
+import com.sk.growthnav.api.skill.repository.SkillRepository;
+import com.sk.growthnav.global.util.TransactionCallbacks;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스킬 이름 자동완성 인덱스 (메모리)
+ * - 표준 스킬 사전의 비교 키(대표 표기/별칭)와 그 안의 단어 시작 위치("spring boot" -> "boot")를 정렬 배열로 보관하고,
+ *   이진 탐색으로 접두사 구간을 찾아 사용 횟수 순 상위 N개를 반환한다.
+ * - 스킬이 추가/삭제되면 커밋 후 사용 횟수를 갱신하고, 새 이름은 정렬 위치에 끼워 넣는다.
+ * - 다른 파드의 변경은 app.skill.autocomplete.rebuild-ms 주기의 전체 재구성으로 반영된다.
+ * - 재구성(조회 + 교체)과 커밋 후 갱신은 같은 잠금으로 직렬화하여, 재구성 중 커밋된 증감이 이전 맵에 반영되어 사라지지 않게 한다.
+ *   조회 직전에 커밋되어 잠금을 기다린 갱신은 한 번 더 반영될 수 있으나 다음 재구성에서 바로잡힌다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillAutocompleteIndex {
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingInt(Suggestion::getUsageCount).reversed()
+            .thenComparingInt(suggestion -> suggestion.getName().length())
+            .thenComparing(Suggestion::getName, String.CASE_INSENSITIVE_ORDER);
+
+    private final SkillDictionary skillDictionary;
+    private final SkillRepository skillRepository;
+
+    private volatile Terms terms = Terms.EMPTY;
+    private volatile Map<Integer, AtomicInteger> usageCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 접두사로 시작하는 스킬 상위 limit개 (사용 횟수 내림차순, 같으면 짧은 이름 우선)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String needle = prefix == null ? "" : SkillDictionary.key(prefix);
+        Terms current = terms;
+        Map<Integer, AtomicInteger> counts = usageCounts;
+
+        // 상위 limit개만 유지하는 힙 (가장 낮은 순위가 맨 앞)
+        PriorityQueue<Suggestion> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        Set<Integer> seen = new HashSet<>();
+        for (int i = current.lowerBound(needle); i < current.tokens.length && current.tokens[i].startsWith(needle); i++) {
+            int catalogId = current.catalogIds[i];
+            if (!seen.add(catalogId)) {
+                continue;
+            }
+            String name = skillDictionary.nameOf(catalogId);
+            if (name == null) {
+                continue;  // 병합 등으로 사라진 항목 (다음 재구성 때 제거)
+            }
+            AtomicInteger count = counts.get(catalogId);
+            top.offer(new Suggestion(catalogId, name, count == null ? 0 : count.get()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Suggestion> result = new ArrayList<>(top);
+        result.sort(RANKING);
+        return result;
+    }
+
+    /**
+     * 스킬 추가 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void recordAdded(Collection<Skill> skills) {
+        List<Skill> indexed = skills.stream()
+                .filter(skill -> skill.getCatalogId() != null)
+                .toList();
+        if (!indexed.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> apply(indexed));
+        }
+    }
+
+    /**
+     * 스킬 삭제 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void recordRemoved(Collection<Integer> catalogIds) {
+        List<Integer> ids = catalogIds.stream().filter(id -> id != null).toList();
+        if (!ids.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> {
+                synchronized (this) {
+                    ids.forEach(id -> usageCounts.computeIfAbsent(id, key -> new AtomicInteger())
+                            .updateAndGet(count -> Math.max(0, count - 1)));
+                }
+            });
+        }
+    }
+
+    /**
+     * 사전과 사용 횟수를 다시 읽어 전체 재구성 (조회부터 교체까지 잠금 안에서 수행, 조회 중에도 suggest는 이전 인덱스로 응답)
+     */
+    @Scheduled(fixedDelayString = "${app.skill.autocomplete.rebuild-ms:300000}",
+            initialDelayString = "${app.skill.autocomplete.rebuild-ms:300000}")
+    public void rebuild() {
+        Terms newTerms;
+        Map<Integer, AtomicInteger> counts = new ConcurrentHashMap<>();
+        synchronized (this) {
+            skillRepository.countByCatalogId().forEach(view ->
+                    counts.put(view.getCatalogId(), new AtomicInteger(view.getUsageCount().intValue())));
+            newTerms = Terms.build(skillDictionary.keys());
+            terms = newTerms;
+            usageCounts = counts;
+        }
+        log.debug("스킬 자동완성 인덱스 재구성: tokens={}, skills={}", newTerms.tokens.length, counts.size());
+    }
+
+    private void apply(List<Skill> skills) {
+        synchronized (this) {
+            Terms updated = terms;
+            for (Skill skill : skills) {
+                updated = updated.with(SkillDictionary.key(skill.getName()), skill.getCatalogId());
+            }
+            terms = updated;
+            skills.forEach(skill -> usageCounts.computeIfAbsent(skill.getCatalogId(), key -> new AtomicInteger())
+                    .incrementAndGet());
+        }
+    }
+
+    /**
+     * 불변 정렬 배열 (토큰 오름차순, 같은 토큰은 사전 ID 오름차순)
+     */
+    static final class Terms {
+        static final Terms EMPTY = new Terms(new String[0], new int[0]);
+
+        private final String[] tokens;
+        private final int[] catalogIds;
+
+        private Terms(String[] tokens, int[] catalogIds) {
+            this.tokens = tokens;
+            this.catalogIds = catalogIds;
+        }
+
+        static Terms build(Map<String, Integer> idsByKey) {
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+            idsByKey.forEach((key, catalogId) -> {
+                for (String token : tokens(key)) {
+                    entries.add(Map.entry(token, catalogId));
+                }
+            });
+            entries.sort(Map.Entry.<String, Integer>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+
+            String[] tokens = new String[entries.size()];
+            int[] catalogIds = new int[entries.size()];
+            int size = 0;
+            for (Map.Entry<String, Integer> entry : entries) {
+                if (size > 0 && tokens[size - 1].equals(entry.getKey()) && catalogIds[size - 1] == entry.getValue()) {
+                    continue;
+                }
+                tokens[size] = entry.getKey();
+                catalogIds[size] = entry.getValue();
+                size++;
+            }
+            return new Terms(Arrays.copyOf(tokens, size), Arrays.copyOf(catalogIds, size));
+        }
+
+        /**
+         * key의 토큰들을 정렬 위치에 끼워 넣은 새 배열 (이미 있으면 그대로)
+         */
+        Terms with(String key, int catalogId) {
+            Terms result = this;
+            for (String token : tokens(key)) {
+                result = result.insert(token, catalogId);
+            }
+            return result;
+        }
+
+        private Terms insert(String token, int catalogId) {
+            int index = lowerBound(token);
+            while (index < tokens.length && tokens[index].equals(token)) {
+                if (catalogIds[index] == catalogId) {
+                    return this;
+                }
+                if (catalogIds[index] > catalogId) {
+                    break;
+                }
+                index++;
+            }
+
+            String[] newTokens = new String[tokens.length + 1];
+            int[] newIds = new int[catalogIds.length + 1];
+            System.arraycopy(tokens, 0, newTokens, 0, index);
+            System.arraycopy(catalogIds, 0, newIds, 0, index);
+            newTokens[index] = token;
+            newIds[index] = catalogId;
+            System.arraycopy(tokens, index, newTokens, index + 1, tokens.length - index);
+            System.arraycopy(catalogIds, index, newIds, index + 1, catalogIds.length - index);
+            return new Terms(newTokens, newIds);
+        }
+
+        /**
+         * prefix 이상인 첫 토큰 위치
+         */
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = tokens.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (tokens[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int size() {
+            return tokens.length;
+        }
+
+        /**
+         * 비교 키 전체 + 공백/구분자 뒤 단어 시작 위치부터의 부분 문자열
+         */
+        static List<String> tokens(String key) {
+            List<String> tokens = new ArrayList<>();
+            tokens.add(key);
+            for (int i = 0; i < key.length() - 1; i++) {
+                char c = key.charAt(i);
+                if (c == ' ' || c == '-' || c == '.' || c == '/') {
+                    tokens.add(key.substring(i + 1));
+                }
+            }
+            return tokens;
+        }
+    }
+
+    /**
+     * 자동완성 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestion {
+        private final Integer catalogId;
+        private final String name;
+        private final int usageCount;
+    }
+}
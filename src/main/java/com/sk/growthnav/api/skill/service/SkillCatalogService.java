@@ -0,0 +1,181 @@
+package com.sk.growthnav.api.skill.service;
+
+import com.sk.growthnav.api.skill.entity.SkillCatalog;
+import com.sk.growthnav.api.skill.repository.SkillCatalogRepository;
+import com.sk.growthnav.api.skill.repository.SkillRepository;
+import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 표준 스킬 사전 변경 (등록/병합/초기 데이터)
+ * 조회는 메모리 사전(SkillDictionary)에서 하고, 이 서비스는 DB 변경만 담당한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class SkillCatalogService {
+
+    // 초기 사전 (대표 표기 -> 별칭)
+    private static final Map<String, List<String>> DEFAULT_ENTRIES = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_ENTRIES.put("Java", List.of());
+        DEFAULT_ENTRIES.put("Spring Boot", List.of("springboot", "spring-boot"));
+        DEFAULT_ENTRIES.put("JavaScript", List.of("js", "java script"));
+        DEFAULT_ENTRIES.put("TypeScript", List.of("ts"));
+        DEFAULT_ENTRIES.put("Python", List.of("py"));
+        DEFAULT_ENTRIES.put("Node.js", List.of("nodejs", "node"));
+        DEFAULT_ENTRIES.put("React", List.of("react.js", "reactjs"));
+        DEFAULT_ENTRIES.put("Vue.js", List.of("vue", "vuejs"));
+        DEFAULT_ENTRIES.put("PostgreSQL", List.of("postgres", "postgre", "psql"));
+        DEFAULT_ENTRIES.put("MySQL", List.of());
+        DEFAULT_ENTRIES.put("MongoDB", List.of("mongo"));
+        DEFAULT_ENTRIES.put("Kubernetes", List.of("k8s"));
+        DEFAULT_ENTRIES.put("Docker", List.of());
+        DEFAULT_ENTRIES.put("AWS", List.of("amazon web services"));
+        DEFAULT_ENTRIES.put("Kotlin", List.of());
+    }
+
+    private final SkillCatalogRepository catalogRepository;
+    private final SkillRepository skillRepository;
+
+    /**
+     * 사전에 없는 이름들을 대표 표기로 등록하고 (키 -> ID) 반환
+     * 호출한 트랜잭션과 분리하여 바로 커밋 (다른 요청/파드와 동시에 같은 키를 등록하면 유니크 제약으로 실패하므로 호출 측에서 재시도)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<String, Integer> registerMissing(Collection<String> names) {
+        Map<String, String> namesByKey = new LinkedHashMap<>();
+        for (String name : names) {
+            namesByKey.putIfAbsent(SkillDictionary.key(name), name.trim());
+        }
+
+        Map<String, Integer> ids = findIds(namesByKey.keySet());
+        List<SkillCatalog> created = namesByKey.entrySet().stream()
+                .filter(entry -> !ids.containsKey(entry.getKey()))
+                .map(entry -> SkillCatalog.builder()
+                        .name(entry.getValue())
+                        .nameKey(entry.getKey())
+                        .build())
+                .toList();
+
+        if (!created.isEmpty()) {
+            catalogRepository.saveAllAndFlush(created);
+            created.forEach(catalog -> ids.put(catalog.getNameKey(), catalog.getId()));
+            log.info("표준 스킬 등록: names={}", created.stream().map(SkillCatalog::getName).toList());
+        }
+        return ids;
+    }
+
+    /**
+     * 사전이 비어 있으면 초기 항목 등록
+     */
+    @Transactional
+    public void seedIfEmpty() {
+        if (catalogRepository.count() > 0) {
+            return;
+        }
+
+        List<SkillCatalog> entries = DEFAULT_ENTRIES.entrySet().stream()
+                .map(entry -> {
+                    SkillCatalog catalog = SkillCatalog.builder()
+                            .name(entry.getKey())
+                            .nameKey(SkillDictionary.key(entry.getKey()))
+                            .build();
+                    catalog.addAliasKeys(toKeys(entry.getValue()));
+                    return catalog;
+                })
+                .toList();
+        catalogRepository.saveAll(entries);
+        log.info("표준 스킬 사전 초기화: count={}", entries.size());
+    }
+
+    /**
+     * 사전 항목 병합: source의 별칭을 target으로 옮기고, source를 참조하던 프로젝트 스킬을 target으로 변경
+     * source는 삭제하지 않고 target을 가리키도록 남겨, 아직 사전을 다시 적재하지 않은 파드가 이전 ID로 저장해도
+     * 다음 적재 때 target으로 옮겨진다 (reassignMergedSkills).
+     */
+    @Transactional
+    public void merge(Integer sourceId, Integer targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("같은 스킬끼리는 병합할 수 없습니다.");
+        }
+
+        SkillCatalog source = catalogRepository.findById(sourceId)
+                .orElseThrow(() -> new GeneralException(FailureCode._NOT_FOUND));
+        SkillCatalog target = catalogRepository.findById(targetId)
+                .orElseThrow(() -> new GeneralException(FailureCode._NOT_FOUND));
+        if (source.isMerged() || target.isMerged()) {
+            throw new IllegalArgumentException("이미 병합된 스킬은 병합할 수 없습니다.");
+        }
+
+        // source 별칭 행 삭제가 target 별칭 추가보다 먼저 반영되도록 flush (별칭 유니크 제약)
+        Set<String> movedKeys = source.mergeInto(targetId);
+        catalogRepository.flush();
+        target.addAliasKeys(movedKeys);
+
+        int redirected = catalogRepository.redirectMerged(sourceId, targetId);
+        int updated = skillRepository.reassignCatalog(sourceId, targetId);
+        log.info("표준 스킬 병합: source={}({}), target={}({}), movedAliases={}, redirected={}, updatedSkills={}",
+                source.getName(), sourceId, target.getName(), targetId, movedKeys, redirected, updated);
+    }
+
+    /**
+     * 병합된 항목 ID로 남아 있는 프로젝트 스킬을 병합 대상으로 변경
+     */
+    @Transactional
+    public int reassignMergedSkills(Collection<Integer> mergedIds) {
+        if (mergedIds.isEmpty()) {
+            return 0;
+        }
+        int updated = skillRepository.reassignMergedCatalogs(mergedIds);
+        if (updated > 0) {
+            log.info("병합된 표준 스킬 참조 변경: mergedIds={}, updatedSkills={}", mergedIds, updated);
+        }
+        return updated;
+    }
+
+    /**
+     * 사전 ID가 없는 기존 프로젝트 스킬에 ID 지정 (이름별 일괄 UPDATE)
+     */
+    @Transactional
+    public int assignCatalogIds(Map<String, Integer> idsByName) {
+        int updated = 0;
+        for (Map.Entry<String, Integer> entry : idsByName.entrySet()) {
+            updated += skillRepository.assignCatalogId(entry.getKey(), entry.getValue());
+        }
+        return updated;
+    }
+
+    private Map<String, Integer> findIds(Collection<String> keys) {
+        Map<String, Integer> ids = new HashMap<>();
+        if (keys.isEmpty()) {
+            return ids;
+        }
+        catalogRepository.findByNameKeys(keys).forEach(view -> ids.put(view.getSkillKey(), view.getCatalogId()));
+        catalogRepository.findByAliasKeys(keys).forEach(view -> ids.put(view.getSkillKey(), view.getCatalogId()));
+        return ids;
+    }
+
+    private static Set<String> toKeys(List<String> names) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String name : names) {
+            keys.add(SkillDictionary.key(name));
+        }
+        return keys;
+    }
+}
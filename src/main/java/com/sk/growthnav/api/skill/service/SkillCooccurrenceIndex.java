@@ -0,0 +1,288 @@
+package com.sk.growthnav.api.skill.service;
+
+import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.skill.repository.SkillRepository;
+import com.sk.growthnav.global.util.TransactionCallbacks;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 스킬 동시 출현 인덱스 (메모리)
+ * - 한 프로젝트에 함께 쓰인 표준 스킬 쌍의 프로젝트 수를 전체/소유자 등급별로 보관한다.
+ * - 스킬별 이웃 카운트는 int 키 맵(IntIntMap)이라 사전 규모(수백~수천 개)에서 희소하게 유지된다.
+ * - 프로젝트 스킬이 생성/교체/삭제되면 커밋 후 해당 프로젝트의 쌍만 더하고 뺀다.
+ * - 등급 변경과 다른 파드의 변경은 app.skill.cooccurrence.rebuild-ms 주기의 전체 재구성으로 반영된다.
+ * - 재구성(조회 + 교체)과 커밋 후 갱신은 같은 모니터(this)로 직렬화하여, 재구성 중 커밋된 증감이 이전 그래프에 반영되어 사라지지 않게 한다.
+ *   조회 직전에 커밋되어 모니터를 기다린 갱신은 한 번 더 반영될 수 있으나 다음 재구성에서 바로잡힌다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillCooccurrenceIndex {
+
+    private static final Comparator<Recommendation> RANKING = Comparator
+            .comparingInt(Recommendation::getProjectCount).reversed()
+            .thenComparing(Recommendation::getName, String.CASE_INSENSITIVE_ORDER);
+
+    private final SkillDictionary skillDictionary;
+    private final SkillRepository skillRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Graph overall = new Graph();
+    private Map<MemberLevel, Graph> byLevel = emptyLevels();
+
+    /**
+     * catalogId와 같은 프로젝트에 많이 쓰인 스킬 (level이 null이면 전체 기준)
+     * projectCount는 함께 쓰인 프로젝트 수, percent는 catalogId를 쓴 프로젝트 중 비율
+     */
+    public List<Recommendation> related(int catalogId, MemberLevel level, int limit) {
+        lock.readLock().lock();
+        try {
+            Graph graph = level == null ? overall : byLevel.get(level);
+            IntIntMap neighbors = graph.neighbors(catalogId);
+            int base = graph.skillCounts.get(catalogId);
+            if (neighbors == null || base == 0) {
+                return List.of();
+            }
+
+            TopN top = new TopN(limit);
+            neighbors.forEach((neighborId, pairCount) -> top.offer(neighborId, pairCount, base));
+            return top.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * level 회원들의 프로젝트에 많이 쓰인 스킬 중 owned에 없는 것
+     * projectCount는 level 프로젝트 중 사용 수, percent는 level 전체 프로젝트 대비 비율
+     */
+    public List<Recommendation> typicalFor(MemberLevel level, Collection<Integer> owned, int limit) {
+        IntIntMap excluded = new IntIntMap(owned.size());
+        owned.stream().filter(Objects::nonNull).forEach(id -> excluded.add(id, 1));
+
+        lock.readLock().lock();
+        try {
+            Graph graph = byLevel.get(level);
+            if (graph.projects == 0) {
+                return List.of();
+            }
+
+            TopN top = new TopN(limit);
+            graph.skillCounts.forEach((catalogId, projectCount) -> {
+                if (!excluded.containsKey(catalogId)) {
+                    top.offer(catalogId, projectCount, graph.projects);
+                }
+            });
+            return top.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 프로젝트 스킬 변경 반영 (트랜잭션 안이면 커밋 후)
+     *
+     * @param level  프로젝트 소유자 등급 (null이면 전체 기준에만 반영)
+     * @param before 변경 전 사전 ID (새 프로젝트면 빈 목록)
+     * @param after  변경 후 사전 ID (삭제된 프로젝트면 빈 목록)
+     */
+    public void recordProject(MemberLevel level, Collection<Integer> before, Collection<Integer> after) {
+        int[] removed = distinct(before);
+        int[] added = distinct(after);
+        if (Arrays.equals(removed, added)) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                lock.writeLock().lock();
+                try {
+                    overall.remove(removed);
+                    overall.add(added);
+                    if (level != null) {
+                        byLevel.get(level).remove(removed);
+                        byLevel.get(level).add(added);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * 전체 프로젝트 스킬을 다시 읽어 재구성
+     * 조회부터 교체까지 모니터 안에서 수행하고, 읽기 잠금은 교체할 때만 막으므로 조회 중에도 이전 그래프로 응답한다.
+     */
+    @Scheduled(fixedDelayString = "${app.skill.cooccurrence.rebuild-ms:600000}",
+            initialDelayString = "${app.skill.cooccurrence.rebuild-ms:600000}")
+    public synchronized void rebuild() {
+        Graph newOverall = new Graph();
+        Map<MemberLevel, Graph> newByLevel = emptyLevels();
+
+        List<SkillRepository.ProjectSkillView> rows = skillRepository.findAllProjectSkills();
+        List<Integer> current = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            SkillRepository.ProjectSkillView row = rows.get(i);
+            current.add(row.getCatalogId());
+            boolean lastOfProject = i + 1 == rows.size() || !rows.get(i + 1).getProjectId().equals(row.getProjectId());
+            if (lastOfProject) {
+                int[] ids = distinct(current);
+                newOverall.add(ids);
+                if (row.getLevel() != null) {
+                    newByLevel.get(row.getLevel()).add(ids);
+                }
+                current.clear();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            overall = newOverall;
+            byLevel = newByLevel;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("스킬 동시 출현 인덱스 재구성: projects={}, skills={}", newOverall.projects, newOverall.skillCounts.size());
+    }
+
+    private static Map<MemberLevel, Graph> emptyLevels() {
+        Map<MemberLevel, Graph> levels = new EnumMap<>(MemberLevel.class);
+        for (MemberLevel level : MemberLevel.values()) {
+            levels.put(level, new Graph());
+        }
+        return levels;
+    }
+
+    /**
+     * 중복/null 제거 후 정렬된 배열
+     */
+    static int[] distinct(Collection<Integer> catalogIds) {
+        return catalogIds.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .filter(id -> id > 0)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * 한 기준(전체 또는 등급)의 카운트
+     * - skillCounts: 사전 ID -> 사용 프로젝트 수
+     * - slots: 사전 ID -> neighbors 배열 위치 + 1, neighbors[위치]: 이웃 사전 ID -> 함께 쓰인 프로젝트 수
+     */
+    static final class Graph {
+        private int projects;
+        private final IntIntMap skillCounts = new IntIntMap(256);
+        private final IntIntMap slots = new IntIntMap(256);
+        private IntIntMap[] neighbors = new IntIntMap[256];
+        private int slotCount;
+
+        void add(int[] ids) {
+            apply(ids, 1);
+        }
+
+        void remove(int[] ids) {
+            apply(ids, -1);
+        }
+
+        private void apply(int[] ids, int delta) {
+            if (ids.length == 0) {
+                return;
+            }
+            projects = Math.max(0, projects + delta);
+            for (int i = 0; i < ids.length; i++) {
+                skillCounts.add(ids[i], delta);
+                IntIntMap row = delta > 0 ? neighborsOrCreate(ids[i]) : neighbors(ids[i]);
+                if (row == null) {
+                    continue;
+                }
+                for (int j = 0; j < ids.length; j++) {
+                    if (i != j) {
+                        row.add(ids[j], delta);
+                    }
+                }
+            }
+        }
+
+        IntIntMap neighbors(int catalogId) {
+            int slot = slots.get(catalogId) - 1;
+            return slot < 0 ? null : neighbors[slot];
+        }
+
+        private IntIntMap neighborsOrCreate(int catalogId) {
+            IntIntMap row = neighbors(catalogId);
+            if (row != null) {
+                return row;
+            }
+            if (slotCount == neighbors.length) {
+                neighbors = Arrays.copyOf(neighbors, slotCount * 2);
+            }
+            row = new IntIntMap(16);
+            neighbors[slotCount] = row;
+            slots.add(catalogId, ++slotCount);
+            return row;
+        }
+    }
+
+    /**
+     * 상위 N개만 유지 (사전에서 사라진 항목은 제외)
+     */
+    private final class TopN {
+        private final int limit;
+        private final PriorityQueue<Recommendation> heap;
+
+        private TopN(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        }
+
+        void offer(int catalogId, int projectCount, int base) {
+            if (heap.size() == limit && projectCount < heap.peek().getProjectCount()) {
+                return;
+            }
+            String name = skillDictionary.nameOf(catalogId);
+            if (name == null) {
+                return;
+            }
+            heap.offer(new Recommendation(catalogId, name, projectCount, (int) Math.round(projectCount * 100.0 / base)));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Recommendation> toList() {
+            List<Recommendation> result = new ArrayList<>(heap);
+            result.sort(RANKING);
+            return result;
+        }
+    }
+
+    /**
+     * 추천 스킬
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Recommendation {
+        private final Integer catalogId;
+        private final String name;
+        private final int projectCount;
+        private final int percent;
+    }
+}
@@ -0,0 +1,201 @@
+package com.sk.growthnav.api.skill.service;
+
+import com.sk.growthnav.api.skill.repository.SkillCatalogRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 표준 스킬 사전 (메모리)
+ * 비교 키(대표 표기/별칭) -> 정수 ID, ID -> 대표 표기를 불변 맵으로 들고 있고, 변경 시 전체를 새로 적재해 교체한다.
+ * 다른 파드의 변경은 app.skill.dictionary.refresh-ms 주기로 반영된다.
+ * 병합된 항목의 표기는 병합 대상 ID로 연결하고, 적재할 때마다 이전 ID로 저장된 프로젝트 스킬을 대상으로 옮긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillDictionary {
+
+    private final SkillCatalogRepository catalogRepository;
+    private final SkillCatalogService catalogService;
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of(), List.of());
+
+    /**
+     * 이름 비교 키 (앞뒤 공백 제거, 연속 공백 하나로, 소문자)
+     */
+    public static String key(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 이름(대표 표기 또는 별칭)의 사전 ID, 없으면 null
+     */
+    public Integer idOf(String name) {
+        return snapshot.idsByKey.get(key(name));
+    }
+
+    /**
+     * 사전 ID의 대표 표기, 없으면 null
+     */
+    public String nameOf(int catalogId) {
+        return snapshot.namesById.get(catalogId);
+    }
+
+    /**
+     * 이름들의 사전 ID 조회 (비교 키 -> ID), 사전에 없는 이름은 대표 표기로 새로 등록
+     */
+    public Map<String, Integer> resolveIds(Collection<String> names) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        Snapshot current = snapshot;
+        for (String name : names) {
+            String key = key(name);
+            Integer id = current.idsByKey.get(key);
+            if (id != null) {
+                ids.put(key, id);
+            } else {
+                missing.add(name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, Integer> registered;
+            try {
+                registered = catalogService.registerMissing(missing);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청이 같은 이름을 먼저 등록한 경우: 등록된 항목을 다시 조회
+                log.debug("표준 스킬 동시 등록, 재시도: names={}", missing);
+                registered = catalogService.registerMissing(missing);
+            }
+            ids.putAll(registered);
+            reload();
+        }
+        return ids;
+    }
+
+    /**
+     * 전체 비교 키(대표 표기/별칭) -> 사전 ID (불변)
+     */
+    public Map<String, Integer> keys() {
+        return snapshot.idsByKey;
+    }
+
+    /**
+     * 대표 표기/별칭에 검색어가 포함된 사전 ID 목록
+     */
+    public List<Integer> searchIds(String query) {
+        String needle = key(query);
+        return snapshot.idsByKey.entrySet().stream()
+                .filter(entry -> entry.getKey().contains(needle))
+                .map(Map.Entry::getValue)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 전체 항목 (대표 표기 순)
+     */
+    public List<Entry> entries() {
+        Snapshot current = snapshot;
+        return current.namesById.entrySet().stream()
+                .map(entry -> new Entry(entry.getKey(), entry.getValue(),
+                        current.aliasesById.getOrDefault(entry.getKey(), List.of())))
+                .sorted(Comparator.comparing(Entry::getName, String.CASE_INSENSITIVE_ORDER))
+                .toList();
+    }
+
+    public int size() {
+        return snapshot.namesById.size();
+    }
+
+    /**
+     * 사전 항목 병합 후 다시 적재
+     */
+    public void merge(Integer sourceId, Integer targetId) {
+        catalogService.merge(sourceId, targetId);
+        reload();
+    }
+
+    /**
+     * DB에서 전체 사전을 다시 읽어 교체
+     * 병합 직후 사전을 다시 적재하기 전의 파드가 병합된 ID로 저장한 프로젝트 스킬도 함께 정리
+     */
+    @Scheduled(fixedDelayString = "${app.skill.dictionary.refresh-ms:60000}",
+            initialDelayString = "${app.skill.dictionary.refresh-ms:60000}")
+    public synchronized void reload() {
+        List<SkillCatalogRepository.EntryView> entries = catalogRepository.findAllEntries();
+        List<SkillCatalogRepository.KeyView> aliases = catalogRepository.findAllAliases();
+        snapshot = Snapshot.of(entries, aliases);
+        catalogService.reassignMergedSkills(snapshot.mergedIds);
+        log.debug("표준 스킬 사전 적재: entries={}, aliases={}, merged={}",
+                snapshot.namesById.size(), aliases.size(), snapshot.mergedIds.size());
+    }
+
+    /**
+     * 불변 사전 스냅샷
+     */
+    static final class Snapshot {
+        private final Map<String, Integer> idsByKey;
+        private final Map<Integer, String> namesById;
+        private final Map<Integer, List<String>> aliasesById;
+        private final Set<Integer> mergedIds;
+
+        private Snapshot(Map<String, Integer> idsByKey, Map<Integer, String> namesById,
+                         Map<Integer, List<String>> aliasesById, Set<Integer> mergedIds) {
+            this.idsByKey = Map.copyOf(idsByKey);
+            this.namesById = Map.copyOf(namesById);
+            this.aliasesById = Map.copyOf(aliasesById);
+            this.mergedIds = Set.copyOf(mergedIds);
+        }
+
+        static Snapshot of(List<SkillCatalogRepository.EntryView> entries, List<SkillCatalogRepository.KeyView> aliases) {
+            Map<String, Integer> idsByKey = new HashMap<>();
+            Map<Integer, String> namesById = new HashMap<>();
+            Map<Integer, List<String>> aliasesById = new LinkedHashMap<>();
+            Set<Integer> mergedIds = new HashSet<>();
+            for (SkillCatalogRepository.EntryView entry : entries) {
+                if (entry.getMergedIntoId() != null) {
+                    // 병합된 항목: 이전 대표 표기는 병합 대상으로 연결
+                    idsByKey.put(entry.getSkillKey(), entry.getMergedIntoId());
+                    mergedIds.add(entry.getCatalogId());
+                    continue;
+                }
+                idsByKey.put(entry.getSkillKey(), entry.getCatalogId());
+                namesById.put(entry.getCatalogId(), entry.getName());
+            }
+            for (SkillCatalogRepository.KeyView alias : aliases) {
+                idsByKey.putIfAbsent(alias.getSkillKey(), alias.getCatalogId());
+                aliasesById.computeIfAbsent(alias.getCatalogId(), id -> new ArrayList<>()).add(alias.getSkillKey());
+            }
+            aliasesById.replaceAll((id, keys) -> List.copyOf(keys));
+            return new Snapshot(idsByKey, namesById, aliasesById, mergedIds);
+        }
+    }
+
+    /**
+     * 사전 항목 (ID, 대표 표기, 별칭 키)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Integer id;
+        private final String name;
+        private final List<String> aliases;
+    }
+}
@@ -0,0 +1,74 @@
+package com.sk.growthnav.api.skill.service;
+
+import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.member.service.MemberService;
+import com.sk.growthnav.api.skill.dto.NextLevelSkillsResponse;
+import com.sk.growthnav.api.skill.repository.SkillRepository;
+import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 스킬 동시 출현 인덱스 기반 추천 (요청마다 프로젝트 스킬을 다시 집계하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class SkillRecommendationService {
+
+    private final SkillCooccurrenceIndex skillCooccurrenceIndex;
+    private final SkillDictionary skillDictionary;
+    private final SkillRepository skillRepository;
+    private final MemberService memberService;
+
+    /**
+     * 같은 프로젝트에 함께 많이 쓰인 스킬 (level이 null이면 전체 기준)
+     */
+    public List<SkillCooccurrenceIndex.Recommendation> getRelatedSkills(Integer catalogId, MemberLevel level, int limit) {
+        if (skillDictionary.nameOf(catalogId) == null) {
+            throw new GeneralException(FailureCode.SKILL_NOT_FOUND);
+        }
+        return skillCooccurrenceIndex.related(catalogId, level, limit);
+    }
+
+    /**
+     * 다음 등급 회원들이 많이 쓰는 스킬 중 아직 보유하지 않은 스킬
+     */
+    public NextLevelSkillsResponse getNextLevelSkills(Long memberId, int limit) {
+        Member member = memberService.findById(memberId);
+        MemberLevel targetLevel = member.getLevel().next();
+        List<Integer> owned = skillRepository.findCatalogIdsByMemberId(memberId);
+
+        return NextLevelSkillsResponse.builder()
+                .currentLevel(member.getLevel())
+                .targetLevel(targetLevel)
+                .skills(skillCooccurrenceIndex.typicalFor(targetLevel, owned, limit))
+                .build();
+    }
+
+    /**
+     * 다음 등급 추천 스킬 이름 (홈 화면/FastAPI 컨텍스트용, 이미 조회한 스킬 이름을 사전 ID로 바꿔 DB 조회 없이 계산)
+     */
+    public List<String> recommendForNextLevel(MemberLevel level, Collection<String> skillNames, int limit) {
+        if (level == null) {
+            return List.of();
+        }
+        List<Integer> owned = skillNames.stream()
+                .filter(Objects::nonNull)
+                .map(skillDictionary::idOf)
+                .filter(Objects::nonNull)
+                .toList();
+        return skillCooccurrenceIndex.typicalFor(level.next(), owned, limit).stream()
+                .map(SkillCooccurrenceIndex.Recommendation::getName)
+                .toList();
+    }
+}
@@ -1,15 +1,30 @@
 package com.sk.growthnav.api.skill.service;
 
+import com.sk.growthnav.api.member.entity.MemberLevel;
 import com.sk.growthnav.api.project.entity.Project;
 import com.sk.growthnav.api.skill.dto.SkillInfoDTO;
 import com.sk.growthnav.api.skill.entity.Skill;
 import com.sk.growthnav.api.skill.repository.SkillRepository;
+import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.exception.GeneralException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +34,9 @@ import java.util.stream.Collectors;
 public class SkillService {
 
     private final SkillRepository skillRepository;
+    private final SkillDictionary skillDictionary;
+    private final SkillAutocompleteIndex skillAutocompleteIndex;
+    private final SkillCooccurrenceIndex skillCooccurrenceIndex;
 
     /**
      * 프로젝트에 여러 스킬 생성
@@ -27,15 +45,13 @@ public class SkillService {
     public List<String> createSkills(Project project, List<String> skillNames) {
         log.info("스킬 생성 시작: projectId={}, skillCount={}", project.getId(), skillNames.size());
 
-        List<Skill> skills = skillNames.stream()
-                .distinct()
-                .filter(name -> name != null && !name.trim().isEmpty())
-                .map(name -> Skill.builder()
-                        .name(name.trim())
-                        .project(project)
-                        .build())
-                .collect(Collectors.toList());
+        // (project_id, lower(skill_name)) 유니크 인덱스와 같은 기준 + 같은 표준 스킬(별칭) 기준으로 중복 제거
+        Map<String, String> names = normalizeNames(skillNames);
+        Map<String, Integer> catalogIds = skillDictionary.resolveIds(names.values());
+        List<Skill> skills = toSkills(project, dedupeByCatalog(names, catalogIds).values(), catalogIds);
         List<Skill> savedSkills = skillRepository.saveAll(skills);
+        skillAutocompleteIndex.recordAdded(savedSkills);
+        skillCooccurrenceIndex.recordProject(levelOf(project), List.of(), catalogIdsOf(savedSkills));
         log.info("스킬 생성 완료: projectId={}, createdCount={}", project.getId(), savedSkills.size());
 
         return savedSkills.stream()
@@ -44,6 +60,58 @@ public class SkillService {
 
     }
 
+    /**
+     * 프로젝트 스킬 전체 교체
+     * 현재 스킬 이름을 한 번 조회해 추가/삭제 대상을 계산하고, 삭제는 IN 조건 DELETE 한 번, 추가는 배치 INSERT로 처리한다.
+     * 이름은 대소문자를 무시하고 비교하며, 표기만 바뀐 스킬은 삭제 후 새 표기로 다시 추가한다.
+     */
+    @Transactional
+    public SkillDiff replaceSkills(Project project, List<String> skillNames) {
+        Map<String, String> names = normalizeNames(skillNames);
+        Map<String, Integer> catalogIds = skillDictionary.resolveIds(names.values());
+        Map<String, String> desired = dedupeByCatalog(names, catalogIds);
+
+        // 현재 이름 중 원하는 표기와 정확히 같은 것만 유지 (유니크 인덱스 이전 데이터의 중복 행도 정리)
+        List<String> current = skillRepository.findNamesByProjectId(project.getId());
+        Set<String> kept = new HashSet<>();
+        List<String> removed = new ArrayList<>();
+        for (String name : current) {
+            if (name != null && name.equals(desired.get(nameKey(name))) && kept.add(name)) {
+                continue;
+            }
+            removed.add(name);
+        }
+        // 같은 이름의 중복 행은 IN 조건 DELETE로 함께 지워지므로 다시 추가
+        removed.forEach(kept::remove);
+
+        List<String> added = desired.values().stream()
+                .filter(name -> !kept.contains(name))
+                .toList();
+
+        if (!removed.isEmpty()) {
+            skillRepository.deleteByProjectIdAndNameIn(project.getId(), removed);
+            skillAutocompleteIndex.recordRemoved(removed.stream().map(skillDictionary::idOf).toList());
+        }
+        if (!added.isEmpty()) {
+            try {
+                skillAutocompleteIndex.recordAdded(skillRepository.saveAllAndFlush(toSkills(project, added, catalogIds)));
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 같은 프로젝트 스킬을 수정한 경우 유니크 인덱스에서 거부됨
+                log.warn("스킬 교체 중 중복 발생: projectId={}, added={}", project.getId(), added);
+                throw new GeneralException(FailureCode.SKILL_DUPLICATED);
+            }
+        }
+
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            skillCooccurrenceIndex.recordProject(levelOf(project),
+                    current.stream().filter(Objects::nonNull).map(skillDictionary::idOf).toList(),
+                    desired.values().stream().map(name -> catalogIds.get(SkillDictionary.key(name))).toList());
+        }
+
+        log.info("스킬 교체 완료: projectId={}, added={}, removed={}", project.getId(), added.size(), removed.size());
+        return new SkillDiff(new ArrayList<>(desired.values()), added, removed.stream().distinct().toList());
+    }
+
     /**
      * 프로젝트 모든 스킬 이름 조회
      *
@@ -95,16 +163,23 @@ public class SkillService {
         Skill skill = skillRepository.findById(skillId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 스킬입니다: " + skillId));
 
+        List<Integer> before = skillRepository.findCatalogIdsByProjectId(skill.getProject().getId());
+        List<Integer> after = new ArrayList<>(before);
+        after.remove(skill.getCatalogId());
+
         skillRepository.delete(skill);
+        skillAutocompleteIndex.recordRemoved(Collections.singletonList(skill.getCatalogId()));
+        skillCooccurrenceIndex.recordProject(levelOf(skill.getProject()), before, after);
         log.info("스킬 삭제 완료: skillId={}, skillName={}", skillId, skill.getName());
     }
 
     /**
-     * 스킬 이름으로 검색
+     * 스킬 이름으로 검색 (표준 스킬 사전에서 대표 표기/별칭 부분 일치 -> 사전 ID로 조회)
      */
     public List<Skill> searchSkillsByName(String skillName) {
         log.debug("스킬 검색: skillName={}", skillName);
-        return skillRepository.findByNameContainingIgnoreCase(skillName);
+        List<Integer> catalogIds = skillDictionary.searchIds(skillName);
+        return catalogIds.isEmpty() ? List.of() : skillRepository.findByCatalogIdIn(catalogIds);
     }
 
     /**
@@ -114,22 +189,27 @@ public class SkillService {
     public String addSkillToProject(Project project, String skillName) {
         log.info("프로젝트에 스킬 추가: projectId={}, skillName={}", project.getId(), skillName);
 
-        // 이미 존재하는 스킬인지 확인
-        List<Skill> existingSkills = skillRepository.findAllByProjectId(project.getId());
-        boolean skillExists = existingSkills.stream()
-                .anyMatch(skill -> skill.getName().equalsIgnoreCase(skillName.trim()));
-
-        if (skillExists) {
-            log.warn("이미 존재하는 스킬: projectId={}, skillName={}", project.getId(), skillName);
+        // 이미 존재하는 스킬인지 확인: 같은 표준 스킬(별칭 포함, 예: "JS"와 "JavaScript"),
+        // 또는 사전 ID가 아직 없는 기존 스킬과 같은 이름(대소문자 무시, 인덱스 조회)
+        Integer catalogId = skillDictionary.resolveIds(List.of(skillName)).get(SkillDictionary.key(skillName));
+        List<Integer> before = skillRepository.findCatalogIdsByProjectId(project.getId());
+        if (before.contains(catalogId)
+                || skillRepository.existsByProjectIdAndNameIgnoreCase(project.getId(), skillName.trim())) {
+            log.warn("이미 존재하는 스킬: projectId={}, skillName={}, catalogId={}", project.getId(), skillName, catalogId);
             throw new IllegalArgumentException("이미 존재하는 스킬입니다: " + skillName);
         }
 
         Skill newSkill = Skill.builder()
                 .name(skillName.trim())
+                .catalogId(catalogId)
                 .project(project)
                 .build();
 
         Skill savedSkill = skillRepository.save(newSkill);
+        skillAutocompleteIndex.recordAdded(List.of(savedSkill));
+        List<Integer> after = new ArrayList<>(before);
+        after.add(catalogId);
+        skillCooccurrenceIndex.recordProject(levelOf(project), before, after);
         log.info("스킬 추가 완료: skillId={}, skillName={}", savedSkill.getId(), savedSkill.getName());
 
         return savedSkill.getName();
@@ -139,12 +219,85 @@ public class SkillService {
      * 프로젝트의 모든 스킬 삭제
      */
     @Transactional
-    public void deleteSkillsByProject(Long projectId) {
+    public void deleteSkillsByProject(Project project) {
+        Long projectId = project.getId();
         log.info("프로젝트 스킬 삭제: projectId={}", projectId);
 
-        List<Skill> skills = skillRepository.findAllByProjectId(projectId);
-        skillRepository.deleteAll(skills);
+        List<Integer> catalogIds = skillRepository.findCatalogIdsByProjectId(projectId);
+        int deletedCount = skillRepository.deleteAllByProjectIdInBulk(projectId);
+        skillAutocompleteIndex.recordRemoved(catalogIds);
+        skillCooccurrenceIndex.recordProject(levelOf(project), catalogIds, List.of());
+
+        log.info("프로젝트 스킬 삭제 완료: projectId={}, deletedCount={}", projectId, deletedCount);
+    }
+
+    /**
+     * 스킬 이름 비교 키 (앞뒤 공백 제거 + 소문자)
+     */
+    static String nameKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 빈 이름을 제외하고 비교 키 기준으로 중복 제거 (처음 나온 표기 유지, 입력 순서 유지)
+     */
+    static Map<String, String> normalizeNames(List<String> skillNames) {
+        Map<String, String> names = new LinkedHashMap<>();
+        if (skillNames == null) {
+            return names;
+        }
+        for (String name : skillNames) {
+            if (name != null && !name.trim().isEmpty()) {
+                names.putIfAbsent(nameKey(name), name.trim());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 같은 표준 스킬을 가리키는 이름(예: "JS", "JavaScript")은 처음 나온 것만 유지
+     */
+    static Map<String, String> dedupeByCatalog(Map<String, String> names, Map<String, Integer> catalogIds) {
+        Map<String, String> result = new LinkedHashMap<>();
+        Set<Integer> seen = new HashSet<>();
+        names.forEach((key, name) -> {
+            Integer catalogId = catalogIds.get(SkillDictionary.key(name));
+            if (catalogId == null || seen.add(catalogId)) {
+                result.put(key, name);
+            }
+        });
+        return result;
+    }
+
+    private static List<Integer> catalogIdsOf(Collection<Skill> skills) {
+        return skills.stream().map(Skill::getCatalogId).toList();
+    }
 
-        log.info("프로젝트 스킬 삭제 완료: projectId={}, deletedCount={}", projectId, skills.size());
+    /**
+     * 프로젝트 소유자 등급 (동시 출현 인덱스의 등급별 집계용)
+     */
+    private static MemberLevel levelOf(Project project) {
+        return project.getMember() != null ? project.getMember().getLevel() : null;
+    }
+
+    private static List<Skill> toSkills(Project project, Collection<String> names, Map<String, Integer> catalogIds) {
+        return names.stream()
+                .map(name -> Skill.builder()
+                        .name(name)
+                        .catalogId(catalogIds.get(SkillDictionary.key(name)))
+                        .project(project)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 스킬 교체 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SkillDiff {
+        private final List<String> skills;
+        private final List<String> added;
+        private final List<String> removed;
     }
 }
@@ -24,6 +24,13 @@ public enum FailureCode implements BaseErrorCode {
     MEMBER_INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "MEMBER401", "이메일 또는 비밀번호가 일치하지 않습니다."),
     MEMBER_INVALID_NAME(HttpStatus.BAD_REQUEST, "MEMBER400_3", "이름은 1자 이상 15자 이하여야 합니다."),
 
+    // Skill 관련 에러 코드들
+    SKILL_NOT_FOUND(HttpStatus.NOT_FOUND, "SKILL404", "스킬을 찾을 수 없습니다."),
+    SKILL_DUPLICATED(HttpStatus.CONFLICT, "SKILL409", "이미 존재하는 스킬입니다."),
+
+    // News 관련 에러 코드들
+    NEWS_URL_DUPLICATED(HttpStatus.CONFLICT, "NEWS409", "이미 등록된 뉴스입니다."),
+
     // Conversation 관련 에러 코드들 (나중에 사용)
     CONVERSATION_NOT_FOUND(HttpStatus.NOT_FOUND, "CONVERSATION404", "대화를 찾을 수 없습니다."),
     CONVERSATION_ACCESS_DENIED(HttpStatus.FORBIDDEN, "CONVERSATION403", "해당 대화에 접근할 권한이 없습니다."),
@@ -1,8 +1,7 @@
 package com.sk.growthnav.global.auth;
 
-import com.sk.growthnav.api.member.entity.Member;
-import com.sk.growthnav.api.member.service.MemberService;
 import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.auth.MemberAuthCache.MemberAuthInfo;
 import com.sk.growthnav.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,11 +10,12 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AuthHelper {
 
-    private final MemberService memberService;
+    // 권한 확인은 엔티티 대신 캐시된 역할/등급 정보 사용
+    private final MemberAuthCache memberAuthCache;
 
     // 관리자 권한 확인
     public void validateAdminRole(Long memberId) {
-        Member member = memberService.findById(memberId);
+        MemberAuthInfo member = memberAuthCache.get(memberId);
         if (!member.isAdmin()) {
             throw new GeneralException(FailureCode._FORBIDDEN);
         }
@@ -23,7 +23,7 @@ public class AuthHelper {
 
     // EXPERT 권한 확인 (Admin도 EXPERT 가능)
     public void validateExpertRole(Long memberId) {
-        Member member = memberService.findById(memberId);
+        MemberAuthInfo member = memberAuthCache.get(memberId);
         if (!member.isEXPERT()) {
             throw new GeneralException(FailureCode._FORBIDDEN);
         }
@@ -35,4 +35,4 @@ public class AuthHelper {
             validateAdminRole(requesterId);
         }
     }
-}
\ No newline at end of file
+}
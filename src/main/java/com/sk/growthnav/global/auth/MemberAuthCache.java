@@ -0,0 +1,158 @@
+package com.sk.growthnav.global.auth;
+
+import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.member.entity.MemberRole;
+import com.sk.growthnav.api.member.repository.MemberRepository;
+import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.exception.GeneralException;
+import com.sk.growthnav.global.util.BoundedLruMap;
+import com.sk.growthnav.global.util.TransactionCallbacks;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 권한 확인용 회원 역할/등급 캐시
+ * - 요청 단위 메모: 한 요청 안에서 같은 회원을 반복 조회하지 않음
+ * - 짧은 TTL + 최대 크기 제한 LRU: 요청 간 DB 조회 감소
+ * 역할/등급 변경 시에는 evict()로 명시적으로 무효화해야 함
+ * 캐시는 파드마다 따로 유지되고 evict()는 호출한 파드에서만 무효화하므로,
+ * 다른 파드에서는 changeMemberRole 이후 최대 TTL(app.auth.cache.ttl-ms) 동안 이전 역할/등급이 보일 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberAuthCache {
+
+    private static final String REQUEST_MEMO_ATTRIBUTE = MemberAuthCache.class.getName() + ".memo";
+
+    private final MemberRepository memberRepository;
+
+    @Value("${app.auth.cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${app.auth.cache.max-size:10000}")
+    private int maxSize;
+
+    private final BoundedLruMap<Long, CacheEntry> entries = BoundedLruMap.ofMaxEntries(256, () -> maxSize);
+
+    /**
+     * 회원 권한 정보 조회 (요청 메모 -> TTL 캐시 -> DB 순)
+     */
+    public MemberAuthInfo get(Long memberId) {
+        Map<Long, MemberAuthInfo> memo = currentRequestMemo();
+        if (memo != null) {
+            MemberAuthInfo memoized = memo.get(memberId);
+            if (memoized != null) {
+                return memoized;
+            }
+        }
+
+        MemberAuthInfo info = getFromCache(memberId);
+        if (info == null) {
+            log.debug("권한 캐시 미스, DB 조회: memberId={}", memberId);
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new GeneralException(FailureCode.MEMBER_NOT_FOUND));
+            info = MemberAuthInfo.from(member);
+            put(memberId, info);
+        }
+
+        if (memo != null) {
+            memo.put(memberId, info);
+        }
+        return info;
+    }
+
+    /**
+     * 회원 권한 정보 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 무효화하여 커밋 전 재적재된 값을 제거
+     */
+    public void evict(Long memberId) {
+        removeEntry(memberId);
+
+        Map<Long, MemberAuthInfo> memo = currentRequestMemo();
+        if (memo != null) {
+            memo.remove(memberId);
+        }
+
+        TransactionCallbacks.afterCommit(() -> removeEntry(memberId));
+        log.debug("권한 캐시 무효화: memberId={}", memberId);
+    }
+
+    private MemberAuthInfo getFromCache(Long memberId) {
+        CacheEntry entry = entries.get(memberId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(memberId);
+            return null;
+        }
+        return entry.info;
+    }
+
+    private void put(Long memberId, MemberAuthInfo info) {
+        entries.put(memberId, new CacheEntry(info, System.currentTimeMillis() + ttlMs));
+    }
+
+    private void removeEntry(Long memberId) {
+        entries.remove(memberId);
+    }
+
+    /**
+     * 현재 HTTP 요청에 묶인 메모 (요청 스레드가 아니면 null)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, MemberAuthInfo> currentRequestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Object memo = attributes.getAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<Long, MemberAuthInfo>();
+            attributes.setAttribute(REQUEST_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<Long, MemberAuthInfo>) memo;
+    }
+
+    @AllArgsConstructor
+    private static class CacheEntry {
+        private final MemberAuthInfo info;
+        private final long expiresAt;
+    }
+
+    /**
+     * 권한 확인에 필요한 최소한의 회원 정보 (엔티티를 캐시하지 않음)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class MemberAuthInfo {
+        private final Long memberId;
+        private final MemberRole role;
+        private final MemberLevel level;
+
+        public static MemberAuthInfo from(Member member) {
+            return new MemberAuthInfo(member.getId(), member.getRole(), member.getLevel());
+        }
+
+        // 관리자 여부 확인
+        public boolean isAdmin() {
+            return this.role == MemberRole.ADMIN;
+        }
+
+        public boolean isEXPERT() {
+            return this.role == MemberRole.EXPERT || this.role == MemberRole.ADMIN;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sk.growthnav.global.base;
+
+import java.util.List;
+
+/**
+ * 엔티티 ID 시퀀스 정의
+ * IDENTITY는 INSERT 실행 후에야 키를 알 수 있어 Hibernate가 INSERT 배치를 끄므로,
+ * 시퀀스에서 ALLOCATION_SIZE개씩 키를 미리 받아(pooled-lo) 여러 건을 한 번에 전송한다.
+ * 새 시퀀스 엔티티를 추가하면 기존 테이블 이전(IdSequenceMigration)을 위해 ENTRIES에도 등록한다.
+ */
+public final class IdSequences {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final List<Entry> ENTRIES = List.of(
+            new Entry("member", "member_id", "member_seq"),
+            new Entry("project", "project_id", "project_seq"),
+            new Entry("skill", "skill_id", "skill_seq"),
+            new Entry("skill_catalog", "catalog_id", "skill_catalog_seq"),
+            new Entry("news", "news_id", "news_seq"),
+            new Entry("news_enrichment_job", "job_id", "news_enrichment_job_seq")
+    );
+
+    private IdSequences() {
+    }
+
+    public record Entry(String table, String idColumn, String sequence) {
+    }
+}
@@ -16,9 +16,11 @@ public class AsyncConfig {
 
     /**
      * 썸네일 추출을 위한 전용 스레드 풀
+     * 외부 사이트 접속(블로킹 I/O)만 수행하므로 공용 풀과 분리하고,
+     * 큐가 가득 차면 요청 스레드에서 실행하지 않고 거부(TaskRejectedException)하여 호출 측에서 나중에 재시도하도록 함
      */
     @Bean(name = "thumbnailExecutor")
-    public Executor thumbnailExecutor() {
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // 코어 스레드 수: 2개
@@ -33,8 +35,8 @@ public class AsyncConfig {
         // 스레드 이름 접두사
         executor.setThreadNamePrefix("thumbnail-");
 
-        // 큐가 가득 찰 때 정책: 호출자 스레드에서 실행
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 큐가 가득 찰 때 정책: 거부 (호출자 스레드에서 실행하지 않음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 
         // 애플리케이션 종료 시 처리
         executor.setWaitForTasksToCompleteOnShutdown(true);
@@ -43,7 +45,7 @@ public class AsyncConfig {
         // 스레드 풀 초기화
         executor.initialize();
 
-        log.info("썸네일 추출용 스레드 풀 설정 완료: corePoolSize=2, maxPoolSize=4, queueCapacity=100");
+        log.info("썸네일 추출용 스레드 풀 설정 완료: corePoolSize=2, maxPoolSize=4, queueCapacity=100, rejection=abort");
 
         return executor;
     }
@@ -81,4 +83,39 @@ public class AsyncConfig {
 
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * 홈 화면 병렬 조회(Postgres/Mongo 분기)를 위한 스레드 풀
+     * 큐가 가득 차면 호출자 스레드에서 실행되어 순차 조회로 자연스럽게 degrade 됨
+     */
+    @Bean(name = "homeScreenExecutor")
+    public Executor homeScreenExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // 코어 스레드 수: 4개
+        executor.setCorePoolSize(4);
+
+        // 최대 스레드 수: 8개
+        executor.setMaxPoolSize(8);
+
+        // 큐 용량: 100개
+        executor.setQueueCapacity(100);
+
+        // 스레드 이름 접두사
+        executor.setThreadNamePrefix("home-");
+
+        // 큐가 가득 찰 때 정책: 호출자 스레드에서 실행
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        // 애플리케이션 종료 시 처리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        // 스레드 풀 초기화
+        executor.initialize();
+
+        log.info("홈 화면 병렬 조회용 스레드 풀 설정 완료: corePoolSize=4, maxPoolSize=8, queueCapacity=100");
+
+        return executor;
+    }
+}
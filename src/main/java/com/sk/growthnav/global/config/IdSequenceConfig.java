@@ -0,0 +1,79 @@
+package com.sk.growthnav.global.config;
+
+import com.sk.growthnav.global.base.IdSequences;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * IDENTITY -> 시퀀스 키 전환용 기존 테이블 이전
+ * EntityManagerFactory보다 먼저 실행되어, 데이터가 있는 테이블의 시퀀스를 만들고 현재 최대 ID 다음 값으로 맞춘다.
+ * (새 DB는 테이블이 없으므로 건너뛰고 Hibernate가 시퀀스를 생성)
+ * 기존 IDENTITY 기본값은 남겨두지만 새 키는 모두 시퀀스에서 받으므로, 이전 버전과 함께 실행하지 않는다.
+ */
+@Configuration
+@Slf4j
+public class IdSequenceConfig {
+
+    @Bean
+    public IdSequenceMigration idSequenceMigration(DataSource dataSource) {
+        return new IdSequenceMigration(dataSource);
+    }
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor idSequenceMigrationDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor("idSequenceMigration");
+    }
+
+    @RequiredArgsConstructor
+    public static class IdSequenceMigration implements InitializingBean {
+
+        private final DataSource dataSource;
+
+        @Override
+        public void afterPropertiesSet() throws SQLException {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                    return;
+                }
+            }
+
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            for (IdSequences.Entry entry : IdSequences.ENTRIES) {
+                migrate(jdbcTemplate, entry);
+            }
+        }
+
+        private void migrate(JdbcTemplate jdbcTemplate, IdSequences.Entry entry) {
+            Boolean tableExists = jdbcTemplate.queryForObject(
+                    "SELECT to_regclass(?) IS NOT NULL", Boolean.class, entry.table());
+            if (!Boolean.TRUE.equals(tableExists)) {
+                return;
+            }
+
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + entry.sequence()
+                    + " START WITH 1 INCREMENT BY " + IdSequences.ALLOCATION_SIZE);
+
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + entry.idColumn() + "), 0) FROM " + entry.table(), Long.class);
+            // pooled-lo: nextval 값부터 ALLOCATION_SIZE개를 사용하므로, 이미 호출된 시퀀스는 다음 블록 시작값과 비교
+            Long nextValue = jdbcTemplate.queryForObject(
+                    "SELECT CASE WHEN is_called THEN last_value + " + IdSequences.ALLOCATION_SIZE
+                            + " ELSE last_value END FROM " + entry.sequence(), Long.class);
+
+            if (maxId != null && nextValue != null && maxId >= nextValue) {
+                jdbcTemplate.queryForObject("SELECT setval(?, ?, false)", Long.class, entry.sequence(), maxId + 1);
+                log.info("ID 시퀀스 조정: sequence={}, table={}, maxId={}, next={}",
+                        entry.sequence(), entry.table(), maxId, maxId + 1);
+            }
+        }
+    }
+}
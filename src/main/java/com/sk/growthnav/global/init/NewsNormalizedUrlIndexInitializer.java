@@ -0,0 +1,47 @@
+package com.sk.growthnav.global.init;
+
+import com.sk.growthnav.api.news.entity.NewsStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 뉴스 정규화 URL 부분 유니크 인덱스 (거부된 뉴스 제외) 생성
+ * 거부된 뉴스의 URL은 다시 등록할 수 있어야 하므로 status <> 'REJECTED'인 행에만 유니크를 적용한다.
+ * JPA로는 부분 인덱스를 선언할 수 없어 PostgreSQL에서만 생성하며, Hibernate가 테이블을 만든 뒤(웹 서버가 요청을 받기 전) 실행된다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class NewsNormalizedUrlIndexInitializer implements InitializingBean {
+
+    static final String INDEX_NAME = "uk_news_normalized_url_active";
+
+    // 이전 버전이 만든 전체 유니크 인덱스 (거부된 뉴스까지 막음)
+    private static final String LEGACY_INDEX_NAME = "uk_news_normalized_url";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+        }
+
+        jdbcTemplate.execute("DROP INDEX IF EXISTS " + LEGACY_INDEX_NAME);
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + INDEX_NAME +
+                " ON news (normalized_url) WHERE status <> '" + NewsStatus.REJECTED.name() + "'");
+        log.info("뉴스 정규화 URL 부분 유니크 인덱스 확인: index={}", INDEX_NAME);
+    }
+}
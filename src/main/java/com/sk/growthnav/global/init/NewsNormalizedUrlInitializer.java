@@ -0,0 +1,41 @@
+package com.sk.growthnav.global.init;
+
+import com.sk.growthnav.api.news.service.NewsImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정규화 URL이 없는 기존 뉴스에 정규화 URL 채우기 (500건 단위 트랜잭션)
+ * 일괄 등록/단건 등록의 중복 판별과 normalized_url 유니크 인덱스가 기존 뉴스에도 적용되도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsNormalizedUrlInitializer {
+
+    private final NewsImportService newsImportService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)  // 목업 데이터 생성(DataInitializer) 이후
+    public void backfill() {
+        int chunks = 0;
+        Long afterId = 0L;
+        try {
+            while ((afterId = newsImportService.backfillNormalizedUrls(afterId)) != null) {
+                chunks++;
+            }
+        } catch (DataAccessException e) {
+            // 채우는 도중 같은 URL이 새로 등록된 경우 등: 다음 시작 때 이어서 채움
+            log.warn("뉴스 정규화 URL 채우기 중단: chunks={}, error={}", chunks, e.getMessage());
+            return;
+        }
+        if (chunks > 0) {
+            log.info("뉴스 정규화 URL 채우기 완료: chunks={}", chunks);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sk.growthnav.global.init;
+
+import com.sk.growthnav.api.skill.repository.SkillRepository;
+import com.sk.growthnav.api.skill.service.SkillAutocompleteIndex;
+import com.sk.growthnav.api.skill.service.SkillCooccurrenceIndex;
+import com.sk.growthnav.api.skill.service.SkillCatalogService;
+import com.sk.growthnav.api.skill.service.SkillDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 표준 스킬 사전 초기화
+ * 1. 사전이 비어 있으면 기본 항목 등록
+ * 2. 사전을 메모리에 적재
+ * 3. 사전 ID가 없는 기존 프로젝트 스킬에 ID 지정 (이름별 일괄 UPDATE, 이미 지정된 스킬은 건너뜀)
+ * 4. 스킬 자동완성/동시 출현 인덱스 구성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillCatalogInitializer {
+
+    private final SkillCatalogService skillCatalogService;
+    private final SkillDictionary skillDictionary;
+    private final SkillRepository skillRepository;
+    private final SkillAutocompleteIndex skillAutocompleteIndex;
+    private final SkillCooccurrenceIndex skillCooccurrenceIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)  // 목업 데이터 생성(DataInitializer) 이후
+    public void initialize() {
+        skillCatalogService.seedIfEmpty();
+        skillDictionary.reload();
+
+        List<String> names = skillRepository.findNamesWithoutCatalog().stream()
+                .filter(name -> !name.isBlank())
+                .toList();
+        int updated = 0;
+        if (!names.isEmpty()) {
+            Map<String, Integer> idsByKey = skillDictionary.resolveIds(names);
+            Map<String, Integer> idsByName = new HashMap<>();
+            names.forEach(name -> idsByName.put(name, idsByKey.get(SkillDictionary.key(name))));
+            updated = skillCatalogService.assignCatalogIds(idsByName);
+        }
+
+        skillAutocompleteIndex.rebuild();
+        skillCooccurrenceIndex.rebuild();
+        log.info("표준 스킬 사전 준비 완료: entries={}, assignedSkills={}", skillDictionary.size(), updated);
+    }
+}
@@ -0,0 +1,54 @@
+package com.sk.growthnav.global.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 프로젝트 스킬 이름 유니크 인덱스 (project_id, lower(skill_name)) 생성
+ * JPA로는 함수 인덱스를 선언할 수 없어 PostgreSQL에서만 시작 시 생성한다.
+ * 인덱스가 없을 때는 먼저 인덱스와 같은 키(lower(skill_name))로 겹치는 기존 중복 행을 정리(가장 먼저 등록된 행 유지)한다.
+ * Hibernate가 테이블을 만든 뒤, 웹 서버가 요청을 받기 전(목업 데이터 생성보다도 먼저) 실행된다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class SkillNameIndexInitializer implements InitializingBean {
+
+    private static final String INDEX_NAME = "uk_skill_project_lower_name";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+        }
+
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, INDEX_NAME);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM skill s USING skill d " +
+                        "WHERE s.project_id = d.project_id " +
+                        "AND lower(s.skill_name) = lower(d.skill_name) " +
+                        "AND s.skill_id > d.skill_id");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + INDEX_NAME +
+                " ON skill (project_id, lower(skill_name))");
+        log.info("스킬 이름 유니크 인덱스 생성: index={}, removedDuplicates={}", INDEX_NAME, deleted);
+    }
+}
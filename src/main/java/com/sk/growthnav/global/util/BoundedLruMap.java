@@ -0,0 +1,98 @@
+package com.sk.growthnav.global.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 크기 제한 LRU 맵 (접근 순서 기반, 스레드 안전)
+ * - 항목마다 무게(기본 1)를 매기고, 전체 무게가 한도를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 한도는 LongSupplier로 받아 @Value 주입 이후의 설정값을 매번 읽음
+ * - 모든 메서드는 이 객체로 동기화하므로, 호출하는 쪽이 다른 상태와 함께 묶을 때도 synchronized (map)을 쓰면 됨
+ */
+public final class BoundedLruMap<K, V> {
+
+    private final LinkedHashMap<K, V> entries;
+    private final LongSupplier maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final Runnable onEviction;
+    private long weight = 0;
+
+    private BoundedLruMap(int initialCapacity, LongSupplier maxWeight, ToLongFunction<? super V> weigher, Runnable onEviction) {
+        this.entries = new LinkedHashMap<>(initialCapacity, 0.75f, true);
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.onEviction = onEviction;
+    }
+
+    /**
+     * 항목 수로 크기를 제한하는 LRU 맵
+     */
+    public static <K, V> BoundedLruMap<K, V> ofMaxEntries(int initialCapacity, LongSupplier maxEntries) {
+        return new BoundedLruMap<>(initialCapacity, maxEntries, value -> 1L, () -> {
+        });
+    }
+
+    /**
+     * 항목 무게 합으로 크기를 제한하는 LRU 맵 (한도 초과로 제거될 때마다 onEviction 호출)
+     */
+    public static <K, V> BoundedLruMap<K, V> ofMaxWeight(int initialCapacity, LongSupplier maxWeight,
+                                                         ToLongFunction<? super V> weigher, Runnable onEviction) {
+        return new BoundedLruMap<>(initialCapacity, maxWeight, weigher, onEviction);
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 저장 후 한도를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+     */
+    public synchronized V put(K key, V value) {
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            weight -= weigher.applyAsLong(previous);
+        }
+        weight += weigher.applyAsLong(value);
+
+        long limit = maxWeight.getAsLong();
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (weight > limit && iterator.hasNext()) {
+            V evicted = iterator.next().getValue();
+            iterator.remove();
+            weight -= weigher.applyAsLong(evicted);
+            onEviction.run();
+        }
+        return previous;
+    }
+
+    public synchronized V remove(K key) {
+        V removed = entries.remove(key);
+        if (removed != null) {
+            weight -= weigher.applyAsLong(removed);
+        }
+        return removed;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * 현재 항목의 복사본 (사용 순서를 바꾸지 않음)
+     */
+    public synchronized Map<K, V> snapshot() {
+        return new LinkedHashMap<>(entries);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+}
@@ -0,0 +1,162 @@
+package com.sk.growthnav.api.admin.controller;
+
+import com.sk.growthnav.api.admin.service.AdminDashboardService;
+import com.sk.growthnav.api.admin.service.AdminService;
+import com.sk.growthnav.api.member.entity.ExpertiseArea;
+import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.member.entity.MemberRole;
+import com.sk.growthnav.api.member.repository.MemberRepository;
+import com.sk.growthnav.api.member.repository.MemberRepository.MemberSummary;
+import com.sk.growthnav.api.member.service.MemberService;
+import com.sk.growthnav.global.auth.AuthHelper;
+import com.sk.growthnav.global.auth.MemberAuthCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원/전문가 키셋 페이지 API 검증 (AdminService는 실제 객체, 저장소만 목)
+ */
+@DisplayName("AdminController 페이지 API 테스트")
+class AdminControllerTest {
+
+    private static final Long ADMIN_ID = 1L;
+
+    private MemberRepository memberRepository;
+    private AuthHelper authHelper;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        authHelper = mock(AuthHelper.class);
+        AdminService adminService = new AdminService(memberRepository, mock(MemberAuthCache.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(new AdminController(
+                adminService, mock(AdminDashboardService.class), mock(MemberService.class), authHelper)).build();
+    }
+
+    @Test
+    @DisplayName("회원 페이지: 한 건 더 조회되면 마지막 회원 ID를 nextCursor로 반환")
+    void getMemberPage_HasNext() throws Exception {
+        // Given
+        given(memberRepository.findByRoleAndIdGreaterThanOrderByIdAsc(MemberRole.USER, 10L, PageRequest.of(0, 3)))
+                .willReturn(List.of(summary(11L, MemberRole.USER), summary(15L, MemberRole.USER),
+                        summary(20L, MemberRole.USER)));
+
+        // When & Then
+        mockMvc.perform(get("/api/admin/members/page")
+                        .param("adminId", ADMIN_ID.toString())
+                        .param("afterId", "10")
+                        .param("limit", "2")
+                        .param("role", "USER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.result.members", hasSize(2)))
+                .andExpect(jsonPath("$.result.members[0].memberId").value(11))
+                .andExpect(jsonPath("$.result.members[1].joinDate").value("2025-01-02"))
+                .andExpect(jsonPath("$.result.nextCursor").value(15))
+                .andExpect(jsonPath("$.result.hasNext").value(true));
+
+        then(authHelper).should().validateAdminRole(ADMIN_ID);
+    }
+
+    @Test
+    @DisplayName("회원 페이지: 필터 조합에 맞는 쿼리를 사용하고 마지막 페이지는 nextCursor 없음")
+    void getMemberPage_LastPage() throws Exception {
+        // Given
+        given(memberRepository.findByLevelAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(
+                MemberLevel.CL2, ExpertiseArea.AI, 0L, PageRequest.of(0, 21)))
+                .willReturn(List.of(summary(5L, MemberRole.EXPERT)));
+
+        // When & Then
+        mockMvc.perform(get("/api/admin/members/page")
+                        .param("adminId", ADMIN_ID.toString())
+                        .param("level", "CL2")
+                        .param("expertiseArea", "AI"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.members", hasSize(1)))
+                .andExpect(jsonPath("$.result.nextCursor").value(nullValue()))
+                .andExpect(jsonPath("$.result.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("전문가 페이지: 분야를 지정하면 분야별 쿼리로 조회하고 limit은 최대 100으로 제한")
+    void getExpertPage_ByArea() throws Exception {
+        // Given
+        given(memberRepository.findByIsExpertTrueAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(
+                ExpertiseArea.FINANCE, 30L, PageRequest.of(0, 101)))
+                .willReturn(List.of(summary(31L, MemberRole.EXPERT)));
+
+        // When & Then
+        mockMvc.perform(get("/api/admin/experts/page")
+                        .param("adminId", ADMIN_ID.toString())
+                        .param("afterId", "30")
+                        .param("limit", "500")
+                        .param("expertiseArea", "FINANCE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.members[0].memberId").value(31))
+                .andExpect(jsonPath("$.result.members[0].expertiseAreaText").value("금융"))
+                .andExpect(jsonPath("$.result.hasNext").value(false));
+
+        then(authHelper).should().validateAdminRole(ADMIN_ID);
+    }
+
+    private static MemberSummary summary(Long id, MemberRole role) {
+        return new MemberSummary() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return "회원" + id;
+            }
+
+            @Override
+            public String getEmail() {
+                return "member" + id + "@sk.com";
+            }
+
+            @Override
+            public MemberRole getRole() {
+                return role;
+            }
+
+            @Override
+            public Boolean getIsExpert() {
+                return role != MemberRole.USER;
+            }
+
+            @Override
+            public MemberLevel getLevel() {
+                return MemberLevel.CL2;
+            }
+
+            @Override
+            public ExpertiseArea getExpertiseArea() {
+                return role == MemberRole.EXPERT ? ExpertiseArea.FINANCE : null;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return LocalDateTime.of(2025, 1, 2, 9, 0);
+            }
+        };
+    }
+}
@@ -5,12 +5,19 @@ import com.sk.growthnav.global.document.SenderType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -211,4 +218,119 @@ class ConversationRepositoryTest {
         assertThat(foundConversation.getMessages()).hasSize(2);
         assertThat(foundConversation.getMessages().get(1).getMessageText()).isEqualTo("응답 메시지");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("memberId 스트리밍 조회 시 projection 필드만 채워짐")
+    void streamMemberIdsUpdatedBetween_ProjectedFieldsOnly() {
+        // Given
+        ConversationDocument conversation = ConversationDocument.builder()
+                .memberId(7L)
+                .build();
+        conversation.addMessage(SenderType.USER, "스트리밍 테스트");
+        conversationRepository.save(conversation);
+
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        LocalDateTime end = LocalDateTime.now().plusDays(1);
+
+        // When
+        List<ConversationDocument> result;
+        try (Stream<ConversationDocument> stream = conversationRepository.streamMemberIdsUpdatedBetween(start, end)) {
+            result = stream.toList();
+        }
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getMemberId()).isEqualTo(7L);
+        assertThat(result.get(0).getMessages()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리 스트리밍 조회 시 메시지 본문은 읽지 않고 발신자/카테고리만 채워짐")
+    void streamAllMessageCategories_ProjectedFieldsOnly() {
+        // Given
+        ConversationDocument conversation = ConversationDocument.builder()
+                .memberId(7L)
+                .build();
+        conversation.addMessage(SenderType.USER, "커리어 성장 방향이 궁금합니다");
+        conversation.addMessage(SenderType.BOT, "긴 답변 본문");
+        conversationRepository.save(conversation);
+
+        // When
+        List<ConversationDocument> result;
+        try (Stream<ConversationDocument> stream = conversationRepository.streamAllMessageCategories()) {
+            result = stream.toList();
+        }
+
+        // Then
+        assertThat(result).singleElement().satisfies(found -> {
+            assertThat(found.getMessages()).hasSize(2);
+            assertThat(found.getMessages()).extracting(ConversationDocument.MessageDocument::getMessageText)
+                    .containsOnlyNulls();
+            assertThat(found.getMessages()).extracting(ConversationDocument.MessageDocument::getSenderType)
+                    .containsExactly(SenderType.USER, SenderType.BOT);
+            assertThat(found.getMessages().get(0).getCategory()).isNotNull();
+        });
+    }
+
+    /**
+     * 힙 사용량 측정은 GC 시점과 JVM 설정에 따라 흔들리므로 명시적으로 켰을 때만 실행
+     * CONVERSATION_HEAP_BENCHMARK=true ./gradlew test --tests '*ConversationRepositoryTest'
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "CONVERSATION_HEAP_BENCHMARK", matches = "true")
+    @DisplayName("대용량 데이터 스트리밍 집계 시 힙 사용량이 데이터 크기에 비례하지 않음")
+    void streamAllMessageCategories_BoundedHeapOnLargeDataset() {
+        // Given - 대화 4,000개 x 메시지 10개 x 본문 2KB (본문만 약 80MB)
+        int conversationCount = 4_000;
+        int messagesPerConversation = 10;
+        String largeText = "성장 커리어 질문 ".repeat(200);
+
+        List<ConversationDocument> batch = new ArrayList<>();
+        for (int i = 0; i < conversationCount; i++) {
+            ConversationDocument conversation = ConversationDocument.builder()
+                    .memberId((long) (i % 500))
+                    .build();
+            for (int j = 0; j < messagesPerConversation; j++) {
+                conversation.addMessage(j % 2 == 0 ? SenderType.USER : SenderType.BOT, largeText);
+            }
+            batch.add(conversation);
+            if (batch.size() == 200) {
+                conversationRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        conversationRepository.saveAll(batch);
+        batch.clear();
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long baseline = runtime.totalMemory() - runtime.freeMemory();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicLong userMessages = new AtomicLong();
+
+        // When - 카테고리 필드만 스트리밍하며 카운트
+        try (Stream<ConversationDocument> stream = conversationRepository.streamAllMessageCategories()) {
+            stream.forEach(conversation -> {
+                for (ConversationDocument.MessageDocument message : conversation.getMessages()) {
+                    assertThat(message.getMessageText()).isNull();
+                    if (message.getSenderType() == SenderType.USER && message.getCategory() != null) {
+                        userMessages.incrementAndGet();
+                    }
+                }
+                long used = runtime.totalMemory() - runtime.freeMemory();
+                peak.accumulateAndGet(used, Math::max);
+            });
+        }
+
+        // Then - 모든 사용자 메시지가 집계되고, 힙 증가량은 원본 본문 크기보다 훨씬 작아야 함
+        assertThat(userMessages.get()).isEqualTo((long) conversationCount * messagesPerConversation / 2);
+        assertThat(peak.get() - baseline).isLessThan(64L * 1024 * 1024);
+
+        Set<Long> memberIds = new HashSet<>();
+        try (Stream<ConversationDocument> stream = conversationRepository.streamMemberIdsUpdatedBetween(
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1))) {
+            stream.forEach(conversation -> memberIds.add(conversation.getMemberId()));
+        }
+        assertThat(memberIds).hasSize(500);
+    }
+}
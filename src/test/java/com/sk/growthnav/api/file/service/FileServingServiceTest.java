@@ -0,0 +1,102 @@
+package com.sk.growthnav.api.file.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("FileServingService 테스트")
+class FileServingServiceTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @TempDir
+    Path dir;
+
+    private FileServingService fileServingService;
+    private Path contentAddressed;
+    private Path plain;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 메모리 캐시는 항상 비어 있고 적재하지 않음 (파일에서 transferTo로 전송)
+        fileServingService = new FileServingService(mock(FileMemoryCache.class));
+        contentAddressed = Files.writeString(dir.resolve(HASH + "_640w.jpg"), "0123456789", StandardCharsets.UTF_8);
+        plain = Files.writeString(dir.resolve("banner.png"), "0123456789", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("내용 주소 기반 파일은 강한 ETag이고, If-Range가 같으면 범위만 전송")
+    void ifRange_StrongEtagMatches() throws IOException {
+        // Given
+        MockHttpServletRequest request = rangeRequest("\"" + HASH + "_640w\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        fileServingService.serve(contentAddressed, request, response);
+
+        // Then
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + HASH + "_640w\"");
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("234");
+    }
+
+    @Test
+    @DisplayName("약한 ETag는 If-Range와 일치로 보지 않고 전체 전송")
+    void ifRange_WeakEtagNeverMatches() throws IOException {
+        // Given: 먼저 약한 ETag를 받아 그대로 If-Range로 보냄
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        fileServingService.serve(plain, new MockHttpServletRequest("GET", "/"), first);
+        String weakEtag = first.getHeader(HttpHeaders.ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        fileServingService.serve(plain, rangeRequest(weakEtag), response);
+
+        // Then
+        assertThat(weakEtag).startsWith("W/");
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("If-Range 날짜가 Last-Modified와 같으면 범위 전송, 다르면 전체 전송")
+    void ifRange_Date() throws IOException {
+        // Given
+        long lastModified = Files.getLastModifiedTime(plain).toMillis();
+        MockHttpServletRequest same = new MockHttpServletRequest("GET", "/");
+        same.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+        same.addHeader(HttpHeaders.IF_RANGE, lastModified);
+        MockHttpServletRequest older = new MockHttpServletRequest("GET", "/");
+        older.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+        older.addHeader(HttpHeaders.IF_RANGE, lastModified - 60_000);
+        MockHttpServletResponse sameResponse = new MockHttpServletResponse();
+        MockHttpServletResponse olderResponse = new MockHttpServletResponse();
+
+        // When
+        fileServingService.serve(plain, same, sameResponse);
+        fileServingService.serve(plain, older, olderResponse);
+
+        // Then
+        assertThat(sameResponse.getStatus()).isEqualTo(206);
+        assertThat(olderResponse.getStatus()).isEqualTo(200);
+    }
+
+    private static MockHttpServletRequest rangeRequest(String ifRange) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+        request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+        return request;
+    }
+}
@@ -0,0 +1,105 @@
+package com.sk.growthnav.api.member.repository;
+
+import com.sk.growthnav.api.member.entity.ExpertiseArea;
+import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.member.entity.MemberRole;
+import com.sk.growthnav.api.member.repository.MemberRepository.MemberSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리자 목록용 키셋 페이지 쿼리 (MemberSummary 프로젝션) 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("MemberRepository 키셋 페이지 테스트")
+class MemberRepositoryTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        members.add(save("사용자1", MemberRole.USER, MemberLevel.CL1, null));
+        members.add(save("사용자2", MemberRole.USER, MemberLevel.CL2, null));
+        members.add(save("전문가1", MemberRole.EXPERT, MemberLevel.CL3, ExpertiseArea.AI));
+        members.add(save("전문가2", MemberRole.EXPERT, MemberLevel.CL2, ExpertiseArea.FINANCE));
+        members.add(save("관리자", MemberRole.ADMIN, MemberLevel.CL5, null));
+        members.sort(Comparator.comparing(Member::getId));
+    }
+
+    @Test
+    @DisplayName("프로젝션으로 목록 필드를 채우고 afterId 이후를 ID 순으로 size만큼 조회")
+    void findPage_ProjectionAndKeyset() {
+        // Given
+        Member first = members.get(0);
+
+        // When
+        List<MemberSummary> page = memberRepository.findByIdGreaterThanOrderByIdAsc(first.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(page).extracting(MemberSummary::getId)
+                .containsExactly(members.get(1).getId(), members.get(2).getId());
+        MemberSummary summary = page.get(0);
+        Member expected = members.get(1);
+        assertThat(summary.getName()).isEqualTo(expected.getName());
+        assertThat(summary.getEmail()).isEqualTo(expected.getEmail());
+        assertThat(summary.getRole()).isEqualTo(expected.getRole());
+        assertThat(summary.getLevel()).isEqualTo(expected.getLevel());
+        assertThat(summary.getIsExpert()).isEqualTo(expected.getIsExpert());
+        assertThat(summary.getExpertiseArea()).isEqualTo(expected.getExpertiseArea());
+        assertThat(summary.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("필터 조합별 쿼리는 지정한 조건만 적용")
+    void findPage_Filters() {
+        // When & Then
+        assertThat(memberRepository.findByRoleAndIdGreaterThanOrderByIdAsc(MemberRole.USER, 0L, PageRequest.of(0, 10)))
+                .extracting(MemberSummary::getName).containsExactlyInAnyOrder("사용자1", "사용자2");
+        assertThat(memberRepository.findByLevelAndIdGreaterThanOrderByIdAsc(MemberLevel.CL2, 0L, PageRequest.of(0, 10)))
+                .extracting(MemberSummary::getName).containsExactlyInAnyOrder("사용자2", "전문가2");
+        assertThat(memberRepository.findByRoleAndLevelAndIdGreaterThanOrderByIdAsc(
+                MemberRole.EXPERT, MemberLevel.CL2, 0L, PageRequest.of(0, 10)))
+                .extracting(MemberSummary::getName).containsExactly("전문가2");
+        assertThat(memberRepository.findByRoleAndLevelAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(
+                MemberRole.EXPERT, MemberLevel.CL3, ExpertiseArea.AI, 0L, PageRequest.of(0, 10)))
+                .extracting(MemberSummary::getName).containsExactly("전문가1");
+    }
+
+    @Test
+    @DisplayName("전문가 페이지는 isExpert 회원만, 분야를 지정하면 해당 분야만 조회")
+    void findExpertPage() {
+        // When & Then
+        assertThat(memberRepository.findByIsExpertTrueAndIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 10)))
+                .extracting(MemberSummary::getName).containsExactlyInAnyOrder("전문가1", "전문가2", "관리자");
+        assertThat(memberRepository.findByIsExpertTrueAndExpertiseAreaAndIdGreaterThanOrderByIdAsc(
+                ExpertiseArea.FINANCE, 0L, PageRequest.of(0, 10)))
+                .extracting(MemberSummary::getName).containsExactly("전문가2");
+    }
+
+    private Member save(String name, MemberRole role, MemberLevel level, ExpertiseArea area) {
+        Member member = Member.builder()
+                .name(name)
+                .email(name + "@sk.com")
+                .password("password")
+                .level(level)
+                .build();
+        member.changeRole(role, area);
+        return memberRepository.save(member);
+    }
+}
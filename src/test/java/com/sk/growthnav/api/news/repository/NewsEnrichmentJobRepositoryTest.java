@@ -0,0 +1,93 @@
+package com.sk.growthnav.api.news.repository;
+
+import com.sk.growthnav.api.news.entity.EnrichmentJobType;
+import com.sk.growthnav.api.news.entity.NewsEnrichmentJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 큐 가져가기 쿼리 (FOR UPDATE SKIP LOCKED) 검증
+ * 두 트랜잭션을 동시에 열어야 하므로 테스트 트랜잭션 없이 TransactionTemplate으로 직접 커밋한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("NewsEnrichmentJobRepository 테스트")
+class NewsEnrichmentJobRepositoryTest {
+
+    @Autowired
+    private NewsEnrichmentJobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("실행 시각이 된 작업만 오래된 순으로 가져옴")
+    void findRunnable_OnlyDueJobs() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Long later = save(1L, now.minusSeconds(10)).getId();
+        Long earlier = save(2L, now.minusSeconds(20)).getId();
+        save(3L, now.plusMinutes(5));
+
+        // When
+        List<NewsEnrichmentJob> jobs = new TransactionTemplate(transactionManager)
+                .execute(status -> jobRepository.findRunnableForUpdate(now, 10));
+
+        // Then
+        assertThat(jobs).extracting(NewsEnrichmentJob::getId).containsExactly(earlier, later);
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 잠근 작업은 건너뛰고 나머지를 가져감")
+    void findRunnable_SkipsLockedRows() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        save(1L, now.minusSeconds(30));
+        save(2L, now.minusSeconds(20));
+        Long third = save(3L, now.minusSeconds(10)).getId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When: 첫 작업자가 2건을 잠근 채로 두 번째 작업자가 가져감
+        List<Long> second = transaction.execute(status -> {
+            List<NewsEnrichmentJob> locked = jobRepository.findRunnableForUpdate(now, 2);
+            assertThat(locked).hasSize(2);
+            return CompletableFuture
+                    .supplyAsync(() -> transaction.execute(inner -> jobRepository.findRunnableForUpdate(now, 10)
+                            .stream().map(NewsEnrichmentJob::getId).toList()))
+                    .orTimeout(10, TimeUnit.SECONDS)
+                    .join();
+        });
+
+        // Then
+        assertThat(second).containsExactly(third);
+    }
+
+    private NewsEnrichmentJob save(Long newsId, LocalDateTime nextRunAt) {
+        return jobRepository.save(NewsEnrichmentJob.builder()
+                .newsId(newsId)
+                .jobType(EnrichmentJobType.TITLE_AND_THUMBNAIL)
+                .nextRunAt(nextRunAt)
+                .build());
+    }
+}
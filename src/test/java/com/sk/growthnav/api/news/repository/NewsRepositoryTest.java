@@ -0,0 +1,68 @@
+package com.sk.growthnav.api.news.repository;
+
+import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.member.repository.MemberRepository;
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.api.news.entity.NewsStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 상태 일괄 변경 (ID별 조건부 UPDATE 배치) 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("NewsRepository 상태 일괄 변경 테스트")
+class NewsRepositoryTest {
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("조회한 상태 그대로인 뉴스만 바꾸고, 같은 변경을 다시 하면 아무것도 바꾸지 않음")
+    void updateStatusIfUnchanged_OnlyOnce() {
+        // Given
+        Member expert = memberRepository.save(Member.builder()
+                .name("전문가").email("expert@sk.com").password("password").level(MemberLevel.CL3).build());
+        Long pending = save(expert, NewsStatus.PENDING);
+        Long rejected = save(expert, NewsStatus.REJECTED);
+        Map<Long, NewsStatus> expected = Map.of(pending, NewsStatus.PENDING, rejected, NewsStatus.PENDING);
+
+        // When
+        List<Long> first = newsRepository.updateStatusIfUnchanged(expected, NewsStatus.APPROVED, LocalDateTime.now());
+        List<Long> second = newsRepository.updateStatusIfUnchanged(expected, NewsStatus.APPROVED, LocalDateTime.now());
+
+        // Then
+        assertThat(first).containsExactly(pending);
+        assertThat(second).isEmpty();
+        assertThat(newsRepository.findStatusViewsByIdIn(List.of(pending, rejected)))
+                .extracting(NewsRepository.NewsStatusView::getId, NewsRepository.NewsStatusView::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(pending, NewsStatus.APPROVED),
+                        tuple(rejected, NewsStatus.REJECTED));
+    }
+
+    private Long save(Member expert, NewsStatus status) {
+        News news = News.builder()
+                .title("뉴스 " + status)
+                .url("https://news.example.com/" + status.name().toLowerCase())
+                .status(status)
+                .expert(expert)
+                .build();
+        return newsRepository.saveAndFlush(news).getId();
+    }
+}
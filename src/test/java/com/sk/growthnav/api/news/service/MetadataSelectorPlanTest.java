@@ -0,0 +1,65 @@
+package com.sk.growthnav.api.news.service;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MetadataSelectorPlan 테스트")
+class MetadataSelectorPlanTest {
+
+    @Test
+    @DisplayName("문서 순서와 관계없이 규칙 우선순위대로 선택 (og:title > title > h1)")
+    void extract_PriorityOverDocumentOrder() {
+        // Given
+        MetadataSelectorPlan plan = new MetadataSelectorPlan("");
+        Document document = Jsoup.parse("""
+                <html><head><title>HTML 제목 태그</title></head>
+                <body><h1>본문 h1 제목</h1>
+                <img src="icon.svg"><img src="https://cdn.example.com/a.jpg">
+                <meta property="og:title" content="OG 제목입니다">
+                </body></html>
+                """);
+
+        // When
+        MetadataSelectorPlan.Extracted extracted = plan.extract(document, "https://example.com/a");
+
+        // Then
+        assertThat(extracted.getTitle()).isEqualTo("OG 제목입니다");
+        assertThat(extracted.getImageUrl()).isEqualTo("https://cdn.example.com/a.jpg");
+    }
+
+    @Test
+    @DisplayName("설정으로 추가한 사이트 규칙은 해당 호스트에만 적용")
+    void extract_ExtraRules() {
+        // Given
+        MetadataSelectorPlan plan = new MetadataSelectorPlan(
+                "tech.example.com|TITLE|.headline strong; tech.example.com|IMAGE|figure.cover img|data-src");
+        Document document = Jsoup.parse("""
+                <html><head><title>사이트 이름</title></head>
+                <body><div class="headline"><strong>사이트 전용 기사 제목</strong></div>
+                <figure class="cover"><img data-src="https://tech.example.com/cover.png"></figure>
+                </body></html>
+                """);
+
+        // When
+        MetadataSelectorPlan.Extracted site = plan.extract(document, "https://tech.example.com/news/1");
+        MetadataSelectorPlan.Extracted other = plan.extract(document, "https://other.example.com/news/1");
+
+        // Then
+        assertThat(site.getTitle()).isEqualTo("사이트 전용 기사 제목");
+        assertThat(site.getImageUrl()).isEqualTo("https://tech.example.com/cover.png");
+        assertThat(other.getTitle()).isEqualTo("사이트 이름");
+        assertThat(other.getImageUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 추가 규칙은 시작 시 거부")
+    void parseExtraRules_Invalid() {
+        assertThatThrownBy(() -> new MetadataSelectorPlan("tech.example.com|TITLE"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.entity.EnrichmentJobType;
+import com.sk.growthnav.api.news.entity.NewsEnrichmentJob;
+import com.sk.growthnav.api.news.repository.NewsEnrichmentJobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "app.news.enrichment.max-attempts=4",
+        "app.news.enrichment.base-backoff-ms=1000",
+        "app.news.enrichment.max-backoff-ms=3000",
+        "app.news.enrichment.lease-ms=60000"
+})
+@ActiveProfiles("test")
+@Import(NewsEnrichmentJobService.class)
+@DisplayName("NewsEnrichmentJobService 테스트")
+class NewsEnrichmentJobServiceTest {
+
+    @Autowired
+    private NewsEnrichmentJobService jobService;
+
+    @Autowired
+    private NewsEnrichmentJobRepository jobRepository;
+
+    @Test
+    @DisplayName("가져간 작업은 임대 시간 동안 다시 가져가지 않고, 임대가 끝나면 시도 횟수 그대로 다시 가져감")
+    void claimBatch_LeaseExpiry() {
+        // Given
+        jobService.enqueue(1L, EnrichmentJobType.THUMBNAIL);
+        List<NewsEnrichmentJobService.ClaimedJob> first = jobService.claimBatch(10);
+        NewsEnrichmentJob job = jobRepository.findById(first.get(0).getJobId()).orElseThrow();
+
+        // When & Then: 임대 중
+        assertThat(job.getNextRunAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+        assertThat(jobService.claimBatch(10)).isEmpty();
+
+        // When & Then: 작업자가 종료되어 임대 만료
+        job.lease(LocalDateTime.now().minusSeconds(1));
+        assertThat(jobService.claimBatch(10))
+                .singleElement()
+                .satisfies(claimed -> {
+                    assertThat(claimed.getJobId()).isEqualTo(job.getId());
+                    assertThat(claimed.getAttempts()).isZero();
+                });
+    }
+
+    @Test
+    @DisplayName("실패할 때마다 재시도 간격이 2배로 늘고 최대 간격에서 멈춤")
+    void fail_ExponentialBackoff() {
+        // Given
+        jobService.enqueue(1L, EnrichmentJobType.THUMBNAIL);
+        Long jobId = jobService.claimBatch(10).get(0).getJobId();
+
+        // When & Then
+        assertBackoff(jobId, 1, Duration.ofMillis(1000));
+        assertBackoff(jobId, 2, Duration.ofMillis(2000));
+        assertBackoff(jobId, 3, Duration.ofMillis(3000));  // 4000 -> 최대 3000
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 재시도하지 않고 큐에서 제거 (호출한 쪽이 실패로 표시)")
+    void fail_MaxAttempts() {
+        // Given
+        jobService.enqueue(1L, EnrichmentJobType.THUMBNAIL);
+        Long jobId = jobService.claimBatch(10).get(0).getJobId();
+
+        // When
+        boolean[] retried = new boolean[4];
+        for (int i = 0; i < retried.length; i++) {
+            retried[i] = jobService.fail(jobId, "연결 실패");
+        }
+
+        // Then
+        assertThat(retried).containsExactly(true, true, true, false);
+        assertThat(jobRepository.findById(jobId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("풀 포화/호스트 제한으로 반환한 작업은 시도 횟수를 늘리지 않음")
+    void release_KeepsAttempts() {
+        // Given
+        jobService.enqueue(1L, EnrichmentJobType.THUMBNAIL);
+        Long jobId = jobService.claimBatch(10).get(0).getJobId();
+
+        // When
+        jobService.release(jobId, 5_000);
+
+        // Then
+        NewsEnrichmentJob job = jobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getNextRunAt()).isBetween(LocalDateTime.now().plusSeconds(3), LocalDateTime.now().plusSeconds(6));
+    }
+
+    private void assertBackoff(Long jobId, int expectedAttempts, Duration expectedBackoff) {
+        LocalDateTime before = LocalDateTime.now();
+        assertThat(jobService.fail(jobId, "연결 실패")).isTrue();
+        LocalDateTime after = LocalDateTime.now();
+
+        NewsEnrichmentJob job = jobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getAttempts()).isEqualTo(expectedAttempts);
+        assertThat(job.getLastError()).isEqualTo("연결 실패");
+        assertThat(job.getNextRunAt()).isBetween(before.plus(expectedBackoff), after.plus(expectedBackoff));
+    }
+}
@@ -0,0 +1,89 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.entity.EnrichmentStatus;
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import com.sk.growthnav.api.news.support.OfflineScrapingStack;
+import com.sk.growthnav.api.news.support.StubWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+/**
+ * 썸네일 실패 종류별 정보 추출 결과 (스텁 서버 + 실제 메타데이터/썸네일 서비스)
+ */
+@DisplayName("NewsEnrichmentService 테스트")
+class NewsEnrichmentServiceTest {
+
+    private static final Long NEWS_ID = 1L;
+    private static final String ARTICLE_PATH = "/tech/cloud";
+    private static final String IMAGE_PATH = "/images/og-cover.png";
+
+    @TempDir
+    Path thumbnailDir;
+
+    private StubWebServer server;
+    private NewsRepository newsRepository;
+    private NewsEnrichmentService enrichmentService;
+    private News news;
+
+    @BeforeEach
+    void setUp() {
+        server = new StubWebServer().html(ARTICLE_PATH, "og-article.html");
+        OfflineScrapingStack stack = new OfflineScrapingStack(thumbnailDir);
+        newsRepository = mock(NewsRepository.class);
+        enrichmentService = new NewsEnrichmentService(newsRepository, stack.metadataService(),
+                stack.thumbnailService(), mock(NewsEnrichmentJobService.class), mock(NewsFeedCache.class),
+                mock(NewsSearchService.class));
+
+        news = News.builder().id(NEWS_ID).title("임시 제목").url(server.url(ARTICLE_PATH)).build();
+        given(newsRepository.findById(NEWS_ID)).willReturn(Optional.of(news));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("대표 이미지가 404이면 재시도하지 않고 추출한 제목만 반영하여 완료")
+    void imageNotFound_TitleStillApplied() {
+        // Given
+        server.status(IMAGE_PATH, 404);
+
+        // When
+        enrichmentService.enrich(NEWS_ID, true);
+
+        // Then
+        assertThat(news.getTitle()).isEqualTo("기업 클라우드 전환 가속, 하이브리드 전략이 대세");
+        assertThat(news.getEnrichmentStatus()).isEqualTo(EnrichmentStatus.COMPLETED);
+        assertThat(news.getThumbnailPath()).isNull();
+        then(newsRepository).should().save(news);
+    }
+
+    @Test
+    @DisplayName("대표 이미지가 503이면 예외로 알려 작업 큐에서 재시도")
+    void imageUnavailable_Retried() {
+        // Given
+        server.status(IMAGE_PATH, 503);
+
+        // When & Then
+        assertThatThrownBy(() -> enrichmentService.enrich(NEWS_ID, true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(news.getTitle()).isEqualTo("임시 제목");
+        then(newsRepository).should(never()).save(any());
+    }
+}
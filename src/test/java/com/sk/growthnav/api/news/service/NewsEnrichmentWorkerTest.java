@@ -0,0 +1,83 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.entity.EnrichmentJobType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsEnrichmentWorker 테스트")
+class NewsEnrichmentWorkerTest {
+
+    private static final Long JOB_ID = 10L;
+    private static final Long NEWS_ID = 1L;
+
+    @Mock
+    private NewsEnrichmentJobService jobService;
+
+    @Mock
+    private NewsEnrichmentService enrichmentService;
+
+    @Mock
+    private ThumbnailTaskDispatcher thumbnailTaskDispatcher;
+
+    @InjectMocks
+    private NewsEnrichmentWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(worker, "workerEnabled", true);
+        ReflectionTestUtils.setField(worker, "batchSize", 10);
+
+        given(jobService.claimBatch(10)).willReturn(List.of(new NewsEnrichmentJobService.ClaimedJob(
+                JOB_ID, NEWS_ID, "https://news.example.com/a", EnrichmentJobType.TITLE_AND_THUMBNAIL, 2)));
+        // 제출한 작업을 호출 스레드에서 바로 실행
+        given(thumbnailTaskDispatcher.submit(anyString(), any())).willAnswer(invocation -> {
+            Supplier<?> task = invocation.getArgument(1);
+            return CompletableFuture.supplyAsync(task, Runnable::run);
+        });
+    }
+
+    @Test
+    @DisplayName("호스트 요청 속도 제한은 시도 횟수를 늘리지 않고 지연 후 재대기")
+    void hostThrottled_ReleasedWithoutAttempt() {
+        // Given
+        willThrow(new WebPageFetcher.HostThrottledException("호스트 요청 속도 제한 초과: news.example.com"))
+                .given(enrichmentService).enrich(NEWS_ID, true);
+
+        // When
+        worker.poll();
+
+        // Then
+        then(jobService).should().release(eq(JOB_ID), longThat(delay -> delay > 0));
+        then(jobService).should(never()).fail(anyLong(), any());
+        then(enrichmentService).should(never()).markFailed(any());
+    }
+
+    @Test
+    @DisplayName("일반 실패는 시도 횟수를 늘리고, 재시도가 끝나면 추출 실패로 표시")
+    void failure_CountsAttempt() {
+        // Given
+        willThrow(new IllegalStateException("페이지를 가져오지 못했습니다"))
+                .given(enrichmentService).enrich(NEWS_ID, true);
+        given(jobService.fail(eq(JOB_ID), any())).willReturn(false);
+
+        // When
+        worker.poll();
+
+        // Then
+        then(jobService).should(never()).release(anyLong(), anyLong());
+        then(enrichmentService).should().markFailed(NEWS_ID);
+    }
+}
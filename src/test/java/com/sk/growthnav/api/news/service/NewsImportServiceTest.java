@@ -0,0 +1,253 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.member.service.MemberService;
+import com.sk.growthnav.api.news.dto.NewsImportRequest;
+import com.sk.growthnav.api.news.dto.NewsImportResponse;
+import com.sk.growthnav.api.news.entity.EnrichmentJobType;
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.exception.GeneralException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsImportService 테스트")
+class NewsImportServiceTest {
+
+    private static final Long EXPERT_ID = 1L;
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private TitleExtractorService titleExtractorService;
+
+    @Mock
+    private NewsEnrichmentJobService newsEnrichmentJobService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private NewsImportService newsImportService;
+
+    private final AtomicLong sequence = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(memberService.findById(EXPERT_ID)).thenReturn(Member.builder().name("전문가").build());
+        lenient().when(titleExtractorService.generateFallbackTitle(anyString())).thenReturn("임시 제목");
+        // 저장 시 시퀀스 ID 할당 흉내
+        lenient().when(newsRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<News> news = invocation.getArgument(0);
+            news.forEach(n -> ReflectionTestUtils.setField(n, "id", sequence.incrementAndGet()));
+            return news;
+        });
+    }
+
+    @Test
+    @DisplayName("요청 안/기존 뉴스와 중복된 URL은 제외하고 나머지를 한 번에 저장")
+    void importNews_DedupesAndBatchInserts() {
+        // Given: 0과 1은 정규화하면 같은 URL, 2는 이미 등록됨, 3은 형식 오류
+        given(newsRepository.findExistingNormalizedUrls(anyCollection()))
+                .willReturn(List.of(NewsUrlNormalizer.normalize("https://news.example.com/old")));
+        List<NewsImportRequest.Item> items = List.of(
+                new NewsImportRequest.Item("https://www.news.example.com/a?utm_source=x", null),
+                new NewsImportRequest.Item("https://news.example.com/a/", null),
+                new NewsImportRequest.Item("https://news.example.com/old", null),
+                new NewsImportRequest.Item("not a url", null),
+                new NewsImportRequest.Item("https://news.example.com/b", "직접 입력한 제목"));
+
+        // When
+        NewsImportResponse response = newsImportService.importNews(EXPERT_ID, items);
+
+        // Then
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getDuplicateCount()).isEqualTo(2);
+        assertThat(response.getInvalidCount()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(NewsImportResponse.Result::getIndex, NewsImportResponse.Result::getOutcome,
+                        NewsImportResponse.Result::getNewsId)
+                .containsExactly(
+                        tuple(0, NewsImportResponse.Outcome.IMPORTED, 101L),
+                        tuple(1, NewsImportResponse.Outcome.DUPLICATE, null),
+                        tuple(2, NewsImportResponse.Outcome.DUPLICATE, null),
+                        tuple(3, NewsImportResponse.Outcome.INVALID, null),
+                        tuple(4, NewsImportResponse.Outcome.IMPORTED, 102L));
+
+        ArgumentCaptor<List<News>> saved = ArgumentCaptor.forClass(List.class);
+        then(newsRepository).should(times(1)).saveAllAndFlush(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(News::getTitle, News::getImportBatchId)
+                .containsExactly(tuple("임시 제목", response.getImportId()),
+                        tuple("직접 입력한 제목", response.getImportId()));
+        then(newsEnrichmentJobService).should().enqueueAll(List.of(101L), EnrichmentJobType.TITLE_AND_THUMBNAIL);
+        then(newsEnrichmentJobService).should().enqueueAll(List.of(102L), EnrichmentJobType.THUMBNAIL);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 요청이 같은 URL을 먼저 등록하면 기존 URL을 다시 읽어 겹친 항목만 중복 처리")
+    void importNews_ConcurrentDuplicate() {
+        // Given: 첫 저장은 유니크 인덱스 위반, 다시 읽으면 a가 이미 등록되어 있음
+        given(newsRepository.findExistingNormalizedUrls(anyCollection()))
+                .willReturn(List.of())
+                .willReturn(List.of(NewsUrlNormalizer.normalize("https://news.example.com/a")));
+        given(newsRepository.saveAllAndFlush(anyList()))
+                .willThrow(new DataIntegrityViolationException("uk_news_normalized_url_active"))
+                .willAnswer(invocation -> {
+                    List<News> news = invocation.getArgument(0);
+                    news.forEach(n -> ReflectionTestUtils.setField(n, "id", sequence.incrementAndGet()));
+                    return news;
+                });
+
+        // When
+        NewsImportResponse response = newsImportService.importNews(EXPERT_ID, List.of(
+                new NewsImportRequest.Item("https://news.example.com/a", null),
+                new NewsImportRequest.Item("https://news.example.com/b", null)));
+
+        // Then
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getDuplicateCount()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(NewsImportResponse.Result::getIndex, NewsImportResponse.Result::getOutcome,
+                        NewsImportResponse.Result::getNewsId)
+                .containsExactly(
+                        tuple(0, NewsImportResponse.Outcome.DUPLICATE, null),
+                        tuple(1, NewsImportResponse.Outcome.IMPORTED, 101L));
+
+        ArgumentCaptor<List<News>> saved = ArgumentCaptor.forClass(List.class);
+        then(newsRepository).should(times(2)).saveAllAndFlush(saved.capture());
+        assertThat(saved.getAllValues().get(1)).extracting(News::getUrl).containsExactly("https://news.example.com/b");
+        then(transactionManager).should().rollback(any());
+        then(newsEnrichmentJobService).should().enqueueAll(List.of(101L), EnrichmentJobType.TITLE_AND_THUMBNAIL);
+    }
+
+    @Test
+    @DisplayName("재시도도 유니크 인덱스 위반이면 중복 오류")
+    void importNews_ConcurrentDuplicateTwice() {
+        // Given
+        given(newsRepository.findExistingNormalizedUrls(anyCollection())).willReturn(List.of());
+        given(newsRepository.saveAllAndFlush(anyList())).willThrow(new DataIntegrityViolationException("uk_news_normalized_url_active"));
+
+        // When & Then
+        assertThatThrownBy(() -> newsImportService.importNews(EXPERT_ID,
+                List.of(new NewsImportRequest.Item("https://news.example.com/a", null))))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("baseErrorCode", FailureCode.NEWS_URL_DUPLICATED);
+        then(newsRepository).should(times(2)).saveAllAndFlush(anyList());
+        then(newsEnrichmentJobService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("한 번에 1000건을 넘기면 실패")
+    void importNews_MaxItems() {
+        // Given
+        List<NewsImportRequest.Item> items = IntStream.rangeClosed(0, 1000)
+                .mapToObj(i -> new NewsImportRequest.Item("https://news.example.com/" + i, null))
+                .toList();
+
+        // When & Then
+        assertThatThrownBy(() -> newsImportService.importNews(EXPERT_ID, items))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1000");
+        then(newsRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("CSV는 BOM과 헤더를 건너뛰고 큰따옴표 안의 쉼표/이스케이프를 그대로 읽음")
+    void importCsv_HeaderBomAndQuotes() {
+        // Given
+        given(newsRepository.findExistingNormalizedUrls(anyCollection())).willReturn(List.of());
+        String csv = "\uFEFFurl,title\n"
+                + "https://news.example.com/a,\"AI, 반도체 \"\"슈퍼사이클\"\"\"\n"
+                + "\n"
+                + "https://news.example.com/b\n";
+
+        // When
+        NewsImportResponse response = newsImportService.importCsv(EXPERT_ID, csv("news.csv", csv));
+
+        // Then
+        assertThat(response.getRequestedCount()).isEqualTo(2);
+        ArgumentCaptor<List<News>> saved = ArgumentCaptor.forClass(List.class);
+        then(newsRepository).should().saveAllAndFlush(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(News::getUrl, News::getTitle)
+                .containsExactly(tuple("https://news.example.com/a", "AI, 반도체 \"슈퍼사이클\""),
+                        tuple("https://news.example.com/b", "임시 제목"));
+    }
+
+    @Test
+    @DisplayName("CSV가 1000건을 넘기면 실패")
+    void importCsv_MaxItems() {
+        // Given
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            lines.add("https://news.example.com/" + i);
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> newsImportService.importCsv(EXPERT_ID, csv("news.csv", String.join("\n", lines))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("기존 뉴스 정규화 URL 채우기는 이미 있는 URL과 묶음 안 중복을 null로 남기고, 거부된 뉴스는 항상 채움")
+    void backfillNormalizedUrls_SkipsDuplicates() {
+        // Given
+        News first = legacy(1L, "https://www.news.example.com/a?utm_source=x");
+        News sameAsFirst = legacy(2L, "https://news.example.com/a");
+        News alreadyTaken = legacy(3L, "https://news.example.com/b");
+        News invalid = legacy(4L, "not a url");
+        News rejected = legacy(5L, "https://news.example.com/a");
+        rejected.reject();
+        given(newsRepository.findTop500ByNormalizedUrlIsNullAndIdGreaterThanOrderByIdAsc(0L))
+                .willReturn(List.of(first, sameAsFirst, alreadyTaken, invalid, rejected));
+        given(newsRepository.findExistingNormalizedUrls(anyCollection()))
+                .willReturn(List.of(NewsUrlNormalizer.normalize("https://news.example.com/b")));
+
+        // When
+        Long lastId = newsImportService.backfillNormalizedUrls(0L);
+
+        // Then
+        assertThat(lastId).isEqualTo(5L);
+        assertThat(first.getNormalizedUrl()).isEqualTo(NewsUrlNormalizer.normalize("https://news.example.com/a"));
+        assertThat(sameAsFirst.getNormalizedUrl()).isNull();
+        assertThat(alreadyTaken.getNormalizedUrl()).isNull();
+        assertThat(invalid.getNormalizedUrl()).isNull();
+        assertThat(rejected.getNormalizedUrl()).isEqualTo(NewsUrlNormalizer.normalize("https://news.example.com/a"));
+    }
+
+    private static News legacy(Long id, String url) {
+        return News.builder().id(id).title("기존 뉴스").url(url).build();
+    }
+
+    private static MockMultipartFile csv(String name, String content) {
+        return new MockMultipartFile("file", name, "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
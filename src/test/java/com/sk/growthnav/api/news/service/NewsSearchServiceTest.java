@@ -0,0 +1,64 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsSearchService 테스트")
+class NewsSearchServiceTest {
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private NewsSearchService newsSearchService;
+
+    @BeforeEach
+    void setUp() {
+        // pg_trgm 경로 사용
+        ReflectionTestUtils.setField(newsSearchService, "trigramEnabled", true);
+    }
+
+    @Test
+    @DisplayName("2글자 한국어 단어는 2-gram 인덱스 조건을, 3글자 이상은 ILIKE만 사용")
+    void search_TwoCharacterKoreanUsesBigramIndex() {
+        // When
+        newsSearchService.search("금리 가능성", 0, 20);
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        then(jdbcTemplate).should().queryForList(sql.capture(), eq(Long.class),
+                eq("APPROVED"), eq("금리"), eq("%금리%"), eq("%가능성%"), eq("금리 가능성"), eq(21), eq(0));
+        assertThat(sql.getValue())
+                .containsOnlyOnce("news_title_bigrams(n.title) @> ARRAY[?]::text[]")
+                .contains("n.title ILIKE ?");
+    }
+
+    @Test
+    @DisplayName("한 글자 단어는 2-gram 인덱스 조건 없이 ILIKE만 사용")
+    void search_SingleCharacterUsesLikeOnly() {
+        // When
+        newsSearchService.search("칩", 0, 20);
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        then(jdbcTemplate).should().queryForList(sql.capture(), eq(Long.class),
+                eq("APPROVED"), eq("%칩%"), eq("칩"), eq(21), eq(0));
+        assertThat(sql.getValue()).doesNotContain("news_title_bigrams");
+    }
+}
@@ -0,0 +1,244 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.member.service.MemberService;
+import com.sk.growthnav.api.news.dto.NewsBulkManageRequest;
+import com.sk.growthnav.api.news.dto.NewsBulkManageResponse;
+import com.sk.growthnav.api.news.dto.NewsCreateRequest;
+import com.sk.growthnav.api.news.dto.NewsFeedResponse;
+import com.sk.growthnav.api.news.dto.NewsManageRequest;
+import com.sk.growthnav.api.news.dto.NewsResponse;
+import com.sk.growthnav.api.news.entity.News;
+import com.sk.growthnav.api.news.entity.NewsStatus;
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import com.sk.growthnav.global.apiPayload.code.FailureCode;
+import com.sk.growthnav.global.exception.GeneralException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsService 테스트")
+class NewsServiceTest {
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private TitleExtractorService titleExtractorService;
+
+    @Mock
+    private NewsEnrichmentService newsEnrichmentService;
+
+    @Mock
+    private ThumbnailStorageService thumbnailStorageService;
+
+    @Mock
+    private NewsFeedCache newsFeedCache;
+
+    @Mock
+    private NewsSearchService newsSearchService;
+
+    @InjectMocks
+    private NewsService newsService;
+
+    @Test
+    @DisplayName("거부된 뉴스의 URL은 다시 등록할 수 있음 (중복 판별에서 거부된 뉴스 제외)")
+    void createNews_RejectedUrlCanBeRegisteredAgain() {
+        // Given
+        Member expert = Member.builder().id(1L).name("전문가").build();
+        given(memberService.findById(1L)).willReturn(expert);
+        given(newsRepository.existsByNormalizedUrlAndStatusNot("https://news.example.com/1", NewsStatus.REJECTED))
+                .willReturn(false);
+        given(newsRepository.saveAndFlush(any(News.class))).willAnswer(invocation -> {
+            News saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 10L);
+            ReflectionTestUtils.setField(saved, "createdAt", LocalDateTime.now());
+            return saved;
+        });
+
+        // When
+        NewsResponse response = newsService.createNews(
+                new NewsCreateRequest(1L, "다시 등록한 뉴스", "https://news.example.com/1"));
+
+        // Then
+        assertThat(response.getNewsId()).isEqualTo(10L);
+        then(newsEnrichmentService).should().enqueue(10L, false);
+    }
+
+    @Test
+    @DisplayName("거부되지 않은 뉴스와 URL이 같으면 중복 등록으로 거부")
+    void createNews_DuplicateUrl() {
+        // Given
+        given(memberService.findById(1L)).willReturn(Member.builder().id(1L).name("전문가").build());
+        given(newsRepository.existsByNormalizedUrlAndStatusNot("https://news.example.com/1", NewsStatus.REJECTED))
+                .willReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> newsService.createNews(
+                new NewsCreateRequest(1L, null, "https://www.news.example.com/1/")))
+                .isInstanceOf(GeneralException.class)
+                .hasFieldOrPropertyWithValue("baseErrorCode", FailureCode.NEWS_URL_DUPLICATED);
+        then(newsRepository).should(never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("일괄 승인 중 다른 요청이 먼저 바꾼 뉴스는 실패로 반환하고 검색 인덱스에 반영하지 않음")
+    void manageNewsBulk_PartialUpdate() {
+        // Given: 1, 2는 검증 시점에 승인 대기, 3은 이미 승인됨, 4는 없음
+        NewsBulkManageRequest request = new NewsBulkManageRequest(
+                List.of(1L, 2L, 3L, 4L, 1L), 99L, NewsManageRequest.ManageAction.APPROVE);
+        given(newsRepository.findStatusViewsByIdIn(anyCollection())).willReturn(
+                List.of(view(1L, NewsStatus.PENDING), view(2L, NewsStatus.PENDING), view(3L, NewsStatus.APPROVED)),
+                // UPDATE 직전에 2가 다른 요청으로 거부되어 1만 변경됨
+                List.of(view(2L, NewsStatus.REJECTED)));
+        given(newsRepository.updateStatusIfUnchanged(
+                eq(Map.of(1L, NewsStatus.PENDING, 2L, NewsStatus.PENDING)), eq(NewsStatus.APPROVED), any()))
+                .willReturn(List.of(1L));
+
+        // When
+        NewsBulkManageResponse response = newsService.manageNewsBulk(request);
+
+        // Then
+        assertThat(response.getRequestedCount()).isEqualTo(4);
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getFailureCount()).isEqualTo(3);
+        assertThat(response.getResults())
+                .extracting(NewsBulkManageResponse.Result::getNewsId,
+                        NewsBulkManageResponse.Result::isSuccess,
+                        NewsBulkManageResponse.Result::getCurrentStatus)
+                .containsExactly(
+                        tuple(1L, true, NewsStatus.APPROVED),
+                        tuple(2L, false, NewsStatus.REJECTED),
+                        tuple(3L, false, NewsStatus.APPROVED),
+                        tuple(4L, false, null));
+        then(newsSearchService).should().index(1L, "뉴스 1");
+        then(newsSearchService).should(never()).index(eq(2L), any());
+        then(newsSearchService).should(never()).remove(any());
+        then(newsFeedCache).should().invalidate();
+    }
+
+    @Test
+    @DisplayName("같은 일괄 승인이 동시에 들어와 다른 요청이 이미 바꾼 뉴스는 실패로 반환하고 다시 색인하지 않음")
+    void manageNewsBulk_ConcurrentIdenticalRequest() {
+        // Given: 검증 시점에는 승인 대기였지만, 같은 승인 요청이 먼저 변경해 이 요청의 UPDATE는 0건
+        NewsBulkManageRequest request = new NewsBulkManageRequest(
+                List.of(1L), 99L, NewsManageRequest.ManageAction.APPROVE);
+        given(newsRepository.findStatusViewsByIdIn(anyCollection())).willReturn(
+                List.of(view(1L, NewsStatus.PENDING)),
+                List.of(view(1L, NewsStatus.APPROVED)));
+        given(newsRepository.updateStatusIfUnchanged(any(), eq(NewsStatus.APPROVED), any())).willReturn(List.of());
+
+        // When
+        NewsBulkManageResponse response = newsService.manageNewsBulk(request);
+
+        // Then: 현재 상태가 목표 상태와 같아도 이 요청의 성공이 아님
+        assertThat(response.getSuccessCount()).isZero();
+        assertThat(response.getResults())
+                .extracting(NewsBulkManageResponse.Result::isSuccess, NewsBulkManageResponse.Result::getCurrentStatus)
+                .containsExactly(tuple(false, NewsStatus.APPROVED));
+        then(newsSearchService).should(never()).index(any(), any());
+        then(newsFeedCache).should(never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("변경 가능한 뉴스가 없으면 UPDATE하지 않음")
+    void manageNewsBulk_NothingApplicable() {
+        // Given
+        NewsBulkManageRequest request = new NewsBulkManageRequest(
+                List.of(3L), 99L, NewsManageRequest.ManageAction.APPROVE);
+        given(newsRepository.findStatusViewsByIdIn(anyCollection()))
+                .willReturn(List.of(view(3L, NewsStatus.APPROVED)));
+
+        // When
+        NewsBulkManageResponse response = newsService.manageNewsBulk(request);
+
+        // Then
+        assertThat(response.getSuccessCount()).isZero();
+        then(newsRepository).should(never()).updateStatusIfUnchanged(any(), any(), any());
+        then(newsFeedCache).should(never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("피드 다음 페이지는 마지막 뉴스의 (작성 시각, ID) 커서로 조회")
+    void getApprovedFeed_CreatedAtKeyset() {
+        // Given: ID는 풀 할당이라 작성 순서와 다를 수 있음 (나중에 쓴 120이 ID는 더 작음)
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 12, 0, 0, 123_456_000);
+        News newest = news(120L, now);
+        News older = news(150L, now.minusSeconds(5));
+        News oldest = news(101L, now.minusSeconds(9));
+        given(newsFeedCache.get(any(), anyInt(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<NewsFeedResponse>>getArgument(2).get());
+        given(newsRepository.findFeedFirstPage(eq(NewsStatus.APPROVED), any()))
+                .willReturn(List.of(newest, older, oldest));
+        given(newsRepository.findFeedPage(NewsStatus.APPROVED, now.minusSeconds(5), 150L, PageRequest.of(0, 3)))
+                .willReturn(List.of(oldest));
+
+        // When
+        NewsFeedResponse first = newsService.getApprovedFeed(null, 2);
+        NewsFeedResponse second = newsService.getApprovedFeed(first.getNextCursor(), 2);
+
+        // Then
+        assertThat(first.getNews()).extracting(NewsResponse::getNewsId).containsExactly(120L, 150L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getNews()).extracting(NewsResponse::getNewsId).containsExactly(101L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 피드 커서는 잘못된 요청")
+    void getApprovedFeed_InvalidCursor() {
+        assertThatThrownBy(() -> newsService.getApprovedFeed("not-a-cursor", 20))
+                .isInstanceOf(GeneralException.class);
+    }
+
+    private static News news(Long id, LocalDateTime createdAt) {
+        News news = News.builder()
+                .id(id)
+                .title("뉴스 " + id)
+                .url("https://news.example.com/" + id)
+                .expert(Member.builder().name("전문가").build())
+                .status(NewsStatus.APPROVED)
+                .build();
+        ReflectionTestUtils.setField(news, "createdAt", createdAt);
+        return news;
+    }
+
+    private static NewsRepository.NewsStatusView view(Long id, NewsStatus status) {
+        return new NewsRepository.NewsStatusView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public NewsStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public String getTitle() {
+                return "뉴스 " + id;
+            }
+        };
+    }
+}
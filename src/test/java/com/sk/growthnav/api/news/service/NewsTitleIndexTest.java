@@ -0,0 +1,133 @@
+package com.sk.growthnav.api.news.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NewsTitleIndex 테스트")
+class NewsTitleIndexTest {
+
+    @Test
+    @DisplayName("한국어 단어는 2-gram으로 쪼개어 조사가 붙어도 검색됨")
+    void search_KoreanWithParticle() {
+        // Given
+        NewsTitleIndex index = new NewsTitleIndex();
+        index.put(1L, "삼성전자가 새로운 AI 반도체를 공개했다");
+        index.put(2L, "SK하이닉스 HBM 생산 확대");
+
+        // When
+        List<Long> result = index.search("삼성전자", 0, 10);
+
+        // Then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색어의 단어를 모두 포함한 제목만 결과에 포함 (Postgres ILIKE 경로와 같은 조건)")
+    void search_RequiresAllTerms() {
+        // Given
+        NewsTitleIndex index = new NewsTitleIndex();
+        index.put(1L, "AI 반도체 시장 전망");
+        index.put(2L, "반도체 수출 증가");
+        index.put(3L, "반도체 시장 회복");
+        index.put(4L, "국내 시장 동향");
+
+        // When
+        List<Long> result = index.search("반도체 시장", 0, 10);
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("2-gram은 모두 있어도 단어가 이어져 있지 않으면 제외")
+    void search_BigramsPresentButTermMissing() {
+        // Given: "전자"와 "삼성"의 2-gram은 있지만 "삼성전자"는 없음
+        NewsTitleIndex index = new NewsTitleIndex();
+        index.put(1L, "전자 업계, 삼성 성전 논란");
+
+        // When & Then
+        assertThat(index.search("삼성전자", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유사도가 높은(군더더기가 적은) 제목 순, 같으면 최신(ID 큰) 순으로 정렬")
+    void search_RankedBySimilarity() {
+        // Given
+        NewsTitleIndex index = new NewsTitleIndex();
+        index.put(1L, "AI 반도체 시장 전망");
+        index.put(2L, "반도체 시장 회복");
+        index.put(3L, "반도체 시장 반등");
+
+        // When
+        List<Long> result = index.search("반도체 시장", 0, 10);
+
+        // Then
+        assertThat(result).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("2글자 한국어 검색어는 단어 중간에 있어도 검색됨")
+    void search_TwoCharacterKorean() {
+        // Given
+        NewsTitleIndex index = new NewsTitleIndex();
+        index.put(1L, "美 금리 인하 기대감 확산");
+        index.put(2L, "한국은행 기준금리 동결");
+        index.put(3L, "금융 규제 완화");
+
+        // When & Then
+        assertThat(index.search("금리", 0, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("금리 동결", 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 단어 안의 글자까지 검색됨")
+    void search_SingleCharacter() {
+        // Given
+        NewsTitleIndex index = new NewsTitleIndex();
+        index.put(1L, "AI 칩 수요 급증");
+        index.put(2L, "차세대 반도체칩 양산");
+        index.put(3L, "배터리 수출 증가");
+
+        // When & Then
+        assertThat(index.search("칩", 0, 10)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("제거/갱신된 뉴스는 검색 결과에 반영됨")
+    void removeAndUpdate() {
+        // Given
+        NewsTitleIndex index = new NewsTitleIndex();
+        index.put(1L, "금융 플랫폼 경쟁");
+        index.put(2L, "금융 규제 완화");
+
+        // When
+        index.remove(2L);
+        index.put(1L, "제조업 스마트 팩토리");
+
+        // Then
+        assertThat(index.search("금융", 0, 10)).isEmpty();
+        assertThat(index.search("팩토리", 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("offset/limit으로 페이지 단위 조회")
+    void search_Paged() {
+        // Given
+        NewsTitleIndex index = new NewsTitleIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, "클라우드 뉴스 " + id);
+        }
+
+        // When
+        List<Long> firstPage = index.search("클라우드", 0, 2);
+        List<Long> secondPage = index.search("클라우드", 2, 2);
+
+        // Then
+        assertThat(firstPage).containsExactly(5L, 4L);
+        assertThat(secondPage).containsExactly(3L, 2L);
+    }
+}
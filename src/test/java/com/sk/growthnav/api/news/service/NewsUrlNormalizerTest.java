@@ -0,0 +1,44 @@
+package com.sk.growthnav.api.news.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NewsUrlNormalizer 테스트")
+class NewsUrlNormalizerTest {
+
+    @Test
+    @DisplayName("같은 기사를 가리키는 URL 변형은 하나로 정규화")
+    void normalize_Variants() {
+        // Given
+        List<String> variants = List.of(
+                "https://www.example.com/news/1",
+                "HTTPS://Example.com:443/news/1/",
+                "https://example.com/news/1?utm_source=newsletter&utm_medium=email",
+                "https://example.com/news/1#comments",
+                "https://example.com/news/1?fbclid=abc");
+
+        // When & Then
+        assertThat(variants)
+                .extracting(NewsUrlNormalizer::normalize)
+                .containsOnly("https://example.com/news/1");
+    }
+
+    @Test
+    @DisplayName("의미 있는 쿼리 파라미터는 유지하고 이름순 정렬")
+    void normalize_KeepsQuery() {
+        assertThat(NewsUrlNormalizer.normalize("https://n.news.naver.com/article?oid=015&aid=0004950001&utm_campaign=x"))
+                .isEqualTo("https://n.news.naver.com/article?aid=0004950001&oid=015");
+    }
+
+    @Test
+    @DisplayName("http(s)가 아니거나 호스트가 없으면 null")
+    void normalize_Invalid() {
+        assertThat(NewsUrlNormalizer.normalize("ftp://example.com/a")).isNull();
+        assertThat(NewsUrlNormalizer.normalize("not a url")).isNull();
+        assertThat(NewsUrlNormalizer.normalize("  ")).isNull();
+    }
+}
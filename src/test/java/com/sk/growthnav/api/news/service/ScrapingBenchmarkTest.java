@@ -0,0 +1,130 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.support.OfflineScrapingStack;
+import com.sk.growthnav.api.news.support.StubWebServer;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스크래핑 처리량/지연 시간 벤치마크 (로컬 스텁 서버, 네트워크 접근 없음)
+ * 기본 빌드에서는 실행하지 않으며, 다음과 같이 실행한다.
+ * SCRAPING_BENCHMARK=true SCRAPING_BENCHMARK_ITERATIONS=500 ./gradlew test --tests '*ScrapingBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "SCRAPING_BENCHMARK", matches = "true")
+@DisplayName("스크래핑 벤치마크")
+class ScrapingBenchmarkTest {
+
+    private static final int THREADS = 4;
+
+    @TempDir
+    Path thumbnailDir;
+
+    @Test
+    @DisplayName("코퍼스 전체의 추출 처리량과 URL별 지연 시간")
+    void benchmark() throws Exception {
+        int iterations = Integer.parseInt(System.getenv().getOrDefault("SCRAPING_BENCHMARK_ITERATIONS", "200"));
+
+        try (StubWebServer server = new StubWebServer()
+                .html("/news.naver.com/mnews/article/015/0004950001", "naver-article.html")
+                .html("/tech/cloud", "og-article.html")
+                .html("/factory/smart", "title-only-article.html")
+                .html("/finance/ai", "h1-only-article.html")
+                .slowHtml("/slow/article", "og-article.html", 50)
+                .redirectChain("/short/abc", 3, "/tech/cloud")) {
+
+            OfflineScrapingStack stack = new OfflineScrapingStack(thumbnailDir);
+            List<String> corpus = List.of(
+                    server.url("/news.naver.com/mnews/article/015/0004950001"),
+                    server.url("/tech/cloud"),
+                    server.url("/factory/smart"),
+                    server.url("/finance/ai"),
+                    server.url("/slow/article"),
+                    server.url("/short/abc"));
+
+            // 워밍업
+            for (String url : corpus) {
+                stack.metadataService().getMetadata(url);
+            }
+
+            // 1. 파싱만 (네트워크 제외): 미리 받은 Document에서 제목 추출
+            Map<String, Document> documents = new LinkedHashMap<>();
+            for (String url : corpus) {
+                documents.put(url, stack.fetcher().fetchDocument(url));
+            }
+            TitleExtractorService titleExtractor = stack.titleExtractorService();
+            long parseStartedAt = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                documents.forEach((url, document) -> titleExtractor.extractTitle(document, url));
+            }
+            long parseNanos = System.nanoTime() - parseStartedAt;
+
+            // 2. 전체 (요청 + 파싱 + 제목/이미지 추출), THREADS개 스레드 동시 실행
+            Map<String, List<Long>> latencies = new ConcurrentHashMap<>();
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            long endToEndStartedAt = System.nanoTime();
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < iterations; i++) {
+                    for (String url : corpus) {
+                        futures.add(executor.submit(() -> {
+                            long startedAt = System.nanoTime();
+                            PageMetadataService.PageMetadata metadata = stack.metadataService().getMetadata(url);
+                            long elapsed = System.nanoTime() - startedAt;
+                            assertThat(metadata.isFetched()).isTrue();
+                            latencies.computeIfAbsent(url, key -> Collections.synchronizedList(new ArrayList<>())).add(elapsed);
+                        }));
+                    }
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            long endToEndNanos = System.nanoTime() - endToEndStartedAt;
+
+            int total = iterations * corpus.size();
+            System.out.printf("%n[스크래핑 벤치마크] iterations=%d, corpus=%d, threads=%d%n", iterations, corpus.size(), THREADS);
+            System.out.printf("파싱만: %.1f docs/s%n", total / (parseNanos / 1e9));
+            System.out.printf("전체: %.1f urls/s%n", total / (endToEndNanos / 1e9));
+            System.out.printf("%-60s %8s %8s %8s%n", "URL", "p50(ms)", "p95(ms)", "max(ms)");
+            for (String url : corpus) {
+                List<Long> sorted = new ArrayList<>(latencies.get(url));
+                Collections.sort(sorted);
+                System.out.printf("%-60s %8.2f %8.2f %8.2f%n", url.replace(server.url(""), ""),
+                        toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.95)),
+                        toMillis(sorted.get(sorted.size() - 1)));
+            }
+            stack.fetcher().getHostStats().forEach(stats ->
+                    System.out.printf("host=%s requests=%d errors=%d notModified=%d avg=%dms max=%dms%n",
+                            stats.getHost(), stats.getRequests(), stats.getErrors(), stats.getNotModified(),
+                            stats.getAvgLatencyMs(), stats.getMaxLatencyMs()));
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double ratio) {
+        int index = (int) Math.ceil(ratio * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
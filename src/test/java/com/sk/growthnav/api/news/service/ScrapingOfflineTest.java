@@ -0,0 +1,292 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.news.support.OfflineScrapingStack;
+import com.sk.growthnav.api.news.support.StubWebServer;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버와 녹화된 HTML 픽스처로 제목/썸네일 추출을 네트워크 없이 검증
+ */
+@DisplayName("스크래핑 오프라인 테스트")
+class ScrapingOfflineTest {
+
+    // 1x1 무손실 WebP
+    private static final byte[] LOSSLESS_WEBP =
+            Base64.getDecoder().decode("UklGRhoAAABXRUJQVlA4TA0AAAAvAAAAEAcQERGIiP4HAA==");
+
+    private static final String NAVER_PATH = "/news.naver.com/mnews/article/015/0004950001";
+
+    @TempDir
+    Path thumbnailDir;
+
+    private StubWebServer server;
+    private OfflineScrapingStack stack;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubWebServer()
+                .html(NAVER_PATH, "naver-article.html")
+                .html("/tech/cloud", "og-article.html")
+                .html("/factory/smart", "title-only-article.html")
+                .html("/finance/ai", "h1-only-article.html")
+                .bytes("/images/naver-photo.jpg", "image/jpeg", image("jpg", 800, 450))
+                .bytes("/images/og-cover.png", "image/png", image("png", 1200, 630))
+                .bytes("/images/h1-photo.jpeg", "image/jpeg", image("jpg", 300, 200));
+        stack = new OfflineScrapingStack(thumbnailDir);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("네이버 뉴스는 전용 셀렉터로 본문 제목을 추출")
+    void naverTitleAndImage() {
+        // When
+        PageMetadataService.PageMetadata metadata = stack.metadataService().getMetadata(server.url(NAVER_PATH));
+
+        // Then
+        assertThat(metadata.isFetched()).isTrue();
+        assertThat(metadata.getTitle()).isEqualTo("반도체 수출 석 달 연속 증가…AI 서버 수요 견인");
+        assertThat(metadata.getImageUrl()).isEqualTo(server.url("/images/naver-photo.jpg"));
+    }
+
+    @Test
+    @DisplayName("일반 사이트는 og:title, og:image 우선")
+    void openGraphTitleAndImage() {
+        // When
+        PageMetadataService.PageMetadata metadata = stack.metadataService().getMetadata(server.url("/tech/cloud"));
+
+        // Then
+        assertThat(metadata.getTitle()).isEqualTo("기업 클라우드 전환 가속, 하이브리드 전략이 대세");
+        assertThat(metadata.getImageUrl()).isEqualTo(server.url("/images/og-cover.png"));
+    }
+
+    @Test
+    @DisplayName("메타 태그가 없으면 title 태그(사이트명 제거), 그다음 h1과 첫 이미지 사용")
+    void fallbackTitleSources() {
+        // When
+        PageMetadataService.PageMetadata titleOnly = stack.metadataService().getMetadata(server.url("/factory/smart"));
+        PageMetadataService.PageMetadata h1Only = stack.metadataService().getMetadata(server.url("/finance/ai"));
+
+        // Then
+        assertThat(titleOnly.getTitle()).isEqualTo("스마트 팩토리 구축 사례");
+        assertThat(titleOnly.getImageUrl()).isNull();
+        assertThat(h1Only.getTitle()).isEqualTo("금융권 생성형 AI 도입 확대");
+        assertThat(h1Only.getImageUrl()).isEqualTo(server.url("/images/h1-photo.jpeg"));
+    }
+
+    @Test
+    @DisplayName("리다이렉트 체인을 따라가 최종 페이지에서 추출")
+    void redirectChain() {
+        // Given
+        server.redirectChain("/short/abc", 3, "/tech/cloud");
+
+        // When
+        PageMetadataService.PageMetadata metadata = stack.metadataService().getMetadata(server.url("/short/abc"));
+
+        // Then
+        assertThat(metadata.getTitle()).isEqualTo("기업 클라우드 전환 가속, 하이브리드 전략이 대세");
+        assertThat(server.requestCount("/short/abc/2")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 응답도 제한 시간 안이면 추출하고 지연 시간이 통계에 기록됨")
+    void slowResponse() {
+        // Given
+        server.slowHtml("/slow/article", "og-article.html", 300);
+
+        // When
+        PageMetadataService.PageMetadata metadata = stack.metadataService().getMetadata(server.url("/slow/article"));
+
+        // Then
+        assertThat(metadata.isFetched()).isTrue();
+        assertThat(stack.fetcher().getHostStats())
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.getMaxLatencyMs()).isGreaterThanOrEqualTo(300));
+    }
+
+    @Test
+    @DisplayName("헤더 이후 본문이 멈추면 본문 수신 제한 시간에 포기")
+    void slowResponse_StalledBodyGivesUp() {
+        // Given: 헤더는 즉시, 본문은 200ms마다 8바이트 (전체 수신에 약 15초)
+        server.tricklingHtml("/slow/trickle", "og-article.html", 200);
+        ReflectionTestUtils.setField(stack.fetcher(), "bodyTimeoutMs", 500L);
+
+        // When
+        long startedAt = System.nanoTime();
+        PageMetadataService.PageMetadata metadata = stack.metadataService().getMetadata(server.url("/slow/trickle"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertThat(metadata.isFetched()).isFalse();
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(500).isLessThan(3_000);
+    }
+
+    @Test
+    @DisplayName("거대한 HTML은 최대 크기까지만 읽고 head의 제목은 추출")
+    void hugeHtmlBody() {
+        // Given: 약 20MB 본문
+        server.hugeHtml("/huge/article", "거대한 본문 기사 제목", 20 * 1024 * 1024);
+
+        // When
+        PageMetadataService.PageMetadata metadata = stack.metadataService().getMetadata(server.url("/huge/article"));
+
+        // Then
+        assertThat(metadata.isFetched()).isTrue();
+        assertThat(metadata.getTitle()).isEqualTo("거대한 본문 기사 제목");
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 조건부 요청(304)으로 캐시된 본문 재사용")
+    void conditionalRequest() throws IOException {
+        // When
+        Document first = stack.fetcher().fetchDocument(server.url("/tech/cloud"));
+        Document second = stack.fetcher().fetchDocument(server.url("/tech/cloud"));
+
+        // Then
+        assertThat(second.title()).isEqualTo(first.title());
+        assertThat(server.requestCount("/tech/cloud")).isEqualTo(2);
+        assertThat(stack.fetcher().getHostStats())
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.getNotModified()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("호스트 요청 속도 제한은 빈 메타데이터(실패)가 아니라 예외로 전달")
+    void hostThrottledPropagates() {
+        // Given: 호스트당 토큰 1개
+        ReflectionTestUtils.setField(stack.fetcher(), "hostRatePerSec", 0.001);
+        ReflectionTestUtils.setField(stack.fetcher(), "hostBurst", 1);
+        stack.metadataService().getMetadata(server.url("/tech/cloud"));
+
+        // When & Then
+        assertThatThrownBy(() -> stack.metadataService().getMetadata(server.url("/factory/smart")))
+                .isInstanceOf(WebPageFetcher.HostThrottledException.class);
+        assertThatThrownBy(() -> stack.thumbnailService().extractAndSaveThumbnail(server.url("/finance/ai"), 1L))
+                .isInstanceOf(WebPageFetcher.HostThrottledException.class);
+    }
+
+    @Test
+    @DisplayName("호스트 상태는 TTL 안에서는 robots.txt를 한 번만 읽고, 지나면 다시 읽음")
+    void hostStateRefreshesRobotsAfterTtl() {
+        // Given: Crawl-delay 준수
+        server.bytes("/robots.txt", "text/plain", "User-agent: *\nCrawl-delay: 0.001\n".getBytes());
+        ReflectionTestUtils.setField(stack.fetcher(), "respectCrawlDelay", true);
+        stack.metadataService().getMetadata(server.url("/tech/cloud"));
+        stack.metadataService().getMetadata(server.url("/factory/smart"));
+        assertThat(server.requestCount("/robots.txt")).isEqualTo(1);
+
+        // When: TTL 만료
+        ReflectionTestUtils.setField(stack.fetcher(), "hostStateTtlMs", 0L);
+        stack.metadataService().getMetadata(server.url("/finance/ai"));
+
+        // Then: robots.txt를 다시 읽고, 호스트 통계는 이어서 유지
+        assertThat(server.requestCount("/robots.txt")).isEqualTo(2);
+        assertThat(stack.fetcher().getHostStats())
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.getRequests()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("썸네일은 고정 폭 JPEG 변형으로 저장")
+    void thumbnailVariants() {
+        // When
+        NewsThumbnailService.ThumbnailResult result =
+                stack.thumbnailService().extractAndSaveThumbnail(server.url("/tech/cloud"), 1L);
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getSourceUrl()).isEqualTo(server.url("/images/og-cover.png"));
+        assertThat(result.getFilePath()).endsWith("_640w.jpg");
+        assertThat(thumbnailDir.resolve(result.getFilePath().substring(result.getFilePath().indexOf('/') + 1)))
+                .exists();
+    }
+
+    @Test
+    @DisplayName("크기를 알리지 않는 거대한 이미지는 다운로드 도중 중단하고 임시 파일을 남기지 않음")
+    void hugeImageRejected() throws IOException {
+        // Given: 대표 이미지가 12MB chunked 응답 (최대 10MB)
+        server.html("/huge/image", "huge-image-article.html")
+                .hugeBytes("/images/huge.jpg", "image/jpeg", 12L * 1024 * 1024);
+
+        // When
+        NewsThumbnailService.ThumbnailResult result =
+                stack.thumbnailService().extractAndSaveThumbnail(server.url("/huge/image"), 1L);
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        try (Stream<Path> files = Files.list(thumbnailDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("WebP 이미지도 고정 폭 JPEG로 변환하고 원본은 저장하지 않음")
+    void webpConvertedToJpeg() throws IOException {
+        // Given: 1x1 무손실 WebP
+        server.html("/webp/article", "webp-image-article.html")
+                .bytes("/images/cover.webp", "image/webp", LOSSLESS_WEBP);
+
+        // When
+        NewsThumbnailService.ThumbnailResult result =
+                stack.thumbnailService().extractAndSaveThumbnail(server.url("/webp/article"), 1L);
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getFilePath()).endsWith("_640w.jpg");
+        try (Stream<Path> files = Files.list(thumbnailDir)) {
+            assertThat(files).singleElement()
+                    .satisfies(file -> assertThat(file.getFileName().toString()).endsWith("_640w.jpg"));
+        }
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 WebP는 원본을 저장하지 않고 썸네일 없이 실패")
+    void undecodableWebpRejected() throws IOException {
+        // Given: WebP 헤더만 맞고 내용은 손상된 이미지
+        byte[] corrupt = new byte[64];
+        System.arraycopy("RIFF".getBytes(), 0, corrupt, 0, 4);
+        System.arraycopy("WEBPVP8 ".getBytes(), 0, corrupt, 8, 8);
+        server.html("/webp/article", "webp-image-article.html")
+                .bytes("/images/cover.webp", "image/webp", corrupt);
+
+        // When
+        NewsThumbnailService.ThumbnailResult result =
+                stack.thumbnailService().extractAndSaveThumbnail(server.url("/webp/article"), 1L);
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.isRetryable()).isFalse();
+        try (Stream<Path> files = Files.list(thumbnailDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static byte[] image(String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,92 @@
+package com.sk.growthnav.api.news.service;
+
+import com.sk.growthnav.api.file.service.FileMemoryCache;
+import com.sk.growthnav.api.news.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ThumbnailStorageService 테스트")
+class ThumbnailStorageServiceTest {
+
+    private static final long GRACE_MS = 60_000L;
+    private static final String HASH = "abc123";
+
+    @TempDir
+    Path pvcDir;
+
+    private NewsRepository newsRepository;
+    private ThumbnailStorageService storageService;
+    private Path primary;
+    private Path original;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        newsRepository = mock(NewsRepository.class);
+        storageService = new ThumbnailStorageService(newsRepository, mock(FileMemoryCache.class));
+        ReflectionTestUtils.setField(storageService, "pvcBasePath", pvcDir.toString());
+        ReflectionTestUtils.setField(storageService, "gcGraceMs", GRACE_MS);
+
+        Path thumbnailDir = storageService.thumbnailDir();
+        primary = Files.writeString(thumbnailDir.resolve(HASH + "_640w.jpg"), "jpeg");
+        original = Files.writeString(thumbnailDir.resolve(HASH + ".webp"), "webp");
+        age(primary);
+        age(original);
+    }
+
+    @Test
+    @DisplayName("재사용한 썸네일은 수정 시각이 갱신되어 참조가 없어도 유예 시간 동안 삭제되지 않음")
+    void reusedThumbnailSurvivesRelease() {
+        // Given: 기존 파일을 새 뉴스가 재사용 (아직 커밋 전이라 참조 수 0)
+        String path = storageService.toRelativePath(primary.getFileName().toString());
+        given(newsRepository.countByThumbnailPath(path)).willReturn(0L);
+        given(newsRepository.findAllThumbnailPaths()).willReturn(List.of());
+
+        // When
+        boolean reused = storageService.reuseIfExists(path);
+        storageService.releaseAfterCommit(path);
+        storageService.sweep();
+
+        // Then
+        assertThat(reused).isTrue();
+        assertThat(primary).exists();
+        assertThat(original).exists();
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 참조 없는 썸네일은 모든 변형을 삭제")
+    void staleUnreferencedThumbnailDeleted() {
+        // Given
+        String path = storageService.toRelativePath(primary.getFileName().toString());
+        given(newsRepository.countByThumbnailPath(path)).willReturn(0L);
+
+        // When
+        storageService.releaseAfterCommit(path);
+
+        // Then
+        assertThat(primary).doesNotExist();
+        assertThat(original).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("없는 파일은 재사용하지 않음")
+    void missingFileNotReused() {
+        assertThat(storageService.reuseIfExists(storageService.toRelativePath("missing_640w.jpg"))).isFalse();
+    }
+
+    private static void age(Path file) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - GRACE_MS * 2));
+    }
+}
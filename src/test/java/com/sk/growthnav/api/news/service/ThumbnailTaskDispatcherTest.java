@@ -0,0 +1,97 @@
+package com.sk.growthnav.api.news.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ThumbnailTaskDispatcher 테스트")
+class ThumbnailTaskDispatcherTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private ThumbnailTaskDispatcher dispatcher;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        dispatcher = new ThumbnailTaskDispatcher(executor, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "perHostConcurrency", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("호스트 허용량이 없으면 풀 스레드를 기다리게 하지 않고 바로 보류, 다른 호스트는 그대로 실행")
+    void hostLimit_DefersWithoutBlockingWorkers() {
+        // Given: a.example.com 작업 하나가 실행 중
+        CompletableFuture<String> running = dispatcher.submit("https://a.example.com/1", this::blockUntilReleased);
+
+        // When
+        CompletableFuture<String> sameHost = dispatcher.submit("https://a.example.com/2", () -> "a2");
+        CompletableFuture<String> otherHost = dispatcher.submit("https://b.example.com/1", () -> "b1");
+
+        // Then
+        assertThat(sameHost).isCompletedExceptionally();
+        assertThatThrownBy(sameHost::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ThumbnailTaskDispatcher.ThumbnailDeferredException.class);
+        assertThat(otherHost.orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("b1");
+
+        release.countDown();
+        assertThat(running.orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("done");
+    }
+
+    @Test
+    @DisplayName("작업이 끝나거나 풀이 거부하면 호스트 허용량을 반환하고 유휴 호스트는 맵에서 제거")
+    void hostEntries_EvictedWhenIdle() {
+        // Given: 풀 스레드 2개를 모두 사용 중
+        CompletableFuture<String> first = dispatcher.submit("https://a.example.com/1", this::blockUntilReleased);
+        CompletableFuture<String> second = dispatcher.submit("https://b.example.com/1", this::blockUntilReleased);
+
+        // When: 풀 포화로 거부된 c.example.com은 허용량을 바로 반환
+        CompletableFuture<String> rejected = dispatcher.submit("https://c.example.com/1", () -> "c1");
+
+        // Then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(dispatcher.activeHostCount()).isEqualTo(2);
+        assertThat(dispatcher.tryAcquire("c.example.com")).isTrue();
+        dispatcher.release("c.example.com");
+
+        release.countDown();
+        first.orTimeout(5, TimeUnit.SECONDS).join();
+        second.orTimeout(5, TimeUnit.SECONDS).join();
+        assertThat(dispatcher.activeHostCount()).isZero();
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
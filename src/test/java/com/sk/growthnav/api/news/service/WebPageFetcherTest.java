@@ -0,0 +1,59 @@
+package com.sk.growthnav.api.news.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebPageFetcher 테스트")
+class WebPageFetcherTest {
+
+    @Test
+    @DisplayName("robots.txt에서 User-agent: * 그룹의 Crawl-delay만 읽음")
+    void parseCrawlDelay_WildcardGroup() {
+        // Given
+        String robots = """
+                User-agent: Googlebot
+                Crawl-delay: 1
+
+                User-agent: Yeti
+                User-agent: *
+                Disallow: /private  # 주석
+                Crawl-delay: 5
+                """;
+
+        // When & Then
+        assertThat(WebPageFetcher.parseCrawlDelay(robots)).isEqualTo(5.0);
+        assertThat(WebPageFetcher.parseCrawlDelay("User-agent: *\nDisallow: /")).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 버킷은 버킷 크기만큼 즉시 허용하고 이후에는 기다리지 않고 거절")
+    void tokenBucket_BurstThenReject() {
+        // Given: 버킷 2개, 초당 1개
+        WebPageFetcher.TokenBucket bucket = new WebPageFetcher.TokenBucket(2, 1.0);
+
+        // When & Then
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 토큰을 예약하지 않아 채워지면 다시 허용")
+    void tokenBucket_RejectDoesNotReserve() throws InterruptedException {
+        // Given: 버킷 1개, 초당 20개 (50ms마다 1개)
+        WebPageFetcher.TokenBucket bucket = new WebPageFetcher.TokenBucket(1, 20.0);
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        // When
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        // Then
+        assertThat(bucket.tryAcquire()).isTrue();
+    }
+}
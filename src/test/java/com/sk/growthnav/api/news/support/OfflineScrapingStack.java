@@ -0,0 +1,80 @@
+package com.sk.growthnav.api.news.support;
+
+import com.sk.growthnav.api.news.service.MetadataSelectorPlan;
+import com.sk.growthnav.api.news.service.NewsThumbnailService;
+import com.sk.growthnav.api.news.service.PageMetadataService;
+import com.sk.growthnav.api.news.service.ThumbnailImageProcessor;
+import com.sk.growthnav.api.news.service.ThumbnailStorageService;
+import com.sk.growthnav.api.news.service.TitleExtractorService;
+import com.sk.growthnav.api.news.service.WebPageFetcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 스프링 컨텍스트 없이 조립한 스크래핑 구성 (StubWebServer와 함께 사용)
+ * 호스트별 속도 제한은 사실상 해제하고, 썸네일은 임시 디렉토리에 저장한다.
+ */
+public class OfflineScrapingStack {
+
+    private final WebPageFetcher fetcher;
+    private final MetadataSelectorPlan selectorPlan;
+    private final TitleExtractorService titleExtractorService;
+    private final PageMetadataService metadataService;
+    private final NewsThumbnailService thumbnailService;
+
+    public OfflineScrapingStack(Path thumbnailDir) {
+        fetcher = new WebPageFetcher(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(fetcher, "hostRatePerSec", 100_000.0);
+        ReflectionTestUtils.setField(fetcher, "hostBurst", 100_000);
+        ReflectionTestUtils.setField(fetcher, "maxHosts", 100);
+        ReflectionTestUtils.setField(fetcher, "hostStateTtlMs", 3_600_000L);
+        ReflectionTestUtils.setField(fetcher, "bodyTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(fetcher, "respectCrawlDelay", false);
+        ReflectionTestUtils.setField(fetcher, "cacheMaxEntries", 1_000);
+
+        selectorPlan = new MetadataSelectorPlan("");
+        titleExtractorService = new TitleExtractorService(selectorPlan);
+        metadataService = new PageMetadataService(titleExtractorService, selectorPlan, fetcher);
+        // 메타데이터 캐시는 비활성화 (매 호출마다 실제 요청/파싱 경로를 거치도록)
+        ReflectionTestUtils.setField(metadataService, "cacheTtlMs", -1L);
+        ReflectionTestUtils.setField(metadataService, "cacheMaxSize", 1);
+
+        ThumbnailStorageService storageService = mock(ThumbnailStorageService.class);
+        try {
+            given(storageService.thumbnailDir()).willReturn(thumbnailDir);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        given(storageService.findExistingBySourceUrl(anyString())).willReturn(Optional.empty());
+        given(storageService.toRelativePath(anyString()))
+                .willAnswer(invocation -> ThumbnailStorageService.THUMBNAIL_DIR + "/" + invocation.getArgument(0));
+
+        thumbnailService = new NewsThumbnailService(metadataService, new ThumbnailImageProcessor(),
+                storageService, fetcher);
+        ReflectionTestUtils.setField(thumbnailService, "baseUrl", "http://localhost:8080");
+    }
+
+    public WebPageFetcher fetcher() {
+        return fetcher;
+    }
+
+    public TitleExtractorService titleExtractorService() {
+        return titleExtractorService;
+    }
+
+    public PageMetadataService metadataService() {
+        return metadataService;
+    }
+
+    public NewsThumbnailService thumbnailService() {
+        return thumbnailService;
+    }
+}
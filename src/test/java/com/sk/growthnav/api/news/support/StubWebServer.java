@@ -0,0 +1,243 @@
+package com.sk.growthnav.api.news.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 스크래핑 테스트용 로컬 HTTP 서버 (JDK 내장 HttpServer, 네트워크 접근 없음)
+ * - 녹화된 HTML 픽스처(classpath:fixtures/news)와 이미지 응답 (픽스처의 {{BASE_URL}}은 서버 주소로 치환)
+ * - 느린 응답, 거대한 본문, 리다이렉트 체인 시나리오
+ * - ETag 조건부 요청(304)과 gzip 응답
+ * 경로별 요청 수를 세어 캐시/재시도 동작을 검증할 수 있다.
+ */
+public class StubWebServer implements AutoCloseable {
+
+    private static final String FIXTURE_ROOT = "fixtures/news/";
+    private static final String BASE_URL_PLACEHOLDER = "{{BASE_URL}}";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+    public StubWebServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        executor = Executors.newFixedThreadPool(8);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    public int requestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    // ===== 시나리오 등록 =====
+
+    /**
+     * 녹화된 HTML 픽스처 (ETag 포함, gzip 요청 시 압축)
+     */
+    public StubWebServer html(String path, String fixtureName) {
+        byte[] body = readFixture(fixtureName, url(""));
+        String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+        return handle(path, exchange -> {
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.getResponseHeaders().set("ETag", etag);
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("ETag", etag);
+            send(exchange, 200, "text/html; charset=UTF-8", body);
+        });
+    }
+
+    /**
+     * 임의 바이트 응답 (이미지 등)
+     */
+    public StubWebServer bytes(String path, String contentType, byte[] body) {
+        return handle(path, exchange -> send(exchange, 200, contentType, body));
+    }
+
+    /**
+     * 본문 없이 상태 코드만 보내는 응답 (404, 503 등)
+     */
+    public StubWebServer status(String path, int statusCode) {
+        return handle(path, exchange -> exchange.sendResponseHeaders(statusCode, -1));
+    }
+
+    /**
+     * 응답 전 delayMs만큼 지연되는 HTML 픽스처
+     */
+    public StubWebServer slowHtml(String path, String fixtureName, long delayMs) {
+        byte[] body = readFixture(fixtureName, url(""));
+        return handle(path, exchange -> {
+            sleep(delayMs);
+            send(exchange, 200, "text/html; charset=UTF-8", body);
+        });
+    }
+
+    /**
+     * 헤더는 바로 보내고 본문은 intervalMs마다 8바이트씩 흘려 보내는 HTML 픽스처 (chunked 전송)
+     */
+    public StubWebServer tricklingHtml(String path, String fixtureName, long intervalMs) {
+        byte[] body = readFixture(fixtureName, url(""));
+        return handle(path, exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int offset = 0; offset < body.length && !Thread.currentThread().isInterrupted(); offset += 8) {
+                    out.write(body, offset, Math.min(8, body.length - offset));
+                    out.flush();
+                    sleep(intervalMs);
+                }
+            } catch (IOException e) {
+                // 클라이언트가 제한 시간에 요청을 취소하면 연결이 끊길 수 있음
+            }
+        });
+    }
+
+    /**
+     * head에 og:title을 두고 본문을 bodyBytes까지 채운 거대한 HTML (chunked 전송)
+     */
+    public StubWebServer hugeHtml(String path, String title, int bodyBytes) {
+        String head = "<html><head><meta property=\"og:title\" content=\"" + title + "\"></head><body>";
+        return handle(path, exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(head.getBytes(StandardCharsets.UTF_8));
+                byte[] filler = "<p>filler filler filler filler filler filler filler filler</p>\n".getBytes(StandardCharsets.UTF_8);
+                for (int written = 0; written < bodyBytes; written += filler.length) {
+                    out.write(filler);
+                }
+                out.write("</body></html>".getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                // 클라이언트가 최대 크기에서 읽기를 중단하면 연결이 끊길 수 있음
+            }
+        });
+    }
+
+    /**
+     * 크기를 알리지 않고(chunked) size 바이트를 보내는 응답
+     */
+    public StubWebServer hugeBytes(String path, String contentType, long size) {
+        return handle(path, exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                byte[] chunk = new byte[64 * 1024];
+                for (long written = 0; written < size; written += chunk.length) {
+                    out.write(chunk);
+                }
+            } catch (IOException e) {
+                // 클라이언트가 최대 크기에서 읽기를 중단하면 연결이 끊길 수 있음
+            }
+        });
+    }
+
+    /**
+     * path -> path/1 -> ... -> target 으로 이어지는 hops단계 리다이렉트 체인
+     */
+    public StubWebServer redirectChain(String path, int hops, String targetPath) {
+        for (int i = 0; i < hops; i++) {
+            String from = i == 0 ? path : path + "/" + i;
+            String to = i == hops - 1 ? targetPath : path + "/" + (i + 1);
+            handle(from, exchange -> {
+                exchange.getResponseHeaders().set("Location", url(to));
+                exchange.sendResponseHeaders(302, -1);
+            });
+        }
+        return this;
+    }
+
+    private StubWebServer handle(String path, HttpHandler handler) {
+        server.createContext(path, exchange -> {
+            try {
+                // createContext는 접두사 일치이므로 정확히 일치하는 경로만 처리
+                String requestPath = exchange.getRequestURI().getPath();
+                requestCounts.computeIfAbsent(requestPath, key -> new AtomicInteger()).incrementAndGet();
+                if (!requestPath.equals(path)) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                handler.handle(exchange);
+            } finally {
+                exchange.close();
+            }
+        });
+        return this;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip") && contentType.startsWith("text/")) {
+            body = gzip(body);
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] readFixture(String fixtureName, String baseUrl) {
+        try (InputStream in = StubWebServer.class.getClassLoader().getResourceAsStream(FIXTURE_ROOT + fixtureName)) {
+            if (in == null) {
+                throw new IllegalArgumentException("픽스처가 없습니다: " + fixtureName);
+            }
+            String html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return html.replace(BASE_URL_PLACEHOLDER, baseUrl).getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -82,14 +82,15 @@ class ProjectServiceTest {
         Long memberId = 1L;
         List<Project> mockProjects = createMockProjects(memberId);
 
-        given(projectRepository.findByMemberId(memberId))
-                .willReturn(mockProjects);
-
-        // 각 프로젝트별 스킬 Mock 설정
-        given(skillService.getSkillNamesByProject(1L))
-                .willReturn(Arrays.asList("Java", "Spring Boot", "PostgreSQL"));
-        given(skillService.getSkillNamesByProject(2L))
-                .willReturn(Arrays.asList("Python", "Django"));
+        // 프로젝트-스킬 조인 결과 Mock 설정 (단일 쿼리)
+        given(projectRepository.findProjectSkillRowsByMemberId(memberId))
+                .willReturn(Arrays.asList(
+                        new Object[]{mockProjects.get(0), "Java"},
+                        new Object[]{mockProjects.get(0), "Spring Boot"},
+                        new Object[]{mockProjects.get(0), "PostgreSQL"},
+                        new Object[]{mockProjects.get(1), "Python"},
+                        new Object[]{mockProjects.get(1), "Django"}
+                ));
 
         // When
         List<ProjectInfoDTO> result = projectService.getProjectsByMember(memberId);
@@ -118,9 +119,8 @@ class ProjectServiceTest {
         assertThat(secondProject.getEndDate()).isNull(); // 진행중인 프로젝트
         assertThat(secondProject.getSkills()).containsExactly("Python", "Django");
 
-        then(projectRepository).should(times(1)).findByMemberId(memberId);
-        then(skillService).should(times(1)).getSkillNamesByProject(1L);
-        then(skillService).should(times(1)).getSkillNamesByProject(2L);
+        then(projectRepository).should(times(1)).findProjectSkillRowsByMemberId(memberId);
+        then(skillService).shouldHaveNoInteractions();
     }
 
     @Test
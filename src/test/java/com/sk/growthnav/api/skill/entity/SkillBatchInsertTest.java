@@ -0,0 +1,111 @@
+package com.sk.growthnav.api.skill.entity;
+
+import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.project.entity.Project;
+import com.sk.growthnav.api.project.entity.ProjectScale;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스(pooled-lo) 키 + hibernate.jdbc.batch_size 설정으로 여러 건 INSERT가 묶여 전송되는지 검증
+ * (application.yaml의 JPA 설정과 같은 값으로 H2 메모리 DB에 SessionFactory만 구성)
+ */
+@DisplayName("스킬 배치 INSERT 테스트")
+class SkillBatchInsertTest {
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:skill-batch;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .addAnnotatedClass(Member.class)
+                .addAnnotatedClass(Project.class)
+                .addAnnotatedClass(Skill.class)
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    @DisplayName("스킬 20개 저장은 시퀀스 조회 1회 + 배치 INSERT 1회")
+    void skillsAreBatched() {
+        // Given
+        Project project = sessionFactory.fromTransaction(session -> {
+            Member member = Member.builder()
+                    .name("배치 테스트")
+                    .email("batch@test.com")
+                    .password("password")
+                    .build();
+            session.persist(member);
+            Project saved = Project.create("배치 프로젝트", "백엔드", "금융", ProjectScale.SMALL,
+                    LocalDateTime.now().minusMonths(3), LocalDateTime.now(), member);
+            session.persist(saved);
+            return saved;
+        });
+        statistics.clear();
+
+        // When
+        List<Skill> skills = sessionFactory.fromTransaction(session -> {
+            List<Skill> created = IntStream.range(0, 20)
+                    .mapToObj(i -> Skill.builder().name("skill-" + i).project(project).build())
+                    .toList();
+            created.forEach(session::persist);
+            return created;
+        });
+
+        // Then: IDENTITY였다면 INSERT 20회
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(skills).extracting(Skill::getId).doesNotHaveDuplicates().doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("할당 블록 안에서는 시퀀스를 다시 조회하지 않음")
+    void sequenceBlockIsReused() {
+        // Given
+        sessionFactory.inTransaction(session -> session.persist(Member.builder()
+                .name("첫 회원")
+                .email("first@test.com")
+                .password("password")
+                .build()));
+        statistics.clear();
+
+        // When: 같은 블록(50개) 안의 키로 10명 추가
+        sessionFactory.inTransaction(session -> IntStream.range(0, 10)
+                .forEach(i -> session.persist(Member.builder()
+                        .name("회원" + i)
+                        .email("member" + i + "@test.com")
+                        .password("password")
+                        .build())));
+
+        // Then: 배치 INSERT 1회만 실행
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,137 @@
+package com.sk.growthnav.api.skill.service;
+
+import com.sk.growthnav.api.skill.entity.Skill;
+import com.sk.growthnav.api.skill.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SkillAutocompleteIndex 테스트")
+class SkillAutocompleteIndexTest {
+
+    @Mock
+    private SkillDictionary skillDictionary;
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @InjectMocks
+    private SkillAutocompleteIndex skillAutocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(skillDictionary.keys()).willReturn(Map.of(
+                "java", 1,
+                "javascript", 2,
+                "spring boot", 3,
+                "springboot", 3,
+                "kubernetes", 4,
+                "k8s", 4));
+        lenient().when(skillDictionary.nameOf(anyInt())).thenAnswer(invocation -> switch ((int) invocation.getArgument(0)) {
+            case 1 -> "Java";
+            case 2 -> "JavaScript";
+            case 3 -> "Spring Boot";
+            case 4 -> "Kubernetes";
+            case 5 -> "Spring Batch";
+            default -> null;
+        });
+        given(skillRepository.countByCatalogId()).willReturn(List.of(count(1, 3), count(2, 7)));
+        skillAutocompleteIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("접두사가 같은 스킬은 사용 횟수 내림차순으로 반환")
+    void suggest_RankedByUsage() {
+        // When
+        List<SkillAutocompleteIndex.Suggestion> result = skillAutocompleteIndex.suggest(" JA", 10);
+
+        // Then
+        assertThat(result).extracting(SkillAutocompleteIndex.Suggestion::getName)
+                .containsExactly("JavaScript", "Java");
+        assertThat(result).extracting(SkillAutocompleteIndex.Suggestion::getUsageCount)
+                .containsExactly(7, 3);
+    }
+
+    @Test
+    @DisplayName("별칭과 중간 단어로도 찾고, 같은 스킬은 한 번만 반환")
+    void suggest_AliasAndInnerWord() {
+        // When & Then
+        assertThat(skillAutocompleteIndex.suggest("k8", 10))
+                .extracting(SkillAutocompleteIndex.Suggestion::getName).containsExactly("Kubernetes");
+        assertThat(skillAutocompleteIndex.suggest("boot", 10))
+                .extracting(SkillAutocompleteIndex.Suggestion::getName).containsExactly("Spring Boot");
+        assertThat(skillAutocompleteIndex.suggest("spring", 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 추가된 스킬은 즉시 인덱스와 사용 횟수에 반영")
+    void recordAdded_InsertsNewTerm() {
+        // Given
+        Skill skill = Skill.builder().name("Spring Batch").catalogId(5).build();
+
+        // When
+        skillAutocompleteIndex.recordAdded(List.of(skill, skill));
+
+        // Then
+        assertThat(skillAutocompleteIndex.suggest("spring", 10))
+                .extracting(SkillAutocompleteIndex.Suggestion::getName)
+                .containsExactly("Spring Batch", "Spring Boot");
+        assertThat(skillAutocompleteIndex.suggest("batch", 1))
+                .singleElement()
+                .satisfies(suggestion -> assertThat(suggestion.getUsageCount()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("재구성 중 커밋된 스킬 추가는 새 사용 횟수에 반영되어 사라지지 않음")
+    void rebuild_ConcurrentAddNotLost() {
+        // Given: 재구성이 사용 횟수를 조회하는 동안 다른 스레드에서 스킬 추가 커밋
+        Skill skill = Skill.builder().name("Java").catalogId(1).build();
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[1];
+        given(skillRepository.countByCatalogId()).willAnswer(invocation -> {
+            pending[0] = CompletableFuture.runAsync(() -> skillAutocompleteIndex.recordAdded(List.of(skill)));
+            try {
+                pending[0].get(200, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ignored) {
+                // 재구성이 끝날 때까지 기다리는 것이 정상
+            }
+            return List.of(count(1, 3));
+        });
+
+        // When
+        skillAutocompleteIndex.rebuild();
+        pending[0].join();
+
+        // Then
+        assertThat(skillAutocompleteIndex.suggest("java", 1))
+                .singleElement()
+                .satisfies(suggestion -> assertThat(suggestion.getUsageCount()).isEqualTo(4));
+    }
+
+    private static SkillRepository.CatalogCountView count(int catalogId, long usageCount) {
+        return new SkillRepository.CatalogCountView() {
+            @Override
+            public Integer getCatalogId() {
+                return catalogId;
+            }
+
+            @Override
+            public Long getUsageCount() {
+                return usageCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,198 @@
+package com.sk.growthnav.api.skill.service;
+
+import com.sk.growthnav.api.member.entity.MemberLevel;
+import com.sk.growthnav.api.skill.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SkillCooccurrenceIndex 테스트")
+class SkillCooccurrenceIndexTest {
+
+    private static final int JAVA = 1;
+    private static final int SPRING = 2;
+    private static final int REACT = 3;
+    private static final int K8S = 4;
+
+    @Mock
+    private SkillDictionary skillDictionary;
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @InjectMocks
+    private SkillCooccurrenceIndex skillCooccurrenceIndex;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(skillDictionary.nameOf(anyInt())).thenAnswer(invocation -> switch ((int) invocation.getArgument(0)) {
+            case JAVA -> "Java";
+            case SPRING -> "Spring Boot";
+            case REACT -> "React";
+            case K8S -> "Kubernetes";
+            default -> null;
+        });
+    }
+
+    @Test
+    @DisplayName("함께 쓰인 프로젝트 수 순으로 반환하고, 비율은 기준 스킬을 쓴 프로젝트 대비")
+    void related_RankedByPairCount() {
+        // Given
+        given(skillRepository.findAllProjectSkills()).willReturn(rows(
+                row(1L, MemberLevel.CL1, JAVA), row(1L, MemberLevel.CL1, SPRING),
+                row(2L, MemberLevel.CL1, JAVA), row(2L, MemberLevel.CL1, SPRING), row(2L, MemberLevel.CL1, REACT),
+                row(3L, MemberLevel.CL2, JAVA), row(3L, MemberLevel.CL2, K8S)));
+
+        // When
+        skillCooccurrenceIndex.rebuild();
+
+        // Then
+        assertThat(skillCooccurrenceIndex.related(JAVA, null, 10))
+                .extracting(SkillCooccurrenceIndex.Recommendation::getName,
+                        SkillCooccurrenceIndex.Recommendation::getProjectCount,
+                        SkillCooccurrenceIndex.Recommendation::getPercent)
+                .containsExactly(tuple("Spring Boot", 2, 67), tuple("Kubernetes", 1, 33), tuple("React", 1, 33));
+        assertThat(skillCooccurrenceIndex.related(JAVA, MemberLevel.CL2, 10))
+                .extracting(SkillCooccurrenceIndex.Recommendation::getName)
+                .containsExactly("Kubernetes");
+    }
+
+    @Test
+    @DisplayName("등급 대표 스킬은 이미 보유한 스킬을 제외")
+    void typicalFor_ExcludesOwned() {
+        // Given
+        skillCooccurrenceIndex.recordProject(MemberLevel.CL2, List.of(), List.of(JAVA, SPRING));
+        skillCooccurrenceIndex.recordProject(MemberLevel.CL2, List.of(), List.of(SPRING, K8S));
+
+        // When
+        List<SkillCooccurrenceIndex.Recommendation> result =
+                skillCooccurrenceIndex.typicalFor(MemberLevel.CL2, List.of(JAVA), 10);
+
+        // Then
+        assertThat(result)
+                .extracting(SkillCooccurrenceIndex.Recommendation::getName,
+                        SkillCooccurrenceIndex.Recommendation::getPercent)
+                .containsExactly(tuple("Spring Boot", 100), tuple("Kubernetes", 50));
+        assertThat(skillCooccurrenceIndex.typicalFor(MemberLevel.CL3, List.of(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로젝트 스킬 교체/삭제를 반영한 결과가 전체 재구성 결과와 같음")
+    void recordProject_MatchesRebuild() {
+        // Given: 무작위 프로젝트를 만들고 일부는 교체, 일부는 삭제
+        Random random = new Random(42);
+        List<List<Integer>> projects = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            List<Integer> ids = randomSkills(random);
+            projects.add(ids);
+            skillCooccurrenceIndex.recordProject(MemberLevel.CL1, List.of(), ids);
+        }
+        for (int i = 0; i < projects.size(); i += 3) {
+            List<Integer> replaced = randomSkills(random);
+            skillCooccurrenceIndex.recordProject(MemberLevel.CL1, projects.get(i), replaced);
+            projects.set(i, replaced);
+        }
+        for (int i = 1; i < projects.size(); i += 5) {
+            skillCooccurrenceIndex.recordProject(MemberLevel.CL1, projects.get(i), List.of());
+            projects.set(i, List.of());
+        }
+        List<List<SkillCooccurrenceIndex.Recommendation>> incremental = snapshot();
+
+        // When
+        List<SkillRepository.ProjectSkillView> rows = new ArrayList<>();
+        for (int i = 0; i < projects.size(); i++) {
+            for (Integer catalogId : projects.get(i)) {
+                rows.add(row((long) i, MemberLevel.CL1, catalogId));
+            }
+        }
+        given(skillRepository.findAllProjectSkills()).willReturn(rows);
+        skillCooccurrenceIndex.rebuild();
+
+        // Then
+        assertThat(snapshot()).usingRecursiveComparison().isEqualTo(incremental);
+    }
+
+    @Test
+    @DisplayName("재구성 중 커밋된 프로젝트 스킬 변경은 새 그래프에 반영되어 사라지지 않음")
+    void rebuild_ConcurrentRecordNotLost() {
+        // Given: 재구성이 프로젝트 스킬을 조회하는 동안 다른 스레드에서 새 프로젝트 커밋
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[1];
+        given(skillRepository.findAllProjectSkills()).willAnswer(invocation -> {
+            pending[0] = CompletableFuture.runAsync(() ->
+                    skillCooccurrenceIndex.recordProject(MemberLevel.CL1, List.of(), List.of(JAVA, K8S)));
+            try {
+                pending[0].get(200, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ignored) {
+                // 재구성이 끝날 때까지 기다리는 것이 정상
+            }
+            return rows(row(1L, MemberLevel.CL1, JAVA), row(1L, MemberLevel.CL1, SPRING));
+        });
+
+        // When
+        skillCooccurrenceIndex.rebuild();
+        pending[0].join();
+
+        // Then
+        assertThat(skillCooccurrenceIndex.related(JAVA, MemberLevel.CL1, 10))
+                .extracting(SkillCooccurrenceIndex.Recommendation::getName,
+                        SkillCooccurrenceIndex.Recommendation::getProjectCount)
+                .containsExactly(tuple("Kubernetes", 1), tuple("Spring Boot", 1));
+    }
+
+    private List<List<SkillCooccurrenceIndex.Recommendation>> snapshot() {
+        List<List<SkillCooccurrenceIndex.Recommendation>> result = new ArrayList<>();
+        for (int catalogId = JAVA; catalogId <= K8S; catalogId++) {
+            result.add(skillCooccurrenceIndex.related(catalogId, MemberLevel.CL1, 10));
+        }
+        result.add(skillCooccurrenceIndex.typicalFor(MemberLevel.CL1, List.of(), 10));
+        return result;
+    }
+
+    private static List<Integer> randomSkills(Random random) {
+        List<Integer> ids = new ArrayList<>();
+        for (int catalogId = JAVA; catalogId <= K8S; catalogId++) {
+            if (random.nextBoolean()) {
+                ids.add(catalogId);
+            }
+        }
+        return ids;
+    }
+
+    private static List<SkillRepository.ProjectSkillView> rows(SkillRepository.ProjectSkillView... rows) {
+        return List.of(rows);
+    }
+
+    private static SkillRepository.ProjectSkillView row(Long projectId, MemberLevel level, Integer catalogId) {
+        return new SkillRepository.ProjectSkillView() {
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public MemberLevel getLevel() {
+                return level;
+            }
+
+            @Override
+            public Integer getCatalogId() {
+                return catalogId;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.sk.growthnav.api.skill.service;
+
+import com.sk.growthnav.api.skill.repository.SkillCatalogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SkillDictionary 테스트")
+class SkillDictionaryTest {
+
+    @Mock
+    private SkillCatalogRepository catalogRepository;
+
+    @Mock
+    private SkillCatalogService catalogService;
+
+    @InjectMocks
+    private SkillDictionary skillDictionary;
+
+    @Test
+    @DisplayName("병합된 항목의 표기는 병합 대상 ID로 연결되고 목록에서는 빠짐")
+    void reload_MergedEntryRedirectsToTarget() {
+        // Given: "JS"(2)가 JavaScript(1)로 병합됨
+        given(catalogRepository.findAllEntries()).willReturn(List.of(
+                entry(1, "JavaScript", "javascript", null),
+                entry(2, "JS", "js", 1)));
+        given(catalogRepository.findAllAliases()).willReturn(List.of(alias("es6", 1)));
+
+        // When
+        skillDictionary.reload();
+
+        // Then
+        assertThat(skillDictionary.idOf("JS")).isEqualTo(1);
+        assertThat(skillDictionary.idOf("ES6")).isEqualTo(1);
+        assertThat(skillDictionary.nameOf(2)).isNull();
+        assertThat(skillDictionary.entries()).extracting(SkillDictionary.Entry::getId).containsExactly(1);
+        assertThat(skillDictionary.resolveIds(List.of("js"))).containsEntry("js", 1);
+    }
+
+    @Test
+    @DisplayName("적재할 때마다 병합된 ID로 남은 프로젝트 스킬을 병합 대상으로 옮김")
+    void reload_ReassignsDanglingSkills() {
+        // Given
+        given(catalogRepository.findAllEntries()).willReturn(List.of(
+                entry(1, "JavaScript", "javascript", null),
+                entry(2, "JS", "js", 1),
+                entry(3, "Javascript ES", "javascript es", 1)));
+        given(catalogRepository.findAllAliases()).willReturn(List.of());
+
+        // When
+        skillDictionary.reload();
+
+        // Then
+        then(catalogService).should().reassignMergedSkills(Set.of(2, 3));
+    }
+
+    private static SkillCatalogRepository.EntryView entry(int id, String name, String key, Integer mergedIntoId) {
+        return new SkillCatalogRepository.EntryView() {
+            @Override
+            public Integer getCatalogId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getSkillKey() {
+                return key;
+            }
+
+            @Override
+            public Integer getMergedIntoId() {
+                return mergedIntoId;
+            }
+        };
+    }
+
+    private static SkillCatalogRepository.KeyView alias(String key, int catalogId) {
+        return new SkillCatalogRepository.KeyView() {
+            @Override
+            public String getSkillKey() {
+                return key;
+            }
+
+            @Override
+            public Integer getCatalogId() {
+                return catalogId;
+            }
+        };
+    }
+}
@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +29,15 @@ class SkillServiceTest {
     @Mock
     private SkillRepository skillRepository;
 
+    @Mock
+    private SkillDictionary skillDictionary;
+
+    @Mock
+    private SkillAutocompleteIndex skillAutocompleteIndex;
+
+    @Mock
+    private SkillCooccurrenceIndex skillCooccurrenceIndex;
+
     @InjectMocks
     private SkillService skillService;
 
@@ -174,6 +184,106 @@ class SkillServiceTest {
         then(skillRepository).should(times(1)).existsByProjectId(projectId);
     }
 
+    @Test
+    @DisplayName("스킬 교체 시 대소문자를 무시하고 추가/삭제 대상만 반영")
+    void replaceSkills_AppliesDiff() {
+        // Given
+        Project project = createMockProject(1L, "테스트 프로젝트");
+        given(skillDictionary.resolveIds(any())).willReturn(Map.of());
+        given(skillRepository.findNamesByProjectId(1L))
+                .willReturn(List.of("Java", "Spring Boot", "Docker"));
+
+        // When
+        SkillService.SkillDiff diff = skillService.replaceSkills(project,
+                Arrays.asList("Java", "spring boot", "Kafka", "kafka ", " "));
+
+        // Then
+        assertThat(diff.getSkills()).containsExactly("Java", "spring boot", "Kafka");
+        assertThat(diff.getAdded()).containsExactly("spring boot", "Kafka");
+        assertThat(diff.getRemoved()).containsExactly("Spring Boot", "Docker");
+
+        then(skillRepository).should(times(1)).deleteByProjectIdAndNameIn(1L, List.of("Spring Boot", "Docker"));
+        then(skillRepository).should(times(1)).saveAllAndFlush(argThat((List<Skill> skills) ->
+                skills.stream().map(Skill::getName).toList().equals(List.of("spring boot", "Kafka"))));
+    }
+
+    @Test
+    @DisplayName("스킬 목록이 같으면 DELETE/INSERT를 실행하지 않음")
+    void replaceSkills_NoChanges() {
+        // Given
+        Project project = createMockProject(1L, "테스트 프로젝트");
+        given(skillDictionary.resolveIds(any())).willReturn(Map.of());
+        given(skillRepository.findNamesByProjectId(1L))
+                .willReturn(List.of("Java", "Spring Boot"));
+
+        // When
+        SkillService.SkillDiff diff = skillService.replaceSkills(project, List.of("Spring Boot", "Java"));
+
+        // Then
+        assertThat(diff.getAdded()).isEmpty();
+        assertThat(diff.getRemoved()).isEmpty();
+        then(skillRepository).should(never()).deleteByProjectIdAndNameIn(any(), any());
+        then(skillRepository).should(never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("별칭으로 같은 표준 스킬을 가리키는 이름은 하나만 저장하고 사전 ID를 지정")
+    void createSkills_DedupesAliases() {
+        // Given
+        Project project = createMockProject(1L, "테스트 프로젝트");
+        given(skillDictionary.resolveIds(any()))
+                .willReturn(Map.of("javascript", 3, "js", 3, "java", 1));
+        given(skillRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<String> result = skillService.createSkills(project, List.of("JavaScript", "JS", "JAVA ", "java"));
+
+        // Then
+        assertThat(result).containsExactly("JavaScript", "JAVA");
+        then(skillRepository).should().saveAll(argThat((List<Skill> skills) ->
+                skills.stream().map(Skill::getCatalogId).toList().equals(List.of(3, 1))));
+    }
+
+    @Test
+    @DisplayName("프로젝트에 이미 있는 표준 스킬을 별칭으로 추가하면 실패")
+    void addSkillToProject_DuplicateByCatalogId() {
+        // Given: 프로젝트에 JavaScript(3)가 있음
+        Project project = createMockProject(1L, "테스트 프로젝트");
+        given(skillDictionary.resolveIds(List.of("JS"))).willReturn(Map.of("js", 3));
+        given(skillRepository.findCatalogIdsByProjectId(1L)).willReturn(List.of(1, 3));
+
+        // When & Then
+        assertThatThrownBy(() -> skillService.addSkillToProject(project, "JS"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 존재하는 스킬입니다");
+        then(skillRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다른 표준 스킬이면 사전 ID와 함께 추가")
+    void addSkillToProject_Success() {
+        // Given
+        Project project = createMockProject(1L, "테스트 프로젝트");
+        given(skillDictionary.resolveIds(List.of("Kotlin"))).willReturn(Map.of("kotlin", 7));
+        given(skillRepository.findCatalogIdsByProjectId(1L)).willReturn(List.of(1, 3));
+        given(skillRepository.existsByProjectIdAndNameIgnoreCase(1L, "Kotlin")).willReturn(false);
+        given(skillRepository.save(any(Skill.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        String result = skillService.addSkillToProject(project, "Kotlin");
+
+        // Then
+        assertThat(result).isEqualTo("Kotlin");
+        then(skillRepository).should().save(argThat(skill -> skill.getCatalogId() == 7));
+    }
+
+    @Test
+    @DisplayName("사전 비교 키는 대소문자와 연속 공백을 무시")
+    void dictionaryKey() {
+        assertThat(SkillDictionary.key("  Spring   Boot ")).isEqualTo("spring boot");
+        assertThat(SkillDictionary.key("JAVA")).isEqualTo(SkillDictionary.key("java"));
+    }
+
     // === Helper Methods ===
 
     private Project createMockProject(Long id, String name) {
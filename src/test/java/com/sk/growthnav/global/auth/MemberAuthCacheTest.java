@@ -0,0 +1,119 @@
+package com.sk.growthnav.global.auth;
+
+import com.sk.growthnav.api.member.entity.Member;
+import com.sk.growthnav.api.member.entity.MemberRole;
+import com.sk.growthnav.api.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("MemberAuthCache 테스트")
+class MemberAuthCacheTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private MemberRepository memberRepository;
+    private MemberAuthCache podA;
+    private MemberAuthCache podB;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        podA = cache(60_000L, 100);
+        podB = cache(60_000L, 100);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 DB를 다시 조회하지 않고, evict 후에는 새 역할을 조회")
+    void evictReloadsOnSamePod() {
+        // Given
+        Member member = member(MEMBER_ID, MemberRole.USER);
+        given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
+        podA.get(MEMBER_ID);
+        podA.get(MEMBER_ID);
+
+        // When
+        member.changeRole(MemberRole.ADMIN, null);
+        podA.evict(MEMBER_ID);
+
+        // Then
+        assertThat(podA.get(MEMBER_ID).isAdmin()).isTrue();
+        then(memberRepository).should(times(2)).findById(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("evict는 호출한 파드에서만 무효화되어 다른 파드는 TTL 동안 이전 역할을 반환")
+    void evictIsPodLocal() {
+        // Given
+        Member member = member(MEMBER_ID, MemberRole.ADMIN);
+        given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
+        podA.get(MEMBER_ID);
+        podB.get(MEMBER_ID);
+
+        // When: 파드 A에서 역할 변경
+        member.changeRole(MemberRole.USER, null);
+        podA.evict(MEMBER_ID);
+
+        // Then
+        assertThat(podA.get(MEMBER_ID).isAdmin()).isFalse();
+        assertThat(podB.get(MEMBER_ID).isAdmin()).isTrue();
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 조회하여 다른 파드의 변경이 반영됨")
+    void expiredEntryReloaded() {
+        // Given
+        MemberAuthCache expired = cache(-1L, 100);
+        Member member = member(MEMBER_ID, MemberRole.ADMIN);
+        given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
+        expired.get(MEMBER_ID);
+
+        // When
+        member.changeRole(MemberRole.USER, null);
+
+        // Then
+        assertThat(expired.get(MEMBER_ID).isAdmin()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 회원부터 제거")
+    void leastRecentlyUsedEvicted() {
+        // Given
+        MemberAuthCache small = cache(60_000L, 2);
+        for (long id = 1; id <= 3; id++) {
+            given(memberRepository.findById(id)).willReturn(Optional.of(member(id, MemberRole.USER)));
+        }
+        small.get(1L);
+        small.get(2L);
+        small.get(1L);
+
+        // When
+        small.get(3L);
+        small.get(1L);
+        small.get(2L);
+
+        // Then
+        then(memberRepository).should(times(1)).findById(1L);
+        then(memberRepository).should(times(2)).findById(2L);
+    }
+
+    private MemberAuthCache cache(long ttlMs, int maxSize) {
+        MemberAuthCache cache = new MemberAuthCache(memberRepository);
+        ReflectionTestUtils.setField(cache, "ttlMs", ttlMs);
+        ReflectionTestUtils.setField(cache, "maxSize", maxSize);
+        return cache;
+    }
+
+    private static Member member(Long id, MemberRole role) {
+        return Member.builder().id(id).name("회원" + id).role(role).build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.sk.growthnav.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedLruMap 테스트")
+class BoundedLruMapTest {
+
+    @Test
+    @DisplayName("항목 수 한도를 넘으면 가장 오래 사용되지 않은 항목을 제거")
+    void evictsLeastRecentlyUsed() {
+        // Given
+        BoundedLruMap<String, Integer> map = BoundedLruMap.ofMaxEntries(4, () -> 2);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.get("a");
+
+        // When
+        map.put("c", 3);
+
+        // Then
+        assertThat(map.get("a")).isEqualTo(1);
+        assertThat(map.get("b")).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무게 한도는 교체/삭제를 반영하고 제거될 때마다 콜백 호출")
+    void tracksWeight() {
+        // Given
+        AtomicInteger evictions = new AtomicInteger();
+        BoundedLruMap<String, byte[]> map = BoundedLruMap.ofMaxWeight(4, () -> 10, value -> value.length,
+                evictions::incrementAndGet);
+        map.put("a", new byte[4]);
+        map.put("b", new byte[4]);
+
+        // When
+        map.put("a", new byte[2]);
+        map.remove("b");
+        map.put("c", new byte[6]);
+        map.put("d", new byte[3]);
+
+        // Then
+        assertThat(map.weight()).isEqualTo(9);
+        assertThat(map.get("a")).isNull();
+        assertThat(evictions).hasValue(1);
+    }
+}